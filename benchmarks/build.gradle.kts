@@ -0,0 +1,25 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.0"
+}
+
+dependencies {
+    jmh(rootProject)
+}
+
+jmh {
+    jmhVersion.set("1.36")
+    benchmarkMode.set(listOf("thrpt"))
+    // Reports the allocated bytes per operation (`gc.alloc.rate.norm`)
+    profilers.add("gc")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+}
+
+// The benchmarks are only for local measurements and must not be published
+tasks.withType<AbstractPublishToMaven>().configureEach {
+    enabled = false
+}
+tasks.withType<Sign>().configureEach {
+    enabled = false
+}
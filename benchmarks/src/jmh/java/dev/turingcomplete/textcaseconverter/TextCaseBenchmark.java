@@ -0,0 +1,124 @@
+package dev.turingcomplete.textcaseconverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@code convert*()} methods of all
+ * {@link StandardTextCases#ALL_STANDARD_TEXT_CASES}.
+ *
+ * <p>The {@link #convertFrom()} benchmark uses the benchmarked
+ * {@link TextCase} as the target and {@link #convertTo()} as the origin. The
+ * respective counterpart is always {@link #REFERENCE_TEXT_CASE}.
+ *
+ * <p>Run the benchmarks with {@code ./gradlew :benchmarks:jmh}. The allocated
+ * bytes per operation get reported as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TextCaseBenchmark {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final TextCase REFERENCE_TEXT_CASE = StandardTextCases.SNAKE_CASE;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    @Param({
+            "STRICT_CAMEL_CASE",
+            "SOFT_CAMEL_CASE",
+            "KEBAB_CASE",
+            "SNAKE_CASE",
+            "SCREAMING_SNAKE_CASE",
+            "TRAIN_CASE",
+            "COBOL_CASE",
+            "PASCAL_CASE",
+            "PASCAL_SNAKE_CASE",
+            "CAMEL_SNAKE_CASE",
+            "LOWER_CASE",
+            "UPPER_CASE",
+            "INVERTED_CASE",
+            "ALTERNATING_CASE",
+            "DOT_CASE"
+    })
+    private String textCaseName;
+
+    @Param
+    private Input input;
+
+    private TextCase textCase;
+    private List<String> words;
+    private String spacesText;
+    private String referenceText;
+    private String textCaseText;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        textCase = (TextCase) StandardTextCases.class.getField(textCaseName).get(null);
+        words = input.words;
+        spacesText = String.join(" ", words);
+        referenceText = REFERENCE_TEXT_CASE.convert(words);
+        textCaseText = textCase.convert(words);
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Benchmark
+    public String convertWords() {
+        return textCase.convert(words);
+    }
+
+    @Benchmark
+    public String convertTextWithWordsSplitter() {
+        return textCase.convert(spacesText, StandardWordsSplitters.SPACES);
+    }
+
+    @Benchmark
+    public String convertFrom() {
+        return textCase.convertFrom(REFERENCE_TEXT_CASE, referenceText);
+    }
+
+    @Benchmark
+    public String convertTo() {
+        return textCase.convertTo(REFERENCE_TEXT_CASE, textCaseText);
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    public enum Input {
+        /**
+         * A typical short identifier, like a field name.
+         */
+        SHORT(List.of("user", "id")),
+
+        /**
+         * A long identifier, like a generated method or constant name.
+         */
+        LONG(List.of("customer", "billing", "address", "postal", "code", "validation", "error", "message",
+                     "template", "identifier", "with", "sql", "fallback")),
+
+        /**
+         * An identifier containing non-ASCII characters.
+         */
+        NON_ASCII(List.of("größe", "überschrift", "çalışma", "ελληνικά", "éclair"));
+
+        private final List<String> words;
+
+        Input(List<String> words) {
+            this.words = words;
+        }
+
+        List<String> words() {
+            return words;
+        }
+    }
+}
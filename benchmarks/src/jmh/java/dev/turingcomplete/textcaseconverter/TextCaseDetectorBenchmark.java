@@ -0,0 +1,59 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter.TextCaseBenchmark.Input;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link TextCaseDetector} in comparison to splitting a text
+ * with the {@link WordsSplitter} of every {@link TextCase}.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TextCaseDetectorBenchmark {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final TextCaseDetector TEXT_CASE_DETECTOR = new TextCaseDetector();
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    @Param({"STRICT_CAMEL_CASE", "SNAKE_CASE", "TRAIN_CASE"})
+    private String textCaseName;
+
+    @Param
+    private Input input;
+
+    private String text;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        var textCase = (TextCase) StandardTextCases.class.getField(textCaseName).get(null);
+        text = textCase.convert(input.words());
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Benchmark
+    public Object detect() {
+        return TEXT_CASE_DETECTOR.detect(text);
+    }
+
+    @Benchmark
+    public void splitWithAllWordsSplitters(Blackhole blackhole) {
+        for (TextCase textCase : StandardTextCases.ALL_STANDARD_TEXT_CASES) {
+            blackhole.consume(textCase.wordsSplitter().split(text));
+        }
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
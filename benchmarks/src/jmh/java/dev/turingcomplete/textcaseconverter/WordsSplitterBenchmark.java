@@ -0,0 +1,82 @@
+package dev.turingcomplete.textcaseconverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the delimiter based {@link StandardWordsSplitters} on texts of
+ * different lengths, in comparison to {@link String#split(String)}.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WordsSplitterBenchmark {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    @Param({"SPACES", "DASH", "UNDERSCORE", "DOT"})
+    private String wordsSplitterName;
+
+    @Param({"64", "4096", "65536"})
+    private int textLength;
+
+    private WordsSplitter wordsSplitter;
+    private String text;
+    private String delimiterRegex;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        wordsSplitter = (WordsSplitter) StandardWordsSplitters.class.getField(wordsSplitterName).get(null);
+        String delimiter = switch (wordsSplitterName) {
+            case "SPACES" -> " ";
+            case "DASH" -> "-";
+            case "UNDERSCORE" -> "_";
+            default -> ".";
+        };
+        delimiterRegex = wordsSplitterName.equals("SPACES") ? "\\s" : Pattern.quote(delimiter);
+
+        // Words with 2 to 12 lower case letters
+        var random = new Random(42);
+        var textBuilder = new StringBuilder(textLength);
+        while (textBuilder.length() < textLength) {
+            if (textBuilder.length() > 0) {
+                textBuilder.append(delimiter);
+            }
+            int wordLength = 2 + random.nextInt(11);
+            for (int i = 0; i < wordLength; i++) {
+                textBuilder.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        text = textBuilder.toString();
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Benchmark
+    public List<String> split() {
+        return wordsSplitter.split(text);
+    }
+
+    @Benchmark
+    public int[] splitToSpans() {
+        return wordsSplitter.splitToSpans(text);
+    }
+
+    @Benchmark
+    public String[] stringSplit() {
+        return text.split(delimiterRegex);
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
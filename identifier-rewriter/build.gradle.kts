@@ -0,0 +1,13 @@
+plugins {
+    application
+}
+
+dependencies {
+    implementation(rootProject)
+}
+
+application {
+    mainClass.set("dev.turingcomplete.textcaseconverter.rewriter.IdentifierRewriterTool")
+}
+
+publishing.publications.getByName<MavenPublication>(project.name).pom.name.set("Text Case Converter - Identifier Rewriter")
@@ -0,0 +1,584 @@
+package dev.turingcomplete.textcaseconverter.rewriter;
+
+import dev.turingcomplete.textcaseconverter.TextCase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Rewrites all identifiers in a text, a file or a directory tree, which are in
+ * a source {@link TextCase}, into a target {@link TextCase}.
+ *
+ * <p>An identifier is a maximal sequence of ASCII letters, digits, underscores
+ * and the ASCII punctuation characters of the
+ * {@link TextCase#joinDelimiter()} of the source {@link TextCase} (for
+ * example, {@code -} for {@code KEBAB_CASE}), which does not start with a
+ * digit, and which does not start or end with such a punctuation character.
+ * It is in the source {@link TextCase} if it consists of at least two words
+ * of letters and digits according to the {@link TextCase#wordsSplitter()} of
+ * the source {@link TextCase}, and if it remains the same when its words get
+ * converted into the source {@link TextCase}. Single words, like keywords,
+ * never get rewritten, since they would match almost any {@link TextCase}.
+ * All other characters are kept unchanged.
+ *
+ * <p>Non-ASCII characters are treated like letters when finding the
+ * boundaries of an identifier, so that an identifier like
+ * {@code my\u00c4pfelCount} stays whole, instead of getting its ASCII parts
+ * rewritten on their own. Such an identifier never gets rewritten.
+ *
+ * <p>Files are read as UTF-8 (or any other ASCII-compatible encoding), through
+ * memory-mapped chunks, without decoding them as a whole. The chunks get
+ * rewritten in parallel on the {@link Builder#executor(Executor, int)}, and are
+ * written into the target file in their order. The end of a chunk is moved
+ * forward to the end of the identifier it would otherwise cut, so that no
+ * identifier gets split across chunks. Only a bounded number of chunks are
+ * held in memory at once, which allows rewriting files larger than the memory.
+ * The files of a directory tree get rewritten by a pool of
+ * {@link Builder#filesParallelism(int)} worker threads.
+ *
+ * <p>An instance is immutable and thread-safe.
+ */
+public final class IdentifierRewriter {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+    private static final int CHUNK_END_SCAN_BUFFER_SIZE = 4096;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final TextCase sourceTextCase;
+    private final TextCase targetTextCase;
+    private final boolean[] asciiIdentifierCharacters;
+    private final int chunkSize;
+    private final Executor executor;
+    private final int maxPendingChunks;
+    private final int filesParallelism;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    private IdentifierRewriter(Builder builder) {
+        sourceTextCase = builder.sourceTextCase;
+        targetTextCase = builder.targetTextCase;
+        chunkSize = builder.chunkSize;
+        executor = builder.executor;
+        maxPendingChunks = 2 * builder.parallelism;
+        filesParallelism = builder.filesParallelism;
+
+        asciiIdentifierCharacters = new boolean[128];
+        for (char character = 0; character < asciiIdentifierCharacters.length; character++) {
+            asciiIdentifierCharacters[character] = Character.isLetterOrDigit(character) || character == '_';
+        }
+        String joinDelimiter = sourceTextCase.joinDelimiter();
+        for (int i = 0; i < joinDelimiter.length(); i++) {
+            char character = joinDelimiter.charAt(i);
+            if (character < asciiIdentifierCharacters.length && character > ' ' && character != 0x7F) {
+                asciiIdentifierCharacters[character] = true;
+            }
+        }
+    }
+
+    /**
+     * Creates a new {@link Builder} for an {@link IdentifierRewriter}.
+     *
+     * @return a new {@link Builder}; never null.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Rewrites all identifiers of the given {@code text}.
+     *
+     * @param text the text to rewrite; never null.
+     * @return the rewritten text; never null.
+     */
+    public String rewrite(String text) {
+        requireNonNull(text);
+
+        ByteBuffer input = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        RewrittenChunk rewrittenChunk = rewriteChunk(input);
+        return new String(rewrittenChunk.bytes(), 0, rewrittenChunk.length(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Rewrites all identifiers of the given {@code sourceFile} and writes the
+     * result into the given {@code targetFile}.
+     *
+     * <p>If both are the same file, the file gets rewritten in place: the
+     * result is written into a temporary file in the same directory, which
+     * replaces the file afterward. If no identifier was rewritten, the file
+     * remains untouched.
+     *
+     * @param sourceFile the file to rewrite; never null.
+     * @param targetFile the file to write the result into. An existing file
+     *                   gets overwritten; never null.
+     * @return the number of rewritten identifiers.
+     * @throws IOException if reading or writing a file failed.
+     */
+    public long rewriteFile(Path sourceFile, Path targetFile) throws IOException {
+        requireNonNull(sourceFile);
+        requireNonNull(targetFile);
+
+        boolean inPlace = Files.exists(targetFile) && Files.isSameFile(sourceFile, targetFile);
+        Path outputFile = inPlace ? createTemporaryFile(targetFile) : targetFile;
+        long rewrittenCount;
+        try {
+            try (var input = FileChannel.open(sourceFile, StandardOpenOption.READ);
+                 var output = FileChannel.open(outputFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                rewrittenCount = rewrite(input, output);
+            }
+
+            if (inPlace) {
+                if (rewrittenCount > 0) {
+                    Files.move(outputFile, targetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } else {
+                    Files.delete(outputFile);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            if (inPlace) {
+                Files.deleteIfExists(outputFile);
+            }
+            throw e;
+        }
+        return rewrittenCount;
+    }
+
+    /**
+     * Rewrites all identifiers of all regular files in the given
+     * {@code directory} and its subdirectories in place.
+     *
+     * @param directory   the root directory; never null.
+     * @param pathMatcher the {@link PathMatcher} that selects the files to
+     *                    rewrite, by their path relative to the
+     *                    {@code directory}; never null. For example,
+     *                    {@code FileSystems.getDefault().getPathMatcher("glob:**.java")}.
+     * @return the {@link DirectoryRewriteResult}; never null.
+     * @throws IOException if walking the {@code directory}, reading or writing
+     *                     a file failed. Files rewritten before the failure
+     *                     remain rewritten.
+     * @see #rewriteFile(Path, Path)
+     */
+    public DirectoryRewriteResult rewriteDirectory(Path directory, PathMatcher pathMatcher) throws IOException {
+        requireNonNull(directory);
+        requireNonNull(pathMatcher);
+
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(Files::isRegularFile)
+                         .filter(file -> pathMatcher.matches(directory.relativize(file)))
+                         .toList();
+        }
+
+        ExecutorService filesExecutor = Executors.newFixedThreadPool(filesParallelism);
+        try {
+            var rewrittenCounts = new ArrayList<Future<Long>>(files.size());
+            for (Path file : files) {
+                rewrittenCounts.add(filesExecutor.submit(() -> rewriteFile(file, file)));
+            }
+
+            int changedFilesCount = 0;
+            long rewrittenIdentifiersCount = 0;
+            for (Future<Long> rewrittenCount : rewrittenCounts) {
+                long count = join(rewrittenCount);
+                if (count > 0) {
+                    changedFilesCount++;
+                    rewrittenIdentifiersCount += count;
+                }
+            }
+            return new DirectoryRewriteResult(files.size(), changedFilesCount, rewrittenIdentifiersCount);
+        } finally {
+            filesExecutor.shutdownNow();
+        }
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private long rewrite(FileChannel input, WritableByteChannel output) throws IOException {
+        long size = input.size();
+        var pendingChunks = new ArrayDeque<Future<RewrittenChunk>>(maxPendingChunks);
+        long position = 0;
+        long rewrittenCount = 0;
+        try {
+            while (position < size || !pendingChunks.isEmpty()) {
+                while (position < size && pendingChunks.size() < maxPendingChunks) {
+                    long start = position;
+                    long end = findChunkEnd(input, Math.min(size, start + chunkSize), size);
+                    pendingChunks.add(CompletableFuture.supplyAsync(() -> rewriteChunk(input, start, end), executor));
+                    position = end;
+                }
+
+                RewrittenChunk rewrittenChunk = join(pendingChunks.remove());
+                ByteBuffer bytes = ByteBuffer.wrap(rewrittenChunk.bytes(), 0, rewrittenChunk.length());
+                while (bytes.hasRemaining()) {
+                    output.write(bytes);
+                }
+                rewrittenCount += rewrittenChunk.rewrittenCount();
+            }
+        } finally {
+            for (Future<RewrittenChunk> pendingChunk : pendingChunks) {
+                pendingChunk.cancel(false);
+            }
+        }
+        return rewrittenCount;
+    }
+
+    /**
+     * Finds the first position at or after the given {@code tentativeEnd}
+     * which is not inside an identifier.
+     */
+    private long findChunkEnd(FileChannel input, long tentativeEnd, long size) throws IOException {
+        ByteBuffer scanBuffer = ByteBuffer.allocate(CHUNK_END_SCAN_BUFFER_SIZE);
+        long position = tentativeEnd;
+        while (position < size) {
+            scanBuffer.clear();
+            int readCount = input.read(scanBuffer, position);
+            if (readCount <= 0) {
+                return size;
+            }
+            for (int i = 0; i < readCount; i++) {
+                if (!isIdentifierByte(scanBuffer.get(i))) {
+                    return position + i;
+                }
+            }
+            position += readCount;
+        }
+        return size;
+    }
+
+    private RewrittenChunk rewriteChunk(FileChannel input, long start, long end) {
+        MappedByteBuffer chunk;
+        try {
+            chunk = input.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rewriteChunk(chunk);
+    }
+
+    private RewrittenChunk rewriteChunk(ByteBuffer chunk) {
+        int length = chunk.limit();
+        var output = new ByteArrayBuilder(length + (length >> 4));
+        var identifierBytes = new byte[64];
+        int unchangedStart = 0;
+        int rewrittenCount = 0;
+        int i = 0;
+        while (i < length) {
+            if (!isIdentifierByte(chunk.get(i))) {
+                i++;
+                continue;
+            }
+
+            int identifierStart = i;
+            while (i < length && isIdentifierByte(chunk.get(i))) {
+                i++;
+            }
+            // Leading and trailing delimiters (like the `--` of a CSS custom
+            // property) are not part of the identifier
+            int identifierEnd = i;
+            while (identifierStart < identifierEnd && isDelimiterByte(chunk.get(identifierStart))) {
+                identifierStart++;
+            }
+            while (identifierEnd > identifierStart && isDelimiterByte(chunk.get(identifierEnd - 1))) {
+                identifierEnd--;
+            }
+            int identifierLength = identifierEnd - identifierStart;
+            if (identifierLength == 0) {
+                continue;
+            }
+            if (identifierBytes.length < identifierLength) {
+                identifierBytes = new byte[Math.max(identifierLength, identifierBytes.length * 2)];
+            }
+            chunk.get(identifierStart, identifierBytes, 0, identifierLength);
+            String rewrittenIdentifier = rewriteIdentifier(identifierBytes, identifierLength);
+            if (rewrittenIdentifier != null) {
+                output.append(chunk, unchangedStart, identifierStart);
+                output.append(rewrittenIdentifier.getBytes(StandardCharsets.UTF_8));
+                unchangedStart = identifierEnd;
+                rewrittenCount++;
+            }
+        }
+        output.append(chunk, unchangedStart, length);
+        return new RewrittenChunk(output.bytes(), output.length(), rewrittenCount);
+    }
+
+    /**
+     * @return the identifier in the target {@link TextCase}; null if it is not
+     * in the source {@link TextCase} or does not change.
+     */
+    private String rewriteIdentifier(byte[] identifierBytes, int identifierLength) {
+        byte firstByte = identifierBytes[0];
+        if (firstByte >= '0' && firstByte <= '9') {
+            return null;
+        }
+
+        for (int i = 0; i < identifierLength; i++) {
+            if (identifierBytes[i] < 0) {
+                // Part of a non-ASCII UTF-8 character
+                return null;
+            }
+        }
+
+        var identifier = new String(identifierBytes, 0, identifierLength, StandardCharsets.ISO_8859_1);
+        int[] wordSpans = sourceTextCase.wordsSplitter().splitToSpans(identifier);
+        if (wordSpans.length < 4) {
+            return null;
+        }
+        // A word must consist only of letters and digits, otherwise, for
+        // example, the words "foo" and "_bar" of "foo_bar" in the soft camel
+        // case would get joined into "foo__bar" in the snake case
+        for (int i = 0; i < wordSpans.length; i += 2) {
+            for (int j = wordSpans[i]; j < wordSpans[i + 1]; j++) {
+                if (!Character.isLetterOrDigit(identifier.charAt(j))) {
+                    return null;
+                }
+            }
+        }
+        if (!sourceTextCase.convert(identifier, wordSpans, sourceTextCase.joinDelimiter()).equals(identifier)) {
+            return null;
+        }
+
+        String rewrittenIdentifier = targetTextCase.convert(identifier, wordSpans, targetTextCase.joinDelimiter());
+        return rewrittenIdentifier.equals(identifier) ? null : rewrittenIdentifier;
+    }
+
+    private boolean isIdentifierByte(byte value) {
+        // Negative values are parts of non-ASCII UTF-8 characters
+        return value < 0 || asciiIdentifierCharacters[value];
+    }
+
+    private static boolean isDelimiterByte(byte value) {
+        return value >= 0 && !Character.isLetterOrDigit(value) && value != '_';
+    }
+
+    private static Path createTemporaryFile(Path file) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        Path temporaryFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName() + ".", ".tmp");
+        PosixFileAttributeView sourceAttributes = Files.getFileAttributeView(absoluteFile, PosixFileAttributeView.class);
+        if (sourceAttributes != null) {
+            Files.getFileAttributeView(temporaryFile, PosixFileAttributeView.class)
+                 .setPermissions(sourceAttributes.readAttributes().permissions());
+        }
+        return temporaryFile;
+    }
+
+    private static <T> T join(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while rewriting", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException uncheckedIoException) {
+                throw uncheckedIoException.getCause();
+            }
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * The result of {@link #rewriteDirectory(Path, PathMatcher)}.
+     *
+     * @param filesCount                the number of files that matched the
+     *                                  {@link PathMatcher}.
+     * @param changedFilesCount         the number of files with at least one
+     *                                  rewritten identifier.
+     * @param rewrittenIdentifiersCount the number of rewritten identifiers in
+     *                                  all files.
+     */
+    public record DirectoryRewriteResult(int filesCount, int changedFilesCount, long rewrittenIdentifiersCount) {
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private record RewrittenChunk(byte[] bytes, int length, int rewrittenCount) {
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private static final class ByteArrayBuilder {
+
+        private byte[] bytes;
+        private int length = 0;
+
+        ByteArrayBuilder(int initialCapacity) {
+            bytes = new byte[Math.max(16, initialCapacity)];
+        }
+
+        void append(ByteBuffer source, int start, int end) {
+            int appendLength = end - start;
+            ensureCapacity(appendLength);
+            source.get(start, bytes, length, appendLength);
+            length += appendLength;
+        }
+
+        void append(byte[] source) {
+            ensureCapacity(source.length);
+            System.arraycopy(source, 0, bytes, length, source.length);
+            length += source.length;
+        }
+
+        byte[] bytes() {
+            return bytes;
+        }
+
+        int length() {
+            return length;
+        }
+
+        private void ensureCapacity(int appendLength) {
+            if (length + appendLength > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(length + appendLength, bytes.length + (bytes.length >> 1)));
+            }
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * A builder for an {@link IdentifierRewriter}.
+     */
+    public static final class Builder {
+
+        private TextCase sourceTextCase;
+        private TextCase targetTextCase;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private Executor executor = ForkJoinPool.commonPool();
+        private int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        private int filesParallelism = Runtime.getRuntime().availableProcessors();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the {@link TextCase} of the identifiers to rewrite. Must be set.
+         *
+         * @param sourceTextCase the source {@link TextCase}; never null.
+         * @return this {@link Builder}; never null.
+         */
+        public Builder sourceTextCase(TextCase sourceTextCase) {
+            this.sourceTextCase = requireNonNull(sourceTextCase);
+            return this;
+        }
+
+        /**
+         * Sets the {@link TextCase} into which the identifiers get rewritten.
+         * Must be set.
+         *
+         * @param targetTextCase the target {@link TextCase}; never null.
+         * @return this {@link Builder}; never null.
+         */
+        public Builder targetTextCase(TextCase targetTextCase) {
+            this.targetTextCase = requireNonNull(targetTextCase);
+            return this;
+        }
+
+        /**
+         * Sets the size in bytes of the chunks in which a file gets rewritten.
+         * A chunk gets extended to the end of its last identifier. The default
+         * is 8 MiB.
+         *
+         * @param chunkSize the chunk size; must be positive.
+         * @return this {@link Builder}; never null.
+         * @throws IllegalArgumentException if the {@code chunkSize} is not
+         *                                  positive.
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} which rewrites the chunks of a file. The
+         * default is the {@link ForkJoinPool#commonPool()}.
+         *
+         * <p>The thread that rewrites a file waits for its chunks, so the
+         * {@link Executor} must not be the one that calls
+         * {@link IdentifierRewriter#rewriteFile(Path, Path)}, if it has a bounded number of
+         * threads.
+         *
+         * @param executor    the {@link Executor}; never null.
+         * @param parallelism the number of chunks per file that should be
+         *                    rewritten at the same time, usually the number
+         *                    of threads of the {@code executor}. Twice as many
+         *                    chunks are held in memory; must be positive.
+         * @return this {@link Builder}; never null.
+         * @throws IllegalArgumentException if the {@code parallelism} is not
+         *                                  positive.
+         */
+        public Builder executor(Executor executor, int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+            }
+            this.executor = requireNonNull(executor);
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the number of files of a directory tree that get rewritten at
+         * the same time. The default is the number of available processors.
+         *
+         * @param filesParallelism the number of files; must be positive.
+         * @return this {@link Builder}; never null.
+         * @throws IllegalArgumentException if the {@code filesParallelism} is
+         *                                  not positive.
+         */
+        public Builder filesParallelism(int filesParallelism) {
+            if (filesParallelism <= 0) {
+                throw new IllegalArgumentException("Files parallelism must be positive: " + filesParallelism);
+            }
+            this.filesParallelism = filesParallelism;
+            return this;
+        }
+
+        /**
+         * Creates the {@link IdentifierRewriter}.
+         *
+         * @return a new {@link IdentifierRewriter}; never null.
+         * @throws IllegalStateException if no source or target {@link TextCase}
+         *                               was set.
+         */
+        public IdentifierRewriter build() {
+            if (sourceTextCase == null) {
+                throw new IllegalStateException("No source text case set");
+            }
+            if (targetTextCase == null) {
+                throw new IllegalStateException("No target text case set");
+            }
+            return new IdentifierRewriter(this);
+        }
+    }
+}
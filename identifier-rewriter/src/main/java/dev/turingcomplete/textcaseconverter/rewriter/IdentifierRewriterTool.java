@@ -0,0 +1,79 @@
+package dev.turingcomplete.textcaseconverter.rewriter;
+
+import dev.turingcomplete.textcaseconverter.TextCase;
+import dev.turingcomplete.textcaseconverter.TextCaseRegistry;
+import dev.turingcomplete.textcaseconverter.rewriter.IdentifierRewriter.DirectoryRewriteResult;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * A command line tool to rewrite identifiers in a file or a directory tree in
+ * place:
+ * <pre>{@code
+ * identifier-rewriter <source text case> <target text case> <file or directory> [<glob>]
+ * }</pre>
+ *
+ * <p>The text cases are given by their title, for example {@code soft-camel-case},
+ * see {@link TextCaseRegistry#withStandards()}. The optional glob selects the
+ * files of a directory tree by their relative path (for example,
+ * {@code **.java}), the default is all files.
+ */
+public final class IdentifierRewriterTool {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final String USAGE = "Usage: identifier-rewriter <source text case> <target text case> <file or directory> [<glob>]";
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    private IdentifierRewriterTool() {
+        throw new UnsupportedOperationException();
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Runs the tool, see the class documentation for the arguments.
+     *
+     * @param args the command line arguments; never null.
+     * @throws IOException if reading or writing a file fails.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        TextCaseRegistry textCaseRegistry = TextCaseRegistry.withStandards();
+        Optional<TextCase> sourceTextCase = textCaseRegistry.findTextCase(args[0]);
+        Optional<TextCase> targetTextCase = textCaseRegistry.findTextCase(args[1]);
+        if (sourceTextCase.isEmpty() || targetTextCase.isEmpty()) {
+            System.err.println("Unknown text case: " + (sourceTextCase.isEmpty() ? args[0] : args[1]));
+            System.exit(2);
+            return;
+        }
+
+        IdentifierRewriter identifierRewriter = IdentifierRewriter.builder()
+                                                                  .sourceTextCase(sourceTextCase.get())
+                                                                  .targetTextCase(targetTextCase.get())
+                                                                  .build();
+        Path path = Path.of(args[2]);
+        if (Files.isDirectory(path)) {
+            String glob = args.length == 4 ? args[3] : "**";
+            DirectoryRewriteResult result = identifierRewriter.rewriteDirectory(path, FileSystems.getDefault().getPathMatcher("glob:" + glob));
+            System.out.println("Rewrote " + result.rewrittenIdentifiersCount() + " identifiers in "
+                                       + result.changedFilesCount() + " of " + result.filesCount() + " files");
+        } else {
+            long rewrittenCount = identifierRewriter.rewriteFile(path, path);
+            System.out.println("Rewrote " + rewrittenCount + " identifiers");
+        }
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
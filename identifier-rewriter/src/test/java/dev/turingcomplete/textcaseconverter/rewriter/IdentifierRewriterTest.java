@@ -0,0 +1,148 @@
+package dev.turingcomplete.textcaseconverter.rewriter;
+
+import dev.turingcomplete.textcaseconverter.rewriter.IdentifierRewriter.DirectoryRewriteResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static dev.turingcomplete.textcaseconverter.StandardTextCases.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdentifierRewriterTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    @TempDir
+    Path tempDir;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "'int fooBar = barBaz(x);'|'int foo_bar = bar_baz(x);'",
+            "'public static final int MAX_VALUE;'|'public static final int MAX_VALUE;'",
+            "'FooBar.fooBar().getX()'|'FooBar.foo_bar().get_x()'",
+            "'foo_bar fooBar 1fooBar'|'foo_bar foo_bar 1fooBar'",
+            "'\u00e4fooBar \u00fcber'|'\u00e4fooBar \u00fcber'",
+            "'int my\u00c4pfelCount = fooBar\u00dcber();'|'int my\u00c4pfelCount = fooBar\u00dcber();'",
+            "'\u00bbfooBar\u00ab barBaz'|'\u00bbfooBar\u00ab bar_baz'",
+            "''|''"
+    })
+    void testRewriteCamelCaseToSnakeCase(String text, String expectedText) {
+        IdentifierRewriter identifierRewriter = IdentifierRewriter.builder()
+                                                                  .sourceTextCase(SOFT_CAMEL_CASE)
+                                                                  .targetTextCase(SNAKE_CASE)
+                                                                  .build();
+
+        assertThat(identifierRewriter.rewrite(text)).isEqualTo(expectedText);
+    }
+
+    @Test
+    void testRewriteKebabCase() {
+        IdentifierRewriter identifierRewriter = IdentifierRewriter.builder()
+                                                                  .sourceTextCase(KEBAB_CASE)
+                                                                  .targetTextCase(SCREAMING_SNAKE_CASE)
+                                                                  .build();
+
+        assertThat(identifierRewriter.rewrite("--foo-bar: var(--bar-baz); color: red"))
+                .isEqualTo("--FOO_BAR: var(--BAR_BAZ); color: red");
+    }
+
+    @Test
+    void testRewriteFileInSmallChunks() throws Exception {
+        var text = new StringBuilder();
+        var expectedText = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            text.append("valueOfField").append(i % 7).append(" = other").append("Value".repeat(i % 5)).append(";\n");
+            expectedText.append(SNAKE_CASE.convertFrom(SOFT_CAMEL_CASE, "valueOfField" + (i % 7)))
+                        .append(" = ")
+                        .append(SNAKE_CASE.convertFrom(SOFT_CAMEL_CASE, "other" + "Value".repeat(i % 5)))
+                        .append(";\n");
+        }
+        Path sourceFile = Files.writeString(tempDir.resolve("source.txt"), text);
+        Path targetFile = tempDir.resolve("target.txt");
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            IdentifierRewriter identifierRewriter = IdentifierRewriter.builder()
+                                                                      .sourceTextCase(SOFT_CAMEL_CASE)
+                                                                      .targetTextCase(SNAKE_CASE)
+                                                                      // Cuts through many identifiers
+                                                                      .chunkSize(37)
+                                                                      .executor(executorService, 4)
+                                                                      .build();
+
+            long rewrittenCount = identifierRewriter.rewriteFile(sourceFile, targetFile);
+
+            assertThat(Files.readString(targetFile)).isEqualTo(expectedText.toString());
+            assertThat(rewrittenCount).isEqualTo(10_000 + 8_000);
+            assertThat(Files.readString(sourceFile)).isEqualTo(text.toString());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void testRewriteFileInPlace() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("Foo.java"), "class Foo { int fooBar; }");
+        Path unchangedFile = Files.writeString(tempDir.resolve("Bar.java"), "class Bar { int foo; }");
+        IdentifierRewriter identifierRewriter = IdentifierRewriter.builder()
+                                                                  .sourceTextCase(SOFT_CAMEL_CASE)
+                                                                  .targetTextCase(SNAKE_CASE)
+                                                                  .build();
+
+        assertThat(identifierRewriter.rewriteFile(file, file)).isEqualTo(1);
+        assertThat(Files.readString(file)).isEqualTo("class Foo { int foo_bar; }");
+
+        long lastModifiedTime = Files.getLastModifiedTime(unchangedFile).toMillis();
+        assertThat(identifierRewriter.rewriteFile(unchangedFile, unchangedFile)).isEqualTo(0);
+        assertThat(Files.getLastModifiedTime(unchangedFile).toMillis()).isEqualTo(lastModifiedTime);
+
+        // No temporary files are left
+        try (var files = Files.list(tempDir)) {
+            assertThat(files.count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void testRewriteDirectory() throws Exception {
+        Path subDirectory = Files.createDirectories(tempDir.resolve("a").resolve("b"));
+        Path firstFile = Files.writeString(tempDir.resolve("First.java"), "fooBar();", StandardCharsets.UTF_8);
+        Path secondFile = Files.writeString(subDirectory.resolve("Second.java"), "barBaz(); bazQux();");
+        Path thirdFile = Files.writeString(subDirectory.resolve("Third.java"), "foo();");
+        Path ignoredFile = Files.writeString(subDirectory.resolve("Ignored.txt"), "fooBar();");
+        IdentifierRewriter identifierRewriter = IdentifierRewriter.builder()
+                                                                  .sourceTextCase(SOFT_CAMEL_CASE)
+                                                                  .targetTextCase(PASCAL_CASE)
+                                                                  .filesParallelism(2)
+                                                                  .build();
+
+        DirectoryRewriteResult result = identifierRewriter.rewriteDirectory(tempDir, FileSystems.getDefault().getPathMatcher("glob:**.java"));
+
+        assertThat(result).isEqualTo(new DirectoryRewriteResult(3, 2, 3));
+        assertThat(Files.readString(firstFile)).isEqualTo("FooBar();");
+        assertThat(Files.readString(secondFile)).isEqualTo("BarBaz(); BazQux();");
+        assertThat(Files.readString(thirdFile)).isEqualTo("foo();");
+        assertThat(Files.readString(ignoredFile)).isEqualTo("fooBar();");
+    }
+
+    @Test
+    void testInvalidBuilder() {
+        assertThatThrownBy(() -> IdentifierRewriter.builder().targetTextCase(SNAKE_CASE).build()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> IdentifierRewriter.builder().sourceTextCase(SNAKE_CASE).build()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> IdentifierRewriter.builder().chunkSize(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
@@ -19,5 +19,108 @@ fun String.toTextCase(
     targetWordsDelimiter: String = textCase.joinDelimiter()
 ): String = textCase.convert(originWordsSplitter.split(this), targetWordsDelimiter)
 
+/**
+ * Lazily converts each [String] of [this] [Sequence] to the given [textCase].
+ *
+ * Unlike calling [String.toTextCase] for each element, the words of an
+ * element are not collected into a [List] first, and all elements of one
+ * iteration get converted into the same reused buffer. Each iteration of the
+ * returned [Sequence] iterates [this] [Sequence] again.
+ *
+ * @param textCase the target [TextCase].
+ * @param originWordsSplitter the [WordsSplitter] to split each [String] into
+ * separated words. The default is [StandardWordsSplitters.SPACES].
+ * @param targetWordsDelimiter the delimiter with that the words of each
+ * [String] will be joined together. The default is the
+ * [TextCase.joinDelimiter] of the given [textCase].
+ */
+fun Sequence<String>.toTextCase(
+    textCase: TextCase,
+    originWordsSplitter: WordsSplitter = StandardWordsSplitters.SPACES,
+    targetWordsDelimiter: String = textCase.joinDelimiter()
+): Sequence<String> {
+    val texts = this
+    return Sequence {
+        val converter = ReusingBufferConverter(textCase, originWordsSplitter, targetWordsDelimiter)
+        val iterator = texts.iterator()
+        object : Iterator<String> {
+            override fun hasNext(): Boolean = iterator.hasNext()
+
+            override fun next(): String = converter.convert(iterator.next())
+        }
+    }
+}
+
+/**
+ * Converts each [String] of [this] [Iterable] to the given [textCase].
+ *
+ * Unlike calling [String.toTextCase] for each element, the words of an
+ * element are not collected into a [List] first, and all elements get
+ * converted into the same reused buffer.
+ *
+ * @param textCase the target [TextCase].
+ * @param originWordsSplitter the [WordsSplitter] to split each [String] into
+ * separated words. The default is [StandardWordsSplitters.SPACES].
+ * @param targetWordsDelimiter the delimiter with that the words of each
+ * [String] will be joined together. The default is the
+ * [TextCase.joinDelimiter] of the given [textCase].
+ * @return a [List] of the converted [String]s, in the order of [this]
+ * [Iterable].
+ */
+fun Iterable<String>.toTextCase(
+    textCase: TextCase,
+    originWordsSplitter: WordsSplitter = StandardWordsSplitters.SPACES,
+    targetWordsDelimiter: String = textCase.joinDelimiter()
+): List<String> {
+    val converter = ReusingBufferConverter(textCase, originWordsSplitter, targetWordsDelimiter)
+    return map(converter::convert)
+}
+
+/**
+ * Lazily converts each [String] of [this] [Sequence], which is in the given
+ * [originTextCase], to the given [targetTextCase].
+ *
+ * @see Sequence.toTextCase
+ */
+fun Sequence<String>.convertTextCase(originTextCase: TextCase, targetTextCase: TextCase): Sequence<String> =
+    toTextCase(targetTextCase, originTextCase.wordsSplitter())
+
+/**
+ * Converts each [String] of [this] [Iterable], which is in the given
+ * [originTextCase], to the given [targetTextCase].
+ *
+ * @see Iterable.toTextCase
+ */
+fun Iterable<String>.convertTextCase(originTextCase: TextCase, targetTextCase: TextCase): List<String> =
+    toTextCase(targetTextCase, originTextCase.wordsSplitter())
+
 // -- Private Methods ----------------------------------------------------------------------------------------------- //
 // -- Type ---------------------------------------------------------------------------------------------------------- //
+
+/**
+ * Converts texts into a [StringBuilder] that is reused for all texts, so that
+ * the only allocation per text of the built-in [TextCase]s is the resulting
+ * [String]. An instance must not be used concurrently.
+ */
+private class ReusingBufferConverter(
+    private val textCase: TextCase,
+    private val originWordsSplitter: WordsSplitter,
+    private val targetWordsDelimiter: String
+) {
+    private var buffer = StringBuilder()
+
+    fun convert(text: String): String {
+        buffer.setLength(0)
+        textCase.convert(text, originWordsSplitter, targetWordsDelimiter, buffer)
+        val result = buffer.toString()
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+            // A single long text should not keep a large buffer alive
+            buffer = StringBuilder()
+        }
+        return result
+    }
+
+    private companion object {
+        const val MAX_RETAINED_BUFFER_CAPACITY = 8192
+    }
+}
@@ -1,8 +1,11 @@
 package dev.turingcomplete.textcaseconverter.dev.turingcomplete.textcaseconverter
 
+import dev.turingcomplete.textcaseconverter.StandardTextCases.KEBAB_CASE
 import dev.turingcomplete.textcaseconverter.StandardTextCases.SNAKE_CASE
+import dev.turingcomplete.textcaseconverter.StandardTextCases.SOFT_CAMEL_CASE
 import dev.turingcomplete.textcaseconverter.StandardWordsSplitters.STRICT_UPPER_CASE
 import dev.turingcomplete.textcaseconverter.StandardWordsSplitters.UNDERSCORE
+import dev.turingcomplete.textcaseconverter.convertTextCase
 import dev.turingcomplete.textcaseconverter.toTextCase
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.Test
@@ -19,6 +22,29 @@ class TextCasesExtensionsTest {
         assertThat("FOO_BAR".toTextCase(SNAKE_CASE, UNDERSCORE, "//")).isEqualTo("foo//bar")
     }
 
+    @Test
+    fun testSequenceToTextCase() {
+        var pulledCount = 0
+        val texts = sequenceOf("foo bar", "fooBar", "foo  bar baz").onEach { pulledCount++ }
+
+        val result = texts.toTextCase(SNAKE_CASE)
+        assertThat(pulledCount).isEqualTo(0)
+        assertThat(result.first()).isEqualTo("foo_bar")
+        assertThat(pulledCount).isEqualTo(1)
+
+        assertThat(result.toList()).containsExactly("foo_bar", "foobar", "foo_bar_baz")
+        assertThat(sequenceOf("fooBar", "barBaz").toTextCase(SNAKE_CASE, STRICT_UPPER_CASE, "//").toList()).containsExactly("foo//bar", "bar//baz")
+        assertThat(sequenceOf("fooBar", "barBaz").convertTextCase(SOFT_CAMEL_CASE, KEBAB_CASE).toList()).containsExactly("foo-bar", "bar-baz")
+    }
+
+    @Test
+    fun testIterableToTextCase() {
+        assertThat(listOf("foo bar", "bar baz").toTextCase(SNAKE_CASE)).containsExactly("foo_bar", "bar_baz")
+        assertThat(listOf("FOO_BAR").toTextCase(SNAKE_CASE, UNDERSCORE, "//")).containsExactly("foo//bar")
+        assertThat(setOf("fooBar", "barBaz").convertTextCase(SOFT_CAMEL_CASE, KEBAB_CASE)).containsExactly("foo-bar", "bar-baz")
+        assertThat(listOf("x".repeat(10_000), "foo bar").toTextCase(SNAKE_CASE)).containsExactly("x".repeat(10_000), "foo_bar")
+    }
+
     // -- Private Methods ------------------------------------------------------------------------------------------- //
     // -- Inner Type ------------------------------------------------------------------------------------------------ //
     // -- Companion Object ------------------------------------------------------------------------------------------ //
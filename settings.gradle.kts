@@ -1,3 +1,5 @@
 rootProject.name = "text-case-converter"
 
 include("kotlin-extension")
+include("benchmarks")
+include("identifier-rewriter")
@@ -0,0 +1,132 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter._internal.AcronymTrie;
+import dev.turingcomplete.textcaseconverter._internal.AcronymWordsSplitter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A dictionary of known acronyms, like {@code HTTP}, {@code SQL} or
+ * {@code OAuth}, in their preferred spelling.
+ *
+ * <p>The {@link StandardWordsSplitters#SOFT_UPPER_CASE} can only guess
+ * acronyms from runs of upper case characters, so it splits
+ * {@code parseHTTPRequest} into {@code parse} and {@code HTTPRequest}. The
+ * {@link #wordsSplitter()} of a dictionary splits it into {@code parse},
+ * {@code HTTP} and {@code Request} instead. A {@link TextCase} created by
+ * {@link StandardTextCases#withAcronyms(TextCase, AcronymDictionary)} keeps
+ * the acronyms in their preferred spelling when it converts words into it:
+ * <pre>{@code
+ * AcronymDictionary acronyms = AcronymDictionary.of("HTTP", "OAuth");
+ * TextCase pascalCase = StandardTextCases.withAcronyms(PASCAL_CASE, acronyms);
+ * pascalCase.convertFrom(SNAKE_CASE, "http_oauth_client"); // HTTPOAuthClient
+ * }</pre>
+ *
+ * <p>An acronym must not start with a lower case character, like
+ * {@code iOS}. In a text like {@code myiOSApp}, it would not start a new word,
+ * so the converted texts could not be split into the same words again. Such
+ * an acronym can be registered in upper case instead (e.g., {@code IOS}).
+ *
+ * <p>The acronyms get compiled into an immutable trie, which is matched
+ * ignoring the case of the characters. The words splitter matches the
+ * acronyms during the same scan over the characters that finds the case
+ * boundaries.
+ *
+ * <p>An instance is immutable and thread-safe.
+ */
+public final class AcronymDictionary {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final AcronymTrie acronymTrie;
+    private final WordsSplitter wordsSplitter;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    private AcronymDictionary(AcronymTrie acronymTrie) {
+        this.acronymTrie = acronymTrie;
+        wordsSplitter = new AcronymWordsSplitter(acronymTrie);
+    }
+
+    /**
+     * Creates an {@link AcronymDictionary} with the given {@code acronyms}.
+     *
+     * @param acronyms the acronyms in their preferred spelling; never null.
+     * @return a new {@link AcronymDictionary}; never null.
+     * @throws IllegalArgumentException if an acronym is empty, starts with a
+     *                                  lower case character, or if two
+     *                                  acronyms only differ in their case.
+     */
+    public static AcronymDictionary of(String... acronyms) {
+        requireNonNull(acronyms);
+
+        return of(Arrays.asList(acronyms));
+    }
+
+    /**
+     * Creates an {@link AcronymDictionary} with the given {@code acronyms}.
+     *
+     * @param acronyms the acronyms in their preferred spelling; never null.
+     * @return a new {@link AcronymDictionary}; never null.
+     * @throws IllegalArgumentException if an acronym is empty, starts with a
+     *                                  lower case character, or if two
+     *                                  acronyms only differ in their case.
+     */
+    public static AcronymDictionary of(Collection<String> acronyms) {
+        requireNonNull(acronyms);
+
+        return new AcronymDictionary(new AcronymTrie(acronyms));
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Finds the acronym that the given {@code word} is, ignoring its case.
+     *
+     * @param word the word to look up; never null.
+     * @return the acronym in its preferred spelling; never null.
+     */
+    public Optional<String> find(CharSequence word) {
+        requireNonNull(word);
+
+        return Optional.ofNullable(acronymTrie.find(word, 0, word.length()));
+    }
+
+    /**
+     * Gets a {@link WordsSplitter} that splits a text like the
+     * {@link StandardWordsSplitters#SOFT_UPPER_CASE}, but keeps the acronyms
+     * of this dictionary as separate words.
+     *
+     * <p>At the start of each word, the longest acronym starting there, which
+     * is not followed by a lower case character, becomes a word of its own.
+     * For example, with the acronyms {@code HTTP} and {@code XML},
+     * {@code XMLHTTPRequest} gets split into {@code XML}, {@code HTTP} and
+     * {@code Request}, but {@code Https} stays a single word.
+     *
+     * @return a {@link WordsSplitter}; never null.
+     */
+    public WordsSplitter wordsSplitter() {
+        return wordsSplitter;
+    }
+
+    /**
+     * @return all acronyms in their preferred spelling, ordered ignoring their
+     * case; never null.
+     */
+    public List<String> acronyms() {
+        return List.copyOf(acronymTrie.acronyms());
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    AcronymTrie acronymTrie() {
+        return acronymTrie;
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
@@ -0,0 +1,311 @@
+package dev.turingcomplete.textcaseconverter;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Converts texts between {@link TextCase}s asynchronously on an
+ * {@link Executor}.
+ *
+ * <p>This is useful if conversions are interleaved with I/O, for example, in
+ * an ETL job that reads texts from one source and writes the converted texts
+ * into another one. The {@link Executor} can be any one, like a pool of
+ * platform threads or, on Java 21 and newer, one with a virtual thread per
+ * task:
+ * <pre>{@code
+ * var asyncConverter = new AsyncTextCaseConverter(Executors.newVirtualThreadPerTaskExecutor(), 10_000);
+ * asyncConverter.convertAll(lines.map(line -> new ConversionJob(SOFT_CAMEL_CASE, SNAKE_CASE, line)))
+ *               .thenAccept(results -> ...);
+ * }</pre>
+ *
+ * <p>The number of pending conversions is limited, so that a fast producer of
+ * texts can not exhaust the memory with jobs that wait for their conversion:
+ * <ul>
+ *     <li>{@link #convert(ConversionJob)} blocks the calling thread until a
+ *     conversion completes, if the limit of pending conversions of all its
+ *     calls together is reached.</li>
+ *     <li>{@link #convertAll(Stream)} pulls the next jobs from the
+ *     {@link Stream} only after previous conversions of the same
+ *     {@link Stream} completed, without blocking any thread. The jobs get
+ *     converted in batches of up to {@value #BATCH_SIZE} jobs, to reduce the
+ *     overhead of the {@link Executor} for short texts. However, the converted
+ *     texts of the whole {@link Stream} are kept until all of them are
+ *     available, because they get completed as a single {@link List}. For a
+ *     {@link Stream} whose results do not fit into the memory, use
+ *     {@link #convert(ConversionJob)} or a {@link TextCaseConversionProcessor},
+ *     which deliver each result on its own.</li>
+ * </ul>
+ *
+ * <p>An instance is thread-safe.
+ */
+public final class AsyncTextCaseConverter {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    /**
+     * The maximum number of jobs of {@link #convertAll(Stream)} that get
+     * converted by one task of the {@link Executor}.
+     */
+    public static final int BATCH_SIZE = 64;
+
+    private static final int DEFAULT_MAX_PENDING_CONVERSIONS = 1024;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final Executor executor;
+    private final int maxPendingConversions;
+    private final Semaphore pendingConversions;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    /**
+     * Creates an {@link AsyncTextCaseConverter} which uses the
+     * {@link ForkJoinPool#commonPool()} and allows up to 1024 pending
+     * conversions.
+     */
+    public AsyncTextCaseConverter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_MAX_PENDING_CONVERSIONS);
+    }
+
+    /**
+     * Creates an {@link AsyncTextCaseConverter}.
+     *
+     * @param executor              the {@link Executor} to convert the texts
+     *                              on; never null.
+     * @param maxPendingConversions the maximum number of conversions that are
+     *                              submitted to the {@code executor} but not
+     *                              completed yet; must be positive.
+     * @throws IllegalArgumentException if the {@code maxPendingConversions} is
+     *                                  not positive.
+     */
+    public AsyncTextCaseConverter(Executor executor, int maxPendingConversions) {
+        if (maxPendingConversions <= 0) {
+            throw new IllegalArgumentException("Maximum pending conversions must be positive: " + maxPendingConversions);
+        }
+
+        this.executor = requireNonNull(executor);
+        this.maxPendingConversions = maxPendingConversions;
+        pendingConversions = new Semaphore(maxPendingConversions);
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Converts the text of the given {@code conversionJob} asynchronously.
+     *
+     * <p>If the maximum number of pending conversions of this method is
+     * reached, this method blocks until one of them completes.
+     *
+     * @param conversionJob the {@link ConversionJob}; never null.
+     * @return a {@link CompletableFuture} that completes with the converted
+     * text, or exceptionally if the conversion failed; never null.
+     * @throws InterruptedException if the current thread was interrupted while
+     *                              waiting for a pending conversion to
+     *                              complete.
+     */
+    public CompletableFuture<String> convert(ConversionJob conversionJob) throws InterruptedException {
+        requireNonNull(conversionJob);
+
+        pendingConversions.acquire();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return conversionJob.convert();
+                } finally {
+                    pendingConversions.release();
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            // The executor rejected the task
+            pendingConversions.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Converts the texts of all {@link ConversionJob}s of the given
+     * {@link Stream} asynchronously.
+     *
+     * <p>The {@link Stream} gets consumed lazily on the threads of the
+     * {@link Executor}, so that at most the maximum number of pending
+     * conversions are pulled from it but not converted yet. This method only
+     * submits the first pull to the {@link Executor} and returns; the calling
+     * thread never pulls from the {@link Stream}, unless the {@link Executor}
+     * runs tasks on the submitting thread.
+     *
+     * <p>All converted texts are kept in memory until the last one is
+     * available, to complete them as one {@link List}.
+     *
+     * @param conversionJobs the {@link Stream} of {@link ConversionJob}s;
+     *                       never null.
+     * @return a {@link CompletableFuture} that completes with an unmodifiable
+     * {@link List} of the converted texts, in the order of the
+     * {@code conversionJobs}, or exceptionally with the first failure of a
+     * conversion, of the {@link Stream} or of the {@link Executor}; never null.
+     * After a failure, no further jobs get pulled from the {@link Stream}.
+     */
+    public CompletableFuture<List<String>> convertAll(Stream<ConversionJob> conversionJobs) {
+        requireNonNull(conversionJobs);
+
+        var streamConversion = new StreamConversion(conversionJobs.iterator());
+        try {
+            executor.execute(streamConversion::scheduleBatches);
+        } catch (RuntimeException e) {
+            // The executor rejected the task
+            streamConversion.result.completeExceptionally(e);
+        }
+        return streamConversion.result;
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * A conversion of a text from one {@link TextCase} into another.
+     *
+     * @param originTextCase the {@link TextCase} of the given
+     *                       {@code originText}; never null.
+     * @param targetTextCase the {@link TextCase} to convert the given
+     *                       {@code originText} into; never null.
+     * @param originText     the text to convert; never null.
+     */
+    public record ConversionJob(TextCase originTextCase, TextCase targetTextCase, String originText) {
+
+        public ConversionJob {
+            requireNonNull(originTextCase);
+            requireNonNull(targetTextCase);
+            requireNonNull(originText);
+        }
+
+        String convert() {
+            return targetTextCase.convertFrom(originTextCase, originText);
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * The state of a {@link #convertAll(Stream)} call.
+     *
+     * <p>The {@link Iterator} of the {@link Stream} and the results are only
+     * accessed while holding the {@link #lock}. The conversions of a batch
+     * happen without holding it.
+     */
+    private final class StreamConversion {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Iterator<ConversionJob> conversionJobs;
+        private final List<String> results = new ArrayList<>();
+        private final CompletableFuture<List<String>> result = new CompletableFuture<>();
+        private final AtomicInteger schedulingRequests = new AtomicInteger();
+        private int pendingCount = 0;
+        private boolean exhausted = false;
+
+        StreamConversion(Iterator<ConversionJob> conversionJobs) {
+            this.conversionJobs = conversionJobs;
+        }
+
+        /**
+         * Pulls batches of jobs from the {@link Stream} and submits them to
+         * the {@link Executor}, until the maximum number of pending
+         * conversions is reached or the {@link Stream} is exhausted.
+         *
+         * <p>Only one thread schedules at a time. If another thread wants to
+         * schedule while one is already scheduling, the scheduling thread
+         * loops once more. This also prevents a recursion per batch, if the
+         * {@link Executor} runs the batch on the submitting thread, which
+         * then calls this method again.
+         */
+        void scheduleBatches() {
+            if (schedulingRequests.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missedSchedulingRequests = 1;
+            do {
+                pullBatches();
+                missedSchedulingRequests = schedulingRequests.addAndGet(-missedSchedulingRequests);
+            } while (missedSchedulingRequests != 0);
+        }
+
+        private void pullBatches() {
+            while (true) {
+                List<ConversionJob> batch;
+                int firstIndex;
+
+                lock.lock();
+                try {
+                    if (result.isDone()) {
+                        return;
+                    }
+                    if (exhausted) {
+                        if (pendingCount == 0) {
+                            result.complete(Collections.unmodifiableList(results));
+                        }
+                        return;
+                    }
+
+                    int batchSize = Math.min(BATCH_SIZE, maxPendingConversions - pendingCount);
+                    if (batchSize <= 0) {
+                        return;
+                    }
+
+                    batch = new ArrayList<>(batchSize);
+                    firstIndex = results.size();
+                    while (batch.size() < batchSize && conversionJobs.hasNext()) {
+                        batch.add(requireNonNull(conversionJobs.next()));
+                        results.add(null);
+                    }
+                    exhausted = !conversionJobs.hasNext();
+                    pendingCount += batch.size();
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                    return;
+                } finally {
+                    lock.unlock();
+                }
+
+                if (!batch.isEmpty()) {
+                    try {
+                        executor.execute(() -> convertBatch(batch, firstIndex));
+                    } catch (RuntimeException e) {
+                        // The executor rejected the task
+                        result.completeExceptionally(e);
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void convertBatch(List<ConversionJob> batch, int firstIndex) {
+            var batchResults = new String[batch.size()];
+            try {
+                for (int i = 0; i < batchResults.length; i++) {
+                    batchResults[i] = batch.get(i).convert();
+                }
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            lock.lock();
+            try {
+                for (int i = 0; i < batchResults.length; i++) {
+                    results.set(firstIndex + i, batchResults[i]);
+                }
+                pendingCount -= batchResults.length;
+            } finally {
+                lock.unlock();
+            }
+
+            scheduleBatches();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter._internal.ConcurrentLruCache;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Converts texts between {@link TextCase}s and caches the results.
+ *
+ * <p>This is useful if the same texts get converted repeatedly, for example,
+ * the property names of a data model. The cache is bounded by a maximum number
+ * of entries, and the least recently used entries get evicted first.
+ *
+ * <p>An instance is thread-safe. The cache is divided into segments with
+ * their own locks, so that concurrent conversions rarely block each other.
+ */
+public final class CachingTextCaseConverter {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final ConcurrentLruCache<ConversionKey, String> cache;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    /**
+     * Creates a {@link CachingTextCaseConverter}.
+     *
+     * @param maximumSize the maximum number of cached conversion results; must
+     *                    be positive. The results are distributed over internal
+     *                    segments by their hash code, each of which evicts its
+     *                    least recently used results on its own. Therefore, a
+     *                    result may get evicted before the whole cache is full.
+     * @throws IllegalArgumentException if the {@code maximumSize} is not
+     *                                  positive.
+     */
+    public CachingTextCaseConverter(int maximumSize) {
+        cache = new ConcurrentLruCache<>(maximumSize);
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Converts the given {@code originText} which is in the given
+     * {@code originTextCase} to the given {@code targetTextCase}.
+     *
+     * <p>The result is the same as the one of
+     * {@code targetTextCase.convertFrom(originTextCase, originText)}.
+     *
+     * @param originTextCase the {@link TextCase} of the given {@code originText};
+     *                       never null.
+     * @param targetTextCase the {@link TextCase} to convert the given
+     *                       {@code originText} into; never null.
+     * @param originText     the {@link String} to convert; never null.
+     * @return a text converted to the {@code targetTextCase}; never null.
+     */
+    public String convert(TextCase originTextCase, TextCase targetTextCase, String originText) {
+        requireNonNull(originTextCase);
+        requireNonNull(targetTextCase);
+        requireNonNull(originText);
+
+        return cache.get(
+                new ConversionKey(originTextCase, targetTextCase, originText),
+                key -> key.targetTextCase().convertFrom(key.originTextCase(), key.originText())
+        );
+    }
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     *
+     * @return the {@link Statistics}; never null.
+     */
+    public Statistics statistics() {
+        return new Statistics(cache.hitCount(), cache.missCount(), cache.size());
+    }
+
+    /**
+     * Removes all cached conversion results. The hit and miss counts will not
+     * be reset.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * A snapshot of the statistics of a {@link CachingTextCaseConverter}.
+     *
+     * @param hitCount  the number of conversions whose result was cached.
+     * @param missCount the number of conversions whose result was not cached.
+     * @param size      the number of currently cached results.
+     */
+    public record Statistics(long hitCount, long missCount, int size) {
+
+        /**
+         * The ratio of conversions whose result was cached.
+         *
+         * @return the hit rate between {@code 0} and {@code 1}; {@code 0} if
+         * there was no conversion yet.
+         */
+        public double hitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private record ConversionKey(TextCase originTextCase, TextCase targetTextCase, String originText) {
+    }
+}
@@ -1,5 +1,6 @@
 package dev.turingcomplete.textcaseconverter;
 
+import java.util.Collection;
 import java.util.Locale;
 
 /**
@@ -19,6 +20,12 @@ public final class Configuration {
      */
     public static final Locale TO_UPPER_CASE_LOCALE = Locale.ROOT;
 
+    /**
+     * The minimum number of texts for which
+     * {@link TextCase#convertAllTo(TextCase, Collection)} converts the texts in
+     * parallel.
+     */
+    public static final int PARALLELISM_THRESHOLD = 1024;
 
     // -- Instance Fields ------------------------------------------------------------------------------------------- //
     // -- Initialization -------------------------------------------------------------------------------------------- //
@@ -0,0 +1,524 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter._internal.ConcurrentHistogram;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Collects metrics of the conversions of {@link TextCase}s and the splitting
+ * of {@link WordsSplitter}s.
+ *
+ * <p>The metrics get recorded by instrumented views of {@link TextCase}s and
+ * {@link WordsSplitter}s, which are created by {@link #instrument(TextCase)}
+ * and {@link #instrument(String, WordsSplitter)}. Only these views have an
+ * overhead, all other {@link TextCase}s and {@link WordsSplitter}s remain
+ * unaffected:
+ * <pre>{@code
+ * var conversionMetrics = new ConversionMetrics();
+ * TextCase snakeCase = conversionMetrics.instrument(StandardTextCases.SNAKE_CASE);
+ * snakeCase.convertFrom(StandardTextCases.SOFT_CAMEL_CASE, "userId");
+ * conversionMetrics.snapshot().textCases().get("Snake Case").latencyNanos().valueAtPercentile(99);
+ * }</pre>
+ *
+ * <p>For each call of a method of an instrumented view, the input length (the
+ * number of characters of the text or of all words, if known) and the latency
+ * in nanoseconds get recorded. The metrics of a method of a {@link TextCase}
+ * get recorded for the {@link TextCase} it was called on, even if the
+ * conversion gets done by another {@link TextCase}, like in
+ * {@link TextCase#convertTo(TextCase, String)}. The metrics are grouped by the
+ * {@link TextCase#title()} or by the name of the {@link WordsSplitter}.
+ *
+ * <p>Note that an instrumented {@link WordsSplitter} is opaque to the
+ * built-in {@link TextCase}s. They can not apply their specialized conversions
+ * for the built-in {@link WordsSplitter}s to it.
+ *
+ * <p>An instance is thread-safe, and the metrics get recorded without locks.
+ */
+public final class ConversionMetrics {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final long UNKNOWN_INPUT_LENGTH = -1;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final Map<String, Recorder> textCaseRecorders = new ConcurrentHashMap<>();
+    private final Map<String, Recorder> wordsSplitterRecorders = new ConcurrentHashMap<>();
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Creates a view of the given {@code textCase}, which records the metrics
+     * of all its conversions.
+     *
+     * @param textCase the {@link TextCase} to delegate the conversions to;
+     *                 never null.
+     * @return an instrumented {@link TextCase}; never null.
+     */
+    public TextCase instrument(TextCase textCase) {
+        requireNonNull(textCase);
+
+        Recorder recorder = textCaseRecorders.computeIfAbsent(textCase.title(), __ -> new Recorder());
+        return new InstrumentedTextCase(textCase, recorder);
+    }
+
+    /**
+     * Creates a view of the given {@code wordsSplitter}, which records the
+     * metrics of all its splits.
+     *
+     * @param name          the name under which the metrics get grouped; never
+     *                      null.
+     * @param wordsSplitter the {@link WordsSplitter} to delegate the splitting
+     *                      to; never null.
+     * @return an instrumented {@link WordsSplitter}; never null.
+     */
+    public WordsSplitter instrument(String name, WordsSplitter wordsSplitter) {
+        requireNonNull(name);
+        requireNonNull(wordsSplitter);
+
+        Recorder recorder = wordsSplitterRecorders.computeIfAbsent(name, __ -> new Recorder());
+        return new InstrumentedWordsSplitter(wordsSplitter, recorder);
+    }
+
+    /**
+     * Gets a snapshot of the metrics.
+     *
+     * <p>The metrics of calls that happen concurrently to the creation of the
+     * snapshot may be only partially included.
+     *
+     * @return the {@link Snapshot}; never null.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(snapshot(textCaseRecorders), snapshot(wordsSplitterRecorders));
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private static Map<String, Metrics> snapshot(Map<String, Recorder> recorders) {
+        var metrics = new TreeMap<String, Metrics>();
+        recorders.forEach((name, recorder) -> metrics.put(name, recorder.snapshot()));
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    private static long length(Collection<String> texts) {
+        long length = 0;
+        for (String text : texts) {
+            length += text.length();
+        }
+        return length;
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * A snapshot of the metrics of a {@link ConversionMetrics}.
+     *
+     * @param textCases      the {@link Metrics} of the instrumented
+     *                       {@link TextCase}s, by their title, sorted by the
+     *                       title; never null.
+     * @param wordsSplitters the {@link Metrics} of the instrumented
+     *                       {@link WordsSplitter}s, by their name, sorted by
+     *                       the name; never null.
+     */
+    public record Snapshot(Map<String, Metrics> textCases, Map<String, Metrics> wordsSplitters) {
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * The metrics of an instrumented {@link TextCase} or {@link WordsSplitter}.
+     *
+     * @param callsCount    the number of calls.
+     * @param inputLengths  the distribution of the input lengths, for all calls
+     *                      with a known input length (for example, not for a
+     *                      {@link Reader}); never null.
+     * @param latencyNanos  the distribution of the latencies in nanoseconds;
+     *                      never null.
+     */
+    public record Metrics(long callsCount, Distribution inputLengths, Distribution latencyNanos) {
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * A distribution of recorded values.
+     *
+     * <p>The values are counted in buckets whose widths grow with the values,
+     * so that the relative error of a value derived from them, like a
+     * percentile, is at most 12.5%. The count, sum, minimum and maximum are
+     * exact.
+     */
+    public static final class Distribution {
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long minimum;
+        private final long maximum;
+
+        private Distribution(ConcurrentHistogram histogram) {
+            counts = histogram.counts();
+            count = Arrays.stream(counts).sum();
+            sum = histogram.sum();
+            minimum = count == 0 ? 0 : histogram.minimum();
+            maximum = count == 0 ? 0 : histogram.maximum();
+        }
+
+        /**
+         * @return the number of recorded values.
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * @return the sum of all recorded values.
+         */
+        public long sum() {
+            return sum;
+        }
+
+        /**
+         * @return the smallest recorded value; {@code 0} if there is none.
+         */
+        public long minimum() {
+            return minimum;
+        }
+
+        /**
+         * @return the largest recorded value; {@code 0} if there is none.
+         */
+        public long maximum() {
+            return maximum;
+        }
+
+        /**
+         * @return the mean of all recorded values; {@code 0} if there is none.
+         */
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Gets the value below or equal to which the given {@code percentile}
+         * of the recorded values are.
+         *
+         * @param percentile the percentile between {@code 0} and {@code 100}.
+         * @return the upper bound of the bucket which contains the value at the
+         * {@code percentile}, but at most the {@link #maximum()}; {@code 0} if
+         * there is no value.
+         * @throws IllegalArgumentException if the {@code percentile} is not
+         *                                  between {@code 0} and {@code 100}.
+         */
+        public long valueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+            }
+            if (count == 0) {
+                return 0;
+            }
+
+            long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long cumulativeCount = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulativeCount += counts[i];
+                if (cumulativeCount >= countAtPercentile) {
+                    return Math.max(minimum, Math.min(maximum, ConcurrentHistogram.bucketUpperBound(i)));
+                }
+            }
+            return maximum;
+        }
+
+        /**
+         * The non-empty buckets, for example, to transfer the distribution
+         * into a metrics system.
+         *
+         * @return an unmodifiable {@link List} of the non-empty
+         * {@link Bucket}s, in ascending order of their bounds; never null.
+         */
+        public List<Bucket> buckets() {
+            var buckets = new ArrayList<Bucket>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    buckets.add(new Bucket(ConcurrentHistogram.bucketLowerBound(i), ConcurrentHistogram.bucketUpperBound(i), counts[i]));
+                }
+            }
+            return Collections.unmodifiableList(buckets);
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * A bucket of a {@link Distribution}.
+     *
+     * @param lowerBound the inclusive lower bound of the values in the bucket.
+     * @param upperBound the inclusive upper bound of the values in the bucket.
+     * @param count      the number of values in the bucket.
+     */
+    public record Bucket(long lowerBound, long upperBound, long count) {
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private static final class Recorder {
+
+        private final LongAdder callsCount = new LongAdder();
+        private final ConcurrentHistogram inputLengths = new ConcurrentHistogram();
+        private final ConcurrentHistogram latencyNanos = new ConcurrentHistogram();
+
+        void record(long startNanos, long inputLength) {
+            latencyNanos.record(System.nanoTime() - startNanos);
+            callsCount.increment();
+            if (inputLength != UNKNOWN_INPUT_LENGTH) {
+                inputLengths.record(inputLength);
+            }
+        }
+
+        Metrics snapshot() {
+            return new Metrics(callsCount.sum(), new Distribution(inputLengths), new Distribution(latencyNanos));
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private record InstrumentedTextCase(TextCase textCase, Recorder recorder) implements TextCase {
+
+        @Override
+        public String title() {
+            return textCase.title();
+        }
+
+        @Override
+        public String example() {
+            return textCase.example();
+        }
+
+        @Override
+        public String joinDelimiter() {
+            return textCase.joinDelimiter();
+        }
+
+        @Override
+        public WordsSplitter wordsSplitter() {
+            return textCase.wordsSplitter();
+        }
+
+        @Override
+        public String convert(String... words) {
+            long startNanos = System.nanoTime();
+            try {
+                return textCase.convert(words);
+            } finally {
+                recorder.record(startNanos, length(Arrays.asList(words)));
+            }
+        }
+
+        @Override
+        public String convert(List<String> words) {
+            long startNanos = System.nanoTime();
+            try {
+                return textCase.convert(words);
+            } finally {
+                recorder.record(startNanos, length(words));
+            }
+        }
+
+        @Override
+        public String convert(List<String> words, String joinDelimiter) {
+            long startNanos = System.nanoTime();
+            try {
+                return textCase.convert(words, joinDelimiter);
+            } finally {
+                recorder.record(startNanos, length(words));
+            }
+        }
+
+        @Override
+        public String convert(String text, WordsSplitter wordsSplitter) {
+            long startNanos = System.nanoTime();
+            try {
+                return textCase.convert(text, wordsSplitter);
+            } finally {
+                recorder.record(startNanos, text.length());
+            }
+        }
+
+        @Override
+        public String convert(String text, WordsSplitter wordsSplitter, String joinDelimiter) {
+            long startNanos = System.nanoTime();
+            try {
+                return textCase.convert(text, wordsSplitter, joinDelimiter);
+            } finally {
+                recorder.record(startNanos, text.length());
+            }
+        }
+
+        @Override
+        public String convertFrom(TextCase originTextCase, String originText) {
+            long startNanos = System.nanoTime();
+            try {
+                return textCase.convertFrom(originTextCase, originText);
+            } finally {
+                recorder.record(startNanos, originText.length());
+            }
+        }
+
+        @Override
+        public String convertFrom(TextCase originTextCase, String originText, String joinDelimiter) {
+            long startNanos = System.nanoTime();
+            try {
+                return textCase.convertFrom(originTextCase, originText, joinDelimiter);
+            } finally {
+                recorder.record(startNanos, originText.length());
+            }
+        }
+
+        @Override
+        public String convertTo(TextCase targetTextCase, String originText) {
+            long startNanos = System.nanoTime();
+            try {
+                return textCase.convertTo(targetTextCase, originText);
+            } finally {
+                recorder.record(startNanos, originText.length());
+            }
+        }
+
+        @Override
+        public String convertTo(TextCase targetTextCase, String originText, String joinDelimiter) {
+            long startNanos = System.nanoTime();
+            try {
+                return textCase.convertTo(targetTextCase, originText, joinDelimiter);
+            } finally {
+                recorder.record(startNanos, originText.length());
+            }
+        }
+
+        @Override
+        public void convert(List<String> words, String joinDelimiter, StringBuilder target) {
+            long startNanos = System.nanoTime();
+            try {
+                textCase.convert(words, joinDelimiter, target);
+            } finally {
+                recorder.record(startNanos, length(words));
+            }
+        }
+
+        @Override
+        public void convert(List<String> words, String joinDelimiter, Appendable target) throws IOException {
+            long startNanos = System.nanoTime();
+            try {
+                textCase.convert(words, joinDelimiter, target);
+            } finally {
+                recorder.record(startNanos, length(words));
+            }
+        }
+
+        @Override
+        public String convert(CharSequence text, int[] wordSpans, String joinDelimiter) {
+            long startNanos = System.nanoTime();
+            try {
+                return textCase.convert(text, wordSpans, joinDelimiter);
+            } finally {
+                recorder.record(startNanos, text.length());
+            }
+        }
+
+        @Override
+        public void convert(CharSequence text, int[] wordSpans, String joinDelimiter, StringBuilder target) {
+            long startNanos = System.nanoTime();
+            try {
+                textCase.convert(text, wordSpans, joinDelimiter, target);
+            } finally {
+                recorder.record(startNanos, text.length());
+            }
+        }
+
+        @Override
+        public void convert(CharSequence text, WordsSplitter wordsSplitter, String joinDelimiter, Appendable target) throws IOException {
+            long startNanos = System.nanoTime();
+            try {
+                textCase.convert(text, wordsSplitter, joinDelimiter, target);
+            } finally {
+                recorder.record(startNanos, text.length());
+            }
+        }
+
+        @Override
+        public void convert(Reader text, WordsSplitter wordsSplitter, String joinDelimiter, Appendable target) throws IOException {
+            long startNanos = System.nanoTime();
+            try {
+                textCase.convert(text, wordsSplitter, joinDelimiter, target);
+            } finally {
+                recorder.record(startNanos, UNKNOWN_INPUT_LENGTH);
+            }
+        }
+
+        @Override
+        public void convertFrom(TextCase originTextCase, CharSequence originText, StringBuilder target) {
+            long startNanos = System.nanoTime();
+            try {
+                textCase.convertFrom(originTextCase, originText, target);
+            } finally {
+                recorder.record(startNanos, originText.length());
+            }
+        }
+
+        @Override
+        public List<String> convertAllTo(
+                TextCase targetTextCase,
+                Collection<String> originTexts,
+                ForkJoinPool forkJoinPool,
+                int parallelismThreshold
+        ) {
+            long startNanos = System.nanoTime();
+            try {
+                return textCase.convertAllTo(targetTextCase, originTexts, forkJoinPool, parallelismThreshold);
+            } finally {
+                recorder.record(startNanos, length(originTexts));
+            }
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private record InstrumentedWordsSplitter(WordsSplitter wordsSplitter, Recorder recorder) implements WordsSplitter {
+
+        @Override
+        public List<String> split(String text) {
+            long startNanos = System.nanoTime();
+            try {
+                return wordsSplitter.split(text);
+            } finally {
+                recorder.record(startNanos, text.length());
+            }
+        }
+
+        @Override
+        public void split(CharSequence text, WordConsumer wordConsumer) {
+            long startNanos = System.nanoTime();
+            try {
+                wordsSplitter.split(text, wordConsumer);
+            } finally {
+                recorder.record(startNanos, text.length());
+            }
+        }
+
+        @Override
+        public int[] splitToSpans(CharSequence text) {
+            long startNanos = System.nanoTime();
+            try {
+                return wordsSplitter.splitToSpans(text);
+            } finally {
+                recorder.record(startNanos, text.length());
+            }
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package dev.turingcomplete.textcaseconverter;
 
+import dev.turingcomplete.textcaseconverter.TextCaseBuilder.CharacterCase;
+import dev.turingcomplete.textcaseconverter.WordsSplitter.WordConsumer;
+import dev.turingcomplete.textcaseconverter._internal.AcronymTrie;
+import dev.turingcomplete.textcaseconverter._internal.AcronymWordsSplitter;
+import dev.turingcomplete.textcaseconverter._internal.CaseMapping;
 import dev.turingcomplete.textcaseconverter._internal.TextUtilities;
+import dev.turingcomplete.textcaseconverter._internal.UpperCaseWordsSplitter;
+import dev.turingcomplete.textcaseconverter._internal.WordRangesSplitter;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.util.*;
-import java.util.function.Function;
 
 import static dev.turingcomplete.textcaseconverter.StandardWordsSplitters.*;
-import static dev.turingcomplete.textcaseconverter._internal.TextUtilities.*;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -17,7 +25,14 @@ import static java.util.Objects.requireNonNull;
  * {@link String#toLowerCase(Locale)} gets used instead of
  * {@link Character#toUpperCase(char)} or {@link Character#toLowerCase(char)}.
  * The reason for this is, that the {@link String} ones take the {@link Locale}
- * into account which may affect the lower or upper case character.
+ * into account which may affect the lower or upper case character. (For
+ * performance reasons, the conversion may be done by the {@link Character}
+ * methods if the result is guaranteed to be identical.)
+ *
+ * <p>The {@link TextCase}s use the {@link Locale}s of the {@link Configuration}.
+ * A copy of a {@link TextCase} with another {@link Locale} can be created by
+ * {@link #withLocale(TextCase, Locale)}, and a copy that keeps known acronyms
+ * by {@link #withAcronyms(TextCase, AcronymDictionary)}.
  */
 public final class StandardTextCases {
     // -- Class Fields ---------------------------------------------------------------------------------------------- //
@@ -35,7 +50,7 @@ public final class StandardTextCases {
             "Strict Camel Case",
             "strictCamelCaseSQL",
             "",
-            createCamelcaseConverter(true),
+            new CharacterCasesConversion(CharacterCase.LOWER_CASE, CharacterCase.UPPER_CASE, CharacterCase.LOWER_CASE),
             StandardWordsSplitters.STRICT_UPPER_CASE
     );
 
@@ -52,7 +67,7 @@ public final class StandardTextCases {
             "Soft Camel Case",
             "softCamelCaseSql",
             "",
-            createCamelcaseConverter(false),
+            createSoftCamelCaseConverter(),
             StandardWordsSplitters.SOFT_UPPER_CASE
     );
 
@@ -104,7 +119,7 @@ public final class StandardTextCases {
             "Train Case",
             "Train-Case",
             "-",
-            changeWordCaseConverter(CaseConversionOfFirstCharacterInWord.TO_UPPER_CASE),
+            new CharacterCasesConversion(CharacterCase.UPPER_CASE, CharacterCase.UPPER_CASE, CharacterCase.LOWER_CASE),
             DASH
     );
 
@@ -130,7 +145,7 @@ public final class StandardTextCases {
             "Pascal Case",
             "PascalCase",
             "",
-            changeWordCaseConverter(CaseConversionOfFirstCharacterInWord.TO_UPPER_CASE),
+            new CharacterCasesConversion(CharacterCase.UPPER_CASE, CharacterCase.UPPER_CASE, CharacterCase.LOWER_CASE),
             StandardWordsSplitters.STRICT_UPPER_CASE
     );
 
@@ -145,7 +160,7 @@ public final class StandardTextCases {
             "Pascal Snake Case",
             "Pascal_Snake_Case",
             "_",
-            changeWordCaseConverter(CaseConversionOfFirstCharacterInWord.TO_UPPER_CASE),
+            new CharacterCasesConversion(CharacterCase.UPPER_CASE, CharacterCase.UPPER_CASE, CharacterCase.LOWER_CASE),
             UNDERSCORE
     );
 
@@ -160,7 +175,7 @@ public final class StandardTextCases {
             "Camel Snake Case",
             "camel_Snake_Case",
             "_",
-            changeWordCaseConverter(CaseConversionOfFirstCharacterInWord.TO_LOWER_CASE),
+            new CharacterCasesConversion(CharacterCase.LOWER_CASE, CharacterCase.UPPER_CASE, CharacterCase.LOWER_CASE),
             UNDERSCORE
     );
 
@@ -261,102 +276,199 @@ public final class StandardTextCases {
     // -- Instance Fields ------------------------------------------------------------------------------------------- //
     // -- Initialization -------------------------------------------------------------------------------------------- //
     // -- Exposed Methods ------------------------------------------------------------------------------------------- //
-    // -- Private Methods ------------------------------------------------------------------------------------------- //
 
-    private static WordCaseConversion changeWordCaseConverter(
-            CaseConversionOfFirstCharacterInWord firstWordFirstCharacterConversion
-    ) {
-        return (index, previousWord, word) -> {
-            int wordLength = word.length();
-            if (wordLength == 0) {
-                return "";
-            } else if (wordLength == 1 && index == 0) {
-                return firstWordFirstCharacterConversion.convert(word);
-            } else {
-                String firstCharacter = word.substring(0, 1);
-                firstCharacter = index == 0 ? firstWordFirstCharacterConversion.convert(firstCharacter)
-                        : toUpperCase(firstCharacter);
+    /**
+     * Creates a copy of the given built-in {@code textCase}, which uses the
+     * given {@code locale} for all conversions to lower or upper case, instead
+     * of the {@link Locale}s of the {@link Configuration}.
+     *
+     * <p>For example, with a Turkish {@link Locale}, {@link #SCREAMING_SNAKE_CASE}
+     * converts the word {@code istanbul} into {@code \u0130STANBUL} (with a
+     * dotted capital I).
+     *
+     * <p>The {@link TextCase#wordsSplitter()} of the copy remains the same.
+     *
+     * @param textCase one of the {@link #ALL_STANDARD_TEXT_CASES} or a copy of
+     *                 it; never null.
+     * @param locale   the {@link Locale} for conversions to lower or upper case;
+     *                 never null.
+     * @return a copy of the {@code textCase} with the given {@code locale};
+     * never null.
+     * @throws IllegalArgumentException if the {@code textCase} is not a
+     *                                  built-in {@link TextCase}.
+     */
+    public static TextCase withLocale(TextCase textCase, Locale locale) {
+        requireNonNull(textCase);
+        requireNonNull(locale);
 
-                String restOfWord = word.substring(1);
-                restOfWord = toLowerCase(restOfWord);
+        if (!(textCase instanceof StandardTextCase standardTextCase)) {
+            throw new IllegalArgumentException("Not a built-in text case: " + textCase.title());
+        }
+        return new StandardTextCase(
+                standardTextCase.title(),
+                standardTextCase.example(),
+                standardTextCase.joinDelimiter(),
+                standardTextCase.wordToTextCaseConverter(),
+                standardTextCase.wordsSplitter(),
+                new CaseMapping(locale, locale)
+        );
+    }
 
-                return firstCharacter + restOfWord;
-            }
-        };
+    /**
+     * Creates a copy of the given built-in {@code textCase}, which keeps the
+     * acronyms of the given {@code acronymDictionary} in their preferred
+     * spelling.
+     *
+     * <p>A word which is an acronym, ignoring its case, gets converted into
+     * the spelling of the {@code acronymDictionary} instead of the case of the
+     * {@code textCase}. Only the first word of a text keeps the case of the
+     * {@code textCase} if it starts with a lower case character, so that, for
+     * example, {@link #SOFT_CAMEL_CASE} still converts the words {@code HTTP}
+     * and {@code client} into {@code httpClient}, but {@code client} and
+     * {@code HTTP} into {@code clientHTTP}.
+     *
+     * <p>This is only possible for {@link TextCase}s that mix lower and upper
+     * case within words, like {@link #SOFT_CAMEL_CASE}, {@link #PASCAL_CASE},
+     * {@link #TRAIN_CASE} or {@link #PASCAL_SNAKE_CASE}. The spelling of an
+     * acronym would break the rules of all other text cases, which convert
+     * whole words into lower or upper case (like {@link #SNAKE_CASE} or
+     * {@link #COBOL_CASE}), or invert or alternate the case of each character.
+     *
+     * <p>If the {@link TextCase#wordsSplitter()} of the {@code textCase}
+     * splits around upper case characters (like the one of
+     * {@link #SOFT_CAMEL_CASE} or {@link #PASCAL_CASE}), the copy uses the
+     * {@link AcronymDictionary#wordsSplitter()} instead, so that its converted
+     * texts can be split again. All other {@link WordsSplitter}s remain the
+     * same.
+     *
+     * @param textCase          one of the {@link #ALL_STANDARD_TEXT_CASES} or
+     *                          a copy of it; never null.
+     * @param acronymDictionary the {@link AcronymDictionary} with the acronyms
+     *                          to keep; never null.
+     * @return a copy of the {@code textCase} with the given
+     * {@code acronymDictionary}; never null.
+     * @throws IllegalArgumentException if the {@code textCase} is not a
+     *                                  built-in {@link TextCase}, or does not
+     *                                  mix lower and upper case within words.
+     */
+    public static TextCase withAcronyms(TextCase textCase, AcronymDictionary acronymDictionary) {
+        requireNonNull(textCase);
+        requireNonNull(acronymDictionary);
+
+        if (!(textCase instanceof StandardTextCase standardTextCase)) {
+            throw new IllegalArgumentException("Not a built-in text case: " + textCase.title());
+        }
+        WordCaseConversion wordToTextCaseConverter = standardTextCase.wordToTextCaseConverter();
+        if (wordToTextCaseConverter instanceof AcronymsConversion acronymsConversion) {
+            wordToTextCaseConverter = acronymsConversion.wordToTextCaseConverter;
+        }
+        // The preferred spelling would break the case of all other text cases
+        if (!(wordToTextCaseConverter instanceof CharacterCasesConversion)
+                && !(wordToTextCaseConverter instanceof SoftCamelCaseConversion)) {
+            throw new IllegalArgumentException("Text case does not mix lower and upper case within words: " + textCase.title());
+        }
+        WordsSplitter wordsSplitter = standardTextCase.wordsSplitter();
+        if (wordsSplitter instanceof UpperCaseWordsSplitter || wordsSplitter instanceof AcronymWordsSplitter) {
+            wordsSplitter = acronymDictionary.wordsSplitter();
+        }
+        return new StandardTextCase(
+                standardTextCase.title(),
+                standardTextCase.example(),
+                standardTextCase.joinDelimiter(),
+                new AcronymsConversion(wordToTextCaseConverter, acronymDictionary.acronymTrie()),
+                wordsSplitter,
+                standardTextCase.caseMapping()
+        );
     }
 
-    private static WordCaseConversion createCamelcaseConverter(boolean strict) {
-        return (index, previousWord, word) -> {
-            int wordLength = word.length();
-            if (wordLength == 0) {
-                return "";
-            } else if (wordLength == 1 && index == 0) {
-                return toLowerCase(word);
-            } else if (wordLength == 1) {
-                if (strict) {
-                    return toUpperCase(word);
-                } else {
-                    return previousWord.length() == 1 && isUpperCase(previousWord) ? toLowerCase(word) : toUpperCase(word);
-                }
-            } else {
-                String firstCharacter = word.substring(0, 1);
-                firstCharacter = index == 0 ? toLowerCase(firstCharacter) : toUpperCase(firstCharacter);
+    /**
+     * Creates a {@link TextCase} for the {@link TextCaseBuilder}.
+     *
+     * <p>If all characters get converted into lower or upper case, the
+     * conversion is the same as the one of, for example, {@link #SNAKE_CASE}
+     * or {@link #SCREAMING_SNAKE_CASE}, so that its specialized conversions
+     * apply.
+     *
+     * @param example the example, or null to convert the words {@code example}
+     *                and {@code text} into the created {@link TextCase}.
+     */
+    static TextCase create(
+            String title,
+            String example,
+            String joinDelimiter,
+            WordsSplitter wordsSplitter,
+            CharacterCase firstCharacterOfFirstWord,
+            CharacterCase firstCharacterOfOtherWords,
+            CharacterCase otherCharacters,
+            CaseMapping caseMapping
+    ) {
+        WordCaseConversion wordToTextCaseConverter;
+        if (firstCharacterOfFirstWord == otherCharacters
+                && firstCharacterOfOtherWords == otherCharacters
+                && otherCharacters != CharacterCase.UNCHANGED) {
+            wordToTextCaseConverter = new WholeWordCaseConversion(otherCharacters == CharacterCase.UPPER_CASE);
+        } else {
+            wordToTextCaseConverter = new CharacterCasesConversion(firstCharacterOfFirstWord, firstCharacterOfOtherWords, otherCharacters);
+        }
 
-                String restOfWord = toLowerCase(word.substring(1));
+        if (example == null) {
+            var exampleBuilder = new StringBuilder();
+            var wordsAppender = new WordsAppender(wordToTextCaseConverter, caseMapping, joinDelimiter, exampleBuilder);
+            wordsAppender.accept("example", 0, "example".length());
+            wordsAppender.accept("text", 0, "text".length());
+            example = exampleBuilder.toString();
+        }
 
-                return firstCharacter + restOfWord;
-            }
-        };
+        return new StandardTextCase(title, example, joinDelimiter, wordToTextCaseConverter, wordsSplitter, caseMapping);
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private static WordCaseConversion createSoftCamelCaseConverter() {
+        return new SoftCamelCaseConversion();
     }
 
     private static WordCaseConversion createWordToLowerCaseConverter() {
-        return (__, ___, word) -> toLowerCase(word);
+        return new WholeWordCaseConversion(false);
     }
 
     private static WordCaseConversion createWordToUpperCaseConverter() {
-        return (__, ___, word) -> toUpperCase(word);
+        return new WholeWordCaseConversion(true);
     }
 
     private static WordCaseConversion createWordToInvertedCaseConverter() {
-        return (__, ___, word) -> {
-            int wordLength = word.length();
-            if (wordLength == 0) {
-                return "";
-            } else {
-                var result = new StringBuilder();
-                for (int i = 0; i < wordLength; i++) {
-                    String character = word.substring(i, i + 1);
-                    character = isUpperCase(character)
-                            ? toLowerCase(character)
-                            : toUpperCase(character);
-                    result.append(character);
+        return (caseMapping, __, ___, text, start, end, target) -> {
+            int i = start;
+            while (i < end) {
+                int codePoint = TextUtilities.codePointAt(text, i, end);
+                if (caseMapping.isUpperCase(codePoint)) {
+                    caseMapping.appendLowerCase(codePoint, target);
+                } else {
+                    caseMapping.appendUpperCase(codePoint, target);
                 }
-                return result.toString();
+                i += Character.charCount(codePoint);
             }
         };
     }
 
     private static WordCaseConversion createWordToAlternatingCaseConverter() {
-        return (__, ___, word) -> {
-            int wordLength = word.length();
-            if (wordLength == 0) {
-                return "";
-            } else {
-                String firstCharacter = word.substring(0, 1);
-                boolean lastUpperCase = isUpperCase(firstCharacter);
-                var result = new StringBuilder();
-                for (int i = 0; i < wordLength; i++) {
-                    String character = word.substring(i, i + 1);
-                    if (lastUpperCase) {
-                        character = toLowerCase(character);
-                        lastUpperCase = false;
-                    } else {
-                        character = toUpperCase(character);
-                        lastUpperCase = true;
-                    }
-                    result.append(character);
+        return (caseMapping, __, ___, text, start, end, target) -> {
+            if (start == end) {
+                return;
+            }
+
+            boolean lastUpperCase = caseMapping.isUpperCase(TextUtilities.codePointAt(text, start, end));
+            int i = start;
+            while (i < end) {
+                int codePoint = TextUtilities.codePointAt(text, i, end);
+                if (lastUpperCase) {
+                    caseMapping.appendLowerCase(codePoint, target);
+                    lastUpperCase = false;
+                } else {
+                    caseMapping.appendUpperCase(codePoint, target);
+                    lastUpperCase = true;
                 }
-                return result.toString();
+                i += Character.charCount(codePoint);
             }
         };
     }
@@ -368,9 +480,20 @@ public final class StandardTextCases {
             String example,
             String joinDelimiter,
             WordCaseConversion wordToTextCaseConverter,
-            WordsSplitter wordsSplitter
+            WordsSplitter wordsSplitter,
+            CaseMapping caseMapping
     ) implements TextCase {
 
+        StandardTextCase(
+                String title,
+                String example,
+                String joinDelimiter,
+                WordCaseConversion wordToTextCaseConverter,
+                WordsSplitter wordsSplitter
+        ) {
+            this(title, example, joinDelimiter, wordToTextCaseConverter, wordsSplitter, CaseMapping.DEFAULT);
+        }
+
         @Override
         public String convert(String... words) {
             requireNonNull(words);
@@ -390,7 +513,7 @@ public final class StandardTextCases {
             requireNonNull(text);
             requireNonNull(wordsSplitter);
 
-            return convert(wordsSplitter.split(text));
+            return convertSplit(text, wordsSplitter, joinDelimiter);
         }
 
         @Override
@@ -399,7 +522,7 @@ public final class StandardTextCases {
             requireNonNull(wordsSplitter);
             requireNonNull(joinDelimiter);
 
-            return convert(wordsSplitter.split(text), joinDelimiter);
+            return convertSplit(text, wordsSplitter, joinDelimiter);
         }
 
         @Override
@@ -407,22 +530,127 @@ public final class StandardTextCases {
             requireNonNull(words);
             requireNonNull(joinDelimiter);
 
-            String previousWord = null;
-            var result = new StringJoiner(joinDelimiter);
-            for (int i = 0; i < words.size(); i++) {
-                String word = words.get(i);
-                result.add(wordToTextCaseConverter.convert(i, previousWord, word));
-                previousWord = word;
+            int expectedLength = joinDelimiter.length() * Math.max(0, words.size() - 1);
+            for (String word : words) {
+                expectedLength += word.length();
             }
+            var result = new StringBuilder(expectedLength);
+            convert(words, joinDelimiter, result);
             return result.toString();
         }
 
+        @Override
+        public void convert(List<String> words, String joinDelimiter, StringBuilder target) {
+            requireNonNull(words);
+            requireNonNull(joinDelimiter);
+            requireNonNull(target);
+
+            var wordsAppender = new WordsAppender(wordToTextCaseConverter, caseMapping, joinDelimiter, target);
+            for (String word : words) {
+                wordsAppender.accept(word, 0, word.length());
+            }
+        }
+
+        @Override
+        public String convert(CharSequence text, int[] wordSpans, String joinDelimiter) {
+            requireNonNull(text);
+            requireNonNull(wordSpans);
+            requireNonNull(joinDelimiter);
+
+            int expectedLength = joinDelimiter.length() * Math.max(0, wordSpans.length / 2 - 1);
+            for (int i = 1; i < wordSpans.length; i += 2) {
+                expectedLength += wordSpans[i] - wordSpans[i - 1];
+            }
+            var result = new StringBuilder(expectedLength);
+            convert(text, wordSpans, joinDelimiter, result);
+            return result.toString();
+        }
+
+        @Override
+        public void convert(CharSequence text, int[] wordSpans, String joinDelimiter, StringBuilder target) {
+            requireNonNull(text);
+            requireNonNull(wordSpans);
+            requireNonNull(joinDelimiter);
+            requireNonNull(target);
+            if (wordSpans.length % 2 != 0) {
+                throw new IllegalArgumentException("Word spans must have an even length: " + wordSpans.length);
+            }
+
+            var wordsAppender = new WordsAppender(wordToTextCaseConverter, caseMapping, joinDelimiter, target);
+            for (int i = 0; i < wordSpans.length; i += 2) {
+                wordsAppender.accept(text, wordSpans[i], wordSpans[i + 1]);
+            }
+        }
+
+        @Override
+        public void convert(List<String> words, String joinDelimiter, Appendable target) throws IOException {
+            requireNonNull(words);
+            requireNonNull(joinDelimiter);
+            requireNonNull(target);
+
+            var wordsAppender = new WordsAppender(wordToTextCaseConverter, caseMapping, joinDelimiter, target);
+            try {
+                for (String word : words) {
+                    wordsAppender.accept(word, 0, word.length());
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        @Override
+        public void convertFrom(TextCase originTextCase, CharSequence originText, StringBuilder target) {
+            requireNonNull(originTextCase);
+            requireNonNull(originText);
+            requireNonNull(target);
+
+            convertSplit(originText, originTextCase.wordsSplitter(), joinDelimiter, target);
+        }
+
+        @Override
+        public void convert(
+                CharSequence text,
+                WordsSplitter wordsSplitter,
+                String joinDelimiter,
+                Appendable target
+        ) throws IOException {
+            requireNonNull(text);
+            requireNonNull(wordsSplitter);
+            requireNonNull(joinDelimiter);
+            requireNonNull(target);
+
+            try {
+                wordsSplitter.split(text, new WordsAppender(wordToTextCaseConverter, caseMapping, joinDelimiter, target));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        @Override
+        public void convert(
+                Reader text,
+                WordsSplitter wordsSplitter,
+                String joinDelimiter,
+                Appendable target
+        ) throws IOException {
+            requireNonNull(text);
+            requireNonNull(wordsSplitter);
+            requireNonNull(joinDelimiter);
+            requireNonNull(target);
+
+            try {
+                WordRangesSplitter.split(text, wordsSplitter, new WordsAppender(wordToTextCaseConverter, caseMapping, joinDelimiter, target));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
         @Override
         public String convertFrom(TextCase originTextCase, String originText) {
             requireNonNull(originTextCase);
             requireNonNull(originText);
 
-            return convert(originTextCase.wordsSplitter().split(originText), joinDelimiter);
+            return convertSplit(originText, originTextCase.wordsSplitter(), joinDelimiter);
         }
 
         @Override
@@ -431,7 +659,7 @@ public final class StandardTextCases {
             requireNonNull(originText);
             requireNonNull(wordsDelimiter);
 
-            return convert(originTextCase.wordsSplitter().split(originText), wordsDelimiter);
+            return convertSplit(originText, originTextCase.wordsSplitter(), wordsDelimiter);
         }
 
         @Override
@@ -450,30 +678,275 @@ public final class StandardTextCases {
 
             return targetTextCase.convertFrom(this, originText, wordsDelimiter);
         }
+
+        private String convertSplit(String text, WordsSplitter wordsSplitter, String joinDelimiter) {
+            var result = new StringBuilder(text.length() + (text.length() >> 2) * joinDelimiter.length());
+            convertSplit(text, wordsSplitter, joinDelimiter, result);
+            return result.toString();
+        }
+
+        /**
+         * Splits the given {@code text} and converts its words in a single
+         * pass: each word gets converted and appended as soon as the
+         * {@code wordsSplitter} found it.
+         *
+         * <p>The conversion of a text split by upper case characters into
+         * lower or upper case words (e.g., camel case to snake case) is
+         * specialized further for ASCII texts, see
+         * {@link UpperCaseWordsSplitter#splitAndConvertAscii}.
+         */
+        private void convertSplit(CharSequence text, WordsSplitter wordsSplitter, String joinDelimiter, StringBuilder target) {
+            if (wordsSplitter instanceof UpperCaseWordsSplitter upperCaseWordsSplitter
+                    && wordToTextCaseConverter instanceof WholeWordCaseConversion wholeWordCaseConversion
+                    && upperCaseWordsSplitter.splitAndConvertAscii(text, caseMapping, wholeWordCaseConversion.toUpperCase, joinDelimiter, target)) {
+                return;
+            }
+
+            wordsSplitter.split(text, new WordsAppender(wordToTextCaseConverter, caseMapping, joinDelimiter, target));
+        }
     }
 
     // -- Inner Type ------------------------------------------------------------------------------------------------ //
 
+    /**
+     * Converts each consumed word and appends it to the target, separated by
+     * the join delimiter.
+     *
+     * <p>If the target is not a {@link StringBuilder}, each word gets converted
+     * into a reused buffer first. Since a {@link WordConsumer} can not throw an
+     * {@link IOException}, an {@link IOException} of the target gets wrapped
+     * into an {@link UncheckedIOException}.
+     */
+    private static final class WordsAppender implements WordConsumer {
+
+        private final WordCaseConversion wordToTextCaseConverter;
+        private final CaseMapping caseMapping;
+        private final String joinDelimiter;
+        private final Appendable target;
+        private final StringBuilder conversionTarget;
+
+        private boolean previousWordIsSingleUpperCaseCharacter = false;
+        private int index = 0;
+
+        WordsAppender(
+                WordCaseConversion wordToTextCaseConverter,
+                CaseMapping caseMapping,
+                String joinDelimiter,
+                Appendable target
+        ) {
+            this.wordToTextCaseConverter = wordToTextCaseConverter;
+            this.caseMapping = caseMapping;
+            this.joinDelimiter = joinDelimiter;
+            this.target = target;
+            this.conversionTarget = target instanceof StringBuilder stringBuilder ? stringBuilder : new StringBuilder();
+        }
+
+        @Override
+        public void accept(CharSequence text, int start, int end) {
+            if (index > 0) {
+                conversionTarget.append(joinDelimiter);
+            }
+            wordToTextCaseConverter.convert(caseMapping, index, previousWordIsSingleUpperCaseCharacter, text, start, end, conversionTarget);
+
+            if (conversionTarget != target) {
+                try {
+                    target.append(conversionTarget);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                conversionTarget.setLength(0);
+            }
+
+            previousWordIsSingleUpperCaseCharacter = isSingleUpperCaseCodePoint(text, start, end);
+            index++;
+        }
+
+        private boolean isSingleUpperCaseCodePoint(CharSequence text, int start, int end) {
+            if (start == end) {
+                return false;
+            }
+            int codePoint = TextUtilities.codePointAt(text, start, end);
+            return start + Character.charCount(codePoint) == end && caseMapping.isUpperCase(codePoint);
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * Appends the given word, which is the range from {@code start} to
+     * {@code end} of the {@code text}, in the {@link TextCase} to the
+     * {@code target}.
+     */
     @FunctionalInterface
     private interface WordCaseConversion {
 
-        String convert(int index, String previousWord, String word);
+        void convert(
+                CaseMapping caseMapping,
+                int index,
+                boolean previousWordIsSingleUpperCaseCharacter,
+                CharSequence text,
+                int start,
+                int end,
+                StringBuilder target
+        );
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * Converts the whole word into lower or upper case.
+     *
+     * <p>This is a class instead of a lambda, so that the conversion can be
+     * recognized for specialized conversions.
+     */
+    private static final class WholeWordCaseConversion implements WordCaseConversion {
+
+        private final boolean toUpperCase;
+
+        WholeWordCaseConversion(boolean toUpperCase) {
+            this.toUpperCase = toUpperCase;
+        }
+
+        @Override
+        public void convert(
+                CaseMapping caseMapping,
+                int index,
+                boolean previousWordIsSingleUpperCaseCharacter,
+                CharSequence text,
+                int start,
+                int end,
+                StringBuilder target
+        ) {
+            if (toUpperCase) {
+                caseMapping.appendUpperCase(text, start, end, target);
+            } else {
+                caseMapping.appendLowerCase(text, start, end, target);
+            }
+        }
     }
 
     // -- Inner Type ------------------------------------------------------------------------------------------------ //
 
-    private enum CaseConversionOfFirstCharacterInWord {
-        TO_UPPER_CASE(TextUtilities::toUpperCase),
-        TO_LOWER_CASE(TextUtilities::toLowerCase);
+    /**
+     * Converts the first character of a word into upper case, except for the
+     * first word and for a single character word that follows a single upper
+     * case character word, and all other characters into lower case.
+     *
+     * <p>This is a class instead of a lambda, so that the conversion can be
+     * recognized by {@link #withAcronyms(TextCase, AcronymDictionary)}.
+     */
+    private static final class SoftCamelCaseConversion implements WordCaseConversion {
 
-        private final Function<String, String> converter;
+        @Override
+        public void convert(
+                CaseMapping caseMapping,
+                int index,
+                boolean previousWordIsSingleUpperCaseCharacter,
+                CharSequence text,
+                int start,
+                int end,
+                StringBuilder target
+        ) {
+            if (start == end) {
+                return;
+            }
 
-        CaseConversionOfFirstCharacterInWord(Function<String, String> converter) {
-            this.converter = converter;
+            int firstCodePoint = TextUtilities.codePointAt(text, start, end);
+            int restStart = start + Character.charCount(firstCodePoint);
+            if (index == 0 || (restStart == end && previousWordIsSingleUpperCaseCharacter)) {
+                caseMapping.appendLowerCase(firstCodePoint, target);
+            } else {
+                caseMapping.appendUpperCase(firstCodePoint, target);
+            }
+            caseMapping.appendLowerCase(text, restStart, end, target);
         }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * Converts a word which is an acronym into its preferred spelling, and
+     * all other words with the wrapped {@link WordCaseConversion}.
+     */
+    private static final class AcronymsConversion implements WordCaseConversion {
+
+        private final WordCaseConversion wordToTextCaseConverter;
+        private final AcronymTrie acronymTrie;
+
+        AcronymsConversion(WordCaseConversion wordToTextCaseConverter, AcronymTrie acronymTrie) {
+            this.wordToTextCaseConverter = wordToTextCaseConverter;
+            this.acronymTrie = acronymTrie;
+        }
+
+        @Override
+        public void convert(
+                CaseMapping caseMapping,
+                int index,
+                boolean previousWordIsSingleUpperCaseCharacter,
+                CharSequence text,
+                int start,
+                int end,
+                StringBuilder target
+        ) {
+            String acronym = acronymTrie.find(text, start, end);
+            if (acronym == null) {
+                wordToTextCaseConverter.convert(caseMapping, index, previousWordIsSingleUpperCaseCharacter, text, start, end, target);
+                return;
+            }
+
+            if (index == 0) {
+                // Keeps a lower case start of a text (e.g., in camel case)
+                int convertedStart = target.length();
+                wordToTextCaseConverter.convert(caseMapping, index, previousWordIsSingleUpperCaseCharacter, text, start, end, target);
+                if (convertedStart == target.length() || Character.isLowerCase(target.codePointAt(convertedStart))) {
+                    return;
+                }
+                target.setLength(convertedStart);
+            }
+            target.append(acronym);
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * Converts the first character of a word, depending on whether it is the
+     * first word, and all other characters into a {@link CharacterCase}.
+     */
+    private static final class CharacterCasesConversion implements WordCaseConversion {
+
+        private final CharacterCase firstCharacterOfFirstWord;
+        private final CharacterCase firstCharacterOfOtherWords;
+        private final CharacterCase otherCharacters;
+
+        CharacterCasesConversion(
+                CharacterCase firstCharacterOfFirstWord,
+                CharacterCase firstCharacterOfOtherWords,
+                CharacterCase otherCharacters
+        ) {
+            this.firstCharacterOfFirstWord = firstCharacterOfFirstWord;
+            this.firstCharacterOfOtherWords = firstCharacterOfOtherWords;
+            this.otherCharacters = otherCharacters;
+        }
+
+        @Override
+        public void convert(
+                CaseMapping caseMapping,
+                int index,
+                boolean previousWordIsSingleUpperCaseCharacter,
+                CharSequence text,
+                int start,
+                int end,
+                StringBuilder target
+        ) {
+            if (start == end) {
+                return;
+            }
 
-        String convert(String text) {
-            return converter.apply(text);
+            int firstCodePoint = TextUtilities.codePointAt(text, start, end);
+            CharacterCase firstCharacter = index == 0 ? firstCharacterOfFirstWord : firstCharacterOfOtherWords;
+            firstCharacter.append(caseMapping, firstCodePoint, target);
+            otherCharacters.append(caseMapping, text, start + Character.charCount(firstCodePoint), end, target);
         }
     }
 }
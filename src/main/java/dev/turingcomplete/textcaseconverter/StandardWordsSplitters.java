@@ -1,11 +1,10 @@
 package dev.turingcomplete.textcaseconverter;
 
-import dev.turingcomplete.textcaseconverter._internal.TextUtilities;
+import dev.turingcomplete.textcaseconverter._internal.UpperCaseWordsSplitter;
+import dev.turingcomplete.textcaseconverter._internal.WhitespaceWordsSplitter;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.regex.Pattern;
 
 /**
  * A collection of common {@link WordsSplitter}s.
@@ -24,7 +23,7 @@ public final class StandardWordsSplitters {
      * A {@link WordsSplitter} that splits a text around space characters. Blank
      * words will be omitted.
      */
-    public static final WordsSplitter SPACES = WordsSplitter.splitByPattern(Pattern.compile("\\s+"));
+    public static final WordsSplitter SPACES = new WhitespaceWordsSplitter();
 
     /**
      * A {@link WordsSplitter} that splits a text around the dash character
@@ -50,7 +49,7 @@ public final class StandardWordsSplitters {
      * <p>Example: This will split `SQL` into three words {@code S}, {@code Q}
      * and {@code L}.
      */
-    public static final WordsSplitter STRICT_UPPER_CASE = text -> toWordsByUpperCaseCharacter(text, true);
+    public static final WordsSplitter STRICT_UPPER_CASE = new UpperCaseWordsSplitter(true);
 
     /**
      * A {@link WordsSplitter} that splits a text around every upper case
@@ -58,7 +57,25 @@ public final class StandardWordsSplitters {
      *
      * <p>Example: This will split {@code SQL} into one word {@code SQL}.
      */
-    public static final WordsSplitter SOFT_UPPER_CASE = text -> toWordsByUpperCaseCharacter(text, false);
+    public static final WordsSplitter SOFT_UPPER_CASE = new UpperCaseWordsSplitter(false);
+
+    /**
+     * A {@link WordsSplitter} for texts that mix several text cases. It splits
+     * a text around spaces, the characters {@code -}, {@code _} and {@code .},
+     * like {@link #SOFT_UPPER_CASE} and between letters and digits, all in a
+     * single pass. Blank words will be omitted.
+     *
+     * <p>Example: This will split {@code user_firstName-v2.id} into the words
+     * {@code user}, {@code first}, {@code Name}, {@code v}, {@code 2} and
+     * {@code id}.
+     *
+     * @see WordsSplitterBuilder
+     */
+    public static final WordsSplitter MIXED = new WordsSplitterBuilder()
+            .delimiters(" -_.")
+            .upperCaseSplitting(WordsSplitterBuilder.UpperCaseSplitting.SOFT)
+            .letterDigitSplitting(true)
+            .build();
 
     /**
      * A {@link WordsSplitter} that will handle any input as one word.
@@ -69,38 +86,5 @@ public final class StandardWordsSplitters {
     // -- Initialization -------------------------------------------------------------------------------------------- //
     // -- Exposed Methods ------------------------------------------------------------------------------------------- //
     // -- Private Methods ------------------------------------------------------------------------------------------- //
-
-    private static List<String> toWordsByUpperCaseCharacter(String text, boolean strict) {
-        int textLength = text.length();
-        if (textLength == 0) {
-            return List.of();
-        } else if (textLength == 1) {
-            return List.of(text);
-        } else {
-            List<String> words = new ArrayList<>();
-            var wordBuilder = new StringBuilder();
-
-            char firstCharacter = text.charAt(0);
-            wordBuilder.append(firstCharacter);
-
-            boolean previousCharacterWasUppercase = Character.isUpperCase(firstCharacter);
-            for (int i = 1; i < textLength; i++) {
-                String character = text.substring(i, i + 1);
-                boolean isUpperCase = TextUtilities.isUpperCase(character);
-                if (isUpperCase && (strict || !previousCharacterWasUppercase)) {
-                    // New word
-                    words.add(wordBuilder.toString());
-                    wordBuilder = new StringBuilder();
-                }
-                wordBuilder.append(character);
-                previousCharacterWasUppercase = isUpperCase;
-            }
-            if (!wordBuilder.isEmpty()) {
-                words.add(wordBuilder.toString());
-            }
-            return words;
-        }
-    }
-
     // -- Inner Type ------------------------------------------------------------------------------------------------ //
 }
@@ -1,6 +1,14 @@
 package dev.turingcomplete.textcaseconverter;
 
+import dev.turingcomplete.textcaseconverter._internal.BatchConversion;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents the formatting of a text in specific text case.
@@ -149,6 +157,365 @@ public interface TextCase {
      */
     String convertTo(TextCase targetTextCase, String originText, String joinDelimiter);
 
+    /**
+     * Converts the given {@code words} into this {@link TextCase} and appends
+     * the result to the given {@code target}. The words will be joined by the
+     * {@link #joinDelimiter()}.
+     *
+     * <p>The built-in {@link TextCase}s append each converted word directly to
+     * the {@code target}, without creating intermediate {@link String}s.
+     *
+     * @param words  a {@link List} of {@link String}s to be converted;
+     *               never null.
+     * @param target the {@link StringBuilder} to append the result to; never
+     *               null.
+     */
+    default void convert(List<String> words, StringBuilder target) {
+        convert(words, joinDelimiter(), target);
+    }
+
+    /**
+     * Converts the given {@code words} into this {@link TextCase} and appends
+     * the result to the given {@code target}. The words will be joined by the
+     * given {@code joinDelimiter}.
+     *
+     * <p>The default implementation delegates to {@link #convert(List, String)}.
+     *
+     * @param words         a {@link List} of {@link String}s to be converted;
+     *                      never null.
+     * @param joinDelimiter a words joining delimiter as {@link String}; never null.
+     * @param target        the {@link StringBuilder} to append the result to;
+     *                      never null.
+     * @see #convert(List, StringBuilder)
+     */
+    default void convert(List<String> words, String joinDelimiter, StringBuilder target) {
+        target.append(convert(words, joinDelimiter));
+    }
+
+    /**
+     * Converts the given {@code words} into this {@link TextCase} and appends
+     * the result to the given {@code target}. The words will be joined by the
+     * {@link #joinDelimiter()}.
+     *
+     * @param words  a {@link List} of {@link String}s to be converted;
+     *               never null.
+     * @param target the {@link Appendable} to append the result to; never
+     *               null.
+     * @throws IOException if appending to the {@code target} fails.
+     * @see #convert(List, StringBuilder)
+     */
+    default void convert(List<String> words, Appendable target) throws IOException {
+        convert(words, joinDelimiter(), target);
+    }
+
+    /**
+     * Converts the given {@code words} into this {@link TextCase} and appends
+     * the result to the given {@code target}. The words will be joined by the
+     * given {@code joinDelimiter}.
+     *
+     * <p>The default implementation delegates to {@link #convert(List, String)}.
+     *
+     * @param words         a {@link List} of {@link String}s to be converted;
+     *                      never null.
+     * @param joinDelimiter a words joining delimiter as {@link String}; never null.
+     * @param target        the {@link Appendable} to append the result to;
+     *                      never null.
+     * @throws IOException if appending to the {@code target} fails.
+     * @see #convert(List, StringBuilder)
+     */
+    default void convert(List<String> words, String joinDelimiter, Appendable target) throws IOException {
+        target.append(convert(words, joinDelimiter));
+    }
+
+    /**
+     * Converts the words given as index ranges of the {@code text} into this
+     * {@link TextCase}. The words will be joined by the
+     * {@link #joinDelimiter()}.
+     *
+     * @param text      the {@link CharSequence} containing the words; never
+     *                  null.
+     * @param wordSpans the start and end index of each word in the
+     *                  {@code text}, as returned by
+     *                  {@link WordsSplitter#splitToSpans(CharSequence)}; never
+     *                  null.
+     * @return the text of the words in this {@link TextCase}; never null.
+     * @throws IllegalArgumentException if the {@code wordSpans} have an odd
+     *                                  length.
+     */
+    default String convert(CharSequence text, int[] wordSpans) {
+        return convert(text, wordSpans, joinDelimiter());
+    }
+
+    /**
+     * Converts the words given as index ranges of the {@code text} into this
+     * {@link TextCase}. The words will be joined by the given
+     * {@code joinDelimiter}.
+     *
+     * <p>The built-in {@link TextCase}s convert the words directly from the
+     * {@code text}, without creating a {@link String} for each word. The
+     * default implementation delegates to {@link #convert(List, String)}.
+     *
+     * @param text          the {@link CharSequence} containing the words; never
+     *                      null.
+     * @param wordSpans     the start and end index of each word in the
+     *                      {@code text}, as returned by
+     *                      {@link WordsSplitter#splitToSpans(CharSequence)};
+     *                      never null.
+     * @param joinDelimiter a words joining delimiter as {@link String}; never
+     *                      null.
+     * @return the text of the words in this {@link TextCase}; never null.
+     * @throws IllegalArgumentException if the {@code wordSpans} have an odd
+     *                                  length.
+     */
+    default String convert(CharSequence text, int[] wordSpans, String joinDelimiter) {
+        if (wordSpans.length % 2 != 0) {
+            throw new IllegalArgumentException("Word spans must have an even length: " + wordSpans.length);
+        }
+
+        var words = new ArrayList<String>(wordSpans.length / 2);
+        for (int i = 0; i < wordSpans.length; i += 2) {
+            words.add(text.subSequence(wordSpans[i], wordSpans[i + 1]).toString());
+        }
+        return convert(words, joinDelimiter);
+    }
+
+    /**
+     * Converts the words given as index ranges of the {@code text} into this
+     * {@link TextCase} and appends the result to the given {@code target}. The
+     * words will be joined by the given {@code joinDelimiter}.
+     *
+     * <p>The default implementation delegates to
+     * {@link #convert(CharSequence, int[], String)}.
+     *
+     * @param text          the {@link CharSequence} containing the words; never
+     *                      null.
+     * @param wordSpans     the start and end index of each word in the
+     *                      {@code text}, as returned by
+     *                      {@link WordsSplitter#splitToSpans(CharSequence)};
+     *                      never null.
+     * @param joinDelimiter a words joining delimiter as {@link String}; never
+     *                      null.
+     * @param target        the {@link StringBuilder} to append the result to;
+     *                      never null.
+     * @throws IllegalArgumentException if the {@code wordSpans} have an odd
+     *                                  length.
+     */
+    default void convert(CharSequence text, int[] wordSpans, String joinDelimiter, StringBuilder target) {
+        target.append(convert(text, wordSpans, joinDelimiter));
+    }
+
+    /**
+     * Converts the given {@code text} into this {@link TextCase} and appends
+     * the result to the given {@code target}. The text will be split into
+     * words by the given {@code wordsSplitter} and joined by the
+     * {@link #joinDelimiter()}.
+     *
+     * <p>The built-in {@link TextCase}s convert and append each word as soon as
+     * it was found by the {@code wordsSplitter}, without creating an
+     * intermediate {@link List} of words.
+     *
+     * @param text          a text as a {@link CharSequence} to be converted;
+     *                      never null.
+     * @param wordsSplitter a {@link WordsSplitter}; never null.
+     * @param target        the {@link Appendable} to append the result to;
+     *                      never null.
+     * @throws IOException if appending to the {@code target} fails.
+     */
+    default void convert(CharSequence text, WordsSplitter wordsSplitter, Appendable target) throws IOException {
+        convert(text, wordsSplitter, joinDelimiter(), target);
+    }
+
+    /**
+     * Converts the given {@code text} into this {@link TextCase} and appends
+     * the result to the given {@code target}. The text will be split into
+     * words by the given {@code wordsSplitter} and joined by the given
+     * {@code joinDelimiter}.
+     *
+     * <p>The default implementation delegates to
+     * {@link #convert(String, WordsSplitter, String)}.
+     *
+     * @param text          a text as a {@link CharSequence} to be converted;
+     *                      never null.
+     * @param wordsSplitter a {@link WordsSplitter}; never null.
+     * @param joinDelimiter a words joining delimiter as {@link String}; never null.
+     * @param target        the {@link Appendable} to append the result to;
+     *                      never null.
+     * @throws IOException if appending to the {@code target} fails.
+     * @see #convert(CharSequence, WordsSplitter, Appendable)
+     */
+    default void convert(
+            CharSequence text,
+            WordsSplitter wordsSplitter,
+            String joinDelimiter,
+            Appendable target
+    ) throws IOException {
+        target.append(convert(text.toString(), wordsSplitter, joinDelimiter));
+    }
+
+    /**
+     * Converts the text read from the given {@code text} {@link Reader} into
+     * this {@link TextCase} and appends the result to the given
+     * {@code target}. The text will be split into words by the given
+     * {@code wordsSplitter} and joined by the {@link #joinDelimiter()}.
+     *
+     * <p>The built-in {@link TextCase}s convert and append each word as soon as
+     * it was found. The text gets split incrementally while reading, if the
+     * {@code wordsSplitter} is one of the {@link StandardWordsSplitters}
+     * (except {@link StandardWordsSplitters#NOOP}) or was created by
+     * {@link WordsSplitter#splitByString(String)}. Otherwise, the whole text
+     * gets read first.
+     *
+     * <p>The {@code text} will not be closed.
+     *
+     * @param text          the {@link Reader} to read the text from; never null.
+     * @param wordsSplitter a {@link WordsSplitter}; never null.
+     * @param target        the {@link Appendable} to append the result to;
+     *                      never null.
+     * @throws IOException if reading from the {@code text} or appending to the
+     *                     {@code target} fails.
+     */
+    default void convert(Reader text, WordsSplitter wordsSplitter, Appendable target) throws IOException {
+        convert(text, wordsSplitter, joinDelimiter(), target);
+    }
+
+    /**
+     * Converts the text read from the given {@code text} {@link Reader} into
+     * this {@link TextCase} and appends the result to the given
+     * {@code target}. The text will be split into words by the given
+     * {@code wordsSplitter} and joined by the given {@code joinDelimiter}.
+     *
+     * <p>The default implementation reads the whole text and delegates to
+     * {@link #convert(String, WordsSplitter, String)}.
+     *
+     * @param text          the {@link Reader} to read the text from; never null.
+     * @param wordsSplitter a {@link WordsSplitter}; never null.
+     * @param joinDelimiter a words joining delimiter as {@link String}; never null.
+     * @param target        the {@link Appendable} to append the result to;
+     *                      never null.
+     * @throws IOException if reading from the {@code text} or appending to the
+     *                     {@code target} fails.
+     * @see #convert(Reader, WordsSplitter, Appendable)
+     */
+    default void convert(
+            Reader text,
+            WordsSplitter wordsSplitter,
+            String joinDelimiter,
+            Appendable target
+    ) throws IOException {
+        var completeText = new StringWriter();
+        text.transferTo(completeText);
+        target.append(convert(completeText.toString(), wordsSplitter, joinDelimiter));
+    }
+
+    /**
+     * Converts the given {@code originText} which is in the given
+     * {@code originTextCase} to {@code this} {@link TextCase} and appends the
+     * result to the given {@code target}. The words will be joined by
+     * {@link #joinDelimiter()}.
+     *
+     * @param originTextCase the {@link TextCase} of the given {@code originText};
+     *                       never null.
+     * @param originText     the {@link CharSequence} to convert; never null.
+     * @param target         the {@link Appendable} to append the result to;
+     *                       never null.
+     * @throws IOException if appending to the {@code target} fails.
+     * @see #convert(CharSequence, WordsSplitter, Appendable)
+     */
+    default void convertFrom(TextCase originTextCase, CharSequence originText, Appendable target) throws IOException {
+        convert(originText, originTextCase.wordsSplitter(), joinDelimiter(), target);
+    }
+
+    /**
+     * Converts the given {@code originText} which is in the given
+     * {@code originTextCase} to {@code this} {@link TextCase} and appends the
+     * result to the given {@code target}. The words will be joined by
+     * {@link #joinDelimiter()}.
+     *
+     * <p>The built-in {@link TextCase}s append each converted word directly to
+     * the {@code target}, without creating intermediate {@link String}s. The
+     * default implementation delegates to {@link #convertFrom(TextCase, String)}.
+     *
+     * @param originTextCase the {@link TextCase} of the given {@code originText};
+     *                       never null.
+     * @param originText     the {@link CharSequence} to convert; never null.
+     * @param target         the {@link StringBuilder} to append the result to;
+     *                       never null.
+     */
+    default void convertFrom(TextCase originTextCase, CharSequence originText, StringBuilder target) {
+        target.append(convertFrom(originTextCase, originText.toString()));
+    }
+
+    /**
+     * Converts the text read from the given {@code originText} {@link Reader},
+     * which is in the given {@code originTextCase}, to {@code this}
+     * {@link TextCase} and appends the result to the given {@code target}.
+     * The words will be joined by {@link #joinDelimiter()}.
+     *
+     * @param originTextCase the {@link TextCase} of the given {@code originText};
+     *                       never null.
+     * @param originText     the {@link Reader} to read the text from; never null.
+     * @param target         the {@link Appendable} to append the result to;
+     *                       never null.
+     * @throws IOException if reading from the {@code originText} or appending
+     *                     to the {@code target} fails.
+     * @see #convert(Reader, WordsSplitter, Appendable)
+     */
+    default void convertFrom(TextCase originTextCase, Reader originText, Appendable target) throws IOException {
+        convert(originText, originTextCase.wordsSplitter(), joinDelimiter(), target);
+    }
+
+    /**
+     * Converts all given {@code originTexts} which are in {@code this}
+     * {@link TextCase} to the {@code targetTextCase}.
+     *
+     * <p>If there are at least {@link Configuration#PARALLELISM_THRESHOLD}
+     * texts, they get converted in parallel in the
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param targetTextCase the {@link TextCase} to convert the given
+     *                       {@code originTexts} into; never null.
+     * @param originTexts    the {@link String}s to convert; never null.
+     * @return an unmodifiable {@link List} of the texts converted to the
+     * {@code targetTextCase}, in the order of the {@code originTexts}; never
+     * null.
+     * @see #convertTo(TextCase, String)
+     */
+    default List<String> convertAllTo(TextCase targetTextCase, Collection<String> originTexts) {
+        return convertAllTo(targetTextCase, originTexts, ForkJoinPool.commonPool(), Configuration.PARALLELISM_THRESHOLD);
+    }
+
+    /**
+     * Converts all given {@code originTexts} which are in {@code this}
+     * {@link TextCase} to the {@code targetTextCase}.
+     *
+     * <p>If there are fewer texts than the {@code parallelismThreshold}, they
+     * get converted in the calling thread. Otherwise, they get divided into
+     * chunks of at most {@code parallelismThreshold} texts, which get
+     * converted in parallel in the given {@code forkJoinPool}.
+     *
+     * @param targetTextCase       the {@link TextCase} to convert the given
+     *                             {@code originTexts} into; never null.
+     * @param originTexts          the {@link String}s to convert; never null.
+     * @param forkJoinPool         the {@link ForkJoinPool} for the parallel
+     *                             conversion; never null.
+     * @param parallelismThreshold the minimum number of texts for a parallel
+     *                             conversion; must be positive.
+     * @return an unmodifiable {@link List} of the texts converted to the
+     * {@code targetTextCase}, in the order of the {@code originTexts}; never
+     * null.
+     * @throws IllegalArgumentException if the {@code parallelismThreshold} is
+     *                                  not positive.
+     * @see #convertTo(TextCase, String)
+     */
+    default List<String> convertAllTo(
+            TextCase targetTextCase,
+            Collection<String> originTexts,
+            ForkJoinPool forkJoinPool,
+            int parallelismThreshold
+    ) {
+        return BatchConversion.convertAll(this, targetTextCase, originTexts, forkJoinPool, parallelismThreshold);
+    }
+
     // -- Private Methods ------------------------------------------------------------------------------------------- //
     // -- Inner Type ------------------------------------------------------------------------------------------------ //
 }
@@ -0,0 +1,217 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter._internal.CaseMapping;
+
+import java.util.Locale;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A builder for a custom {@link TextCase}, which is defined by the case of
+ * the characters in its words, a join delimiter and a {@link WordsSplitter}.
+ *
+ * <p>For example, a text case like {@code Foo+bar+baz} can be defined as:
+ * <pre>{@code
+ * TextCase textCase = new TextCaseBuilder()
+ *         .title("Plus Case")
+ *         .joinDelimiter("+")
+ *         .firstCharacterOfFirstWord(CharacterCase.UPPER_CASE)
+ *         .firstCharacterOfOtherWords(CharacterCase.LOWER_CASE)
+ *         .otherCharacters(CharacterCase.LOWER_CASE)
+ *         .build();
+ * }</pre>
+ *
+ * <p>The built {@link TextCase} shares the implementation of the
+ * {@link StandardTextCases}, instead of going through the default methods of
+ * the {@link TextCase} interface. It converts and splits texts in a single
+ * pass and uses the same specialized conversions, for example, for ASCII
+ * words converted into lower or upper case.
+ */
+public final class TextCaseBuilder {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private String title;
+    private String example;
+    private String joinDelimiter = "";
+    private WordsSplitter wordsSplitter;
+    private CharacterCase firstCharacterOfFirstWord = CharacterCase.UNCHANGED;
+    private CharacterCase firstCharacterOfOtherWords = CharacterCase.UNCHANGED;
+    private CharacterCase otherCharacters = CharacterCase.UNCHANGED;
+    private CaseMapping caseMapping = CaseMapping.DEFAULT;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Sets the {@link TextCase#title()}. Must be set.
+     *
+     * @param title the title; never null.
+     * @return this {@link TextCaseBuilder}; never null.
+     */
+    public TextCaseBuilder title(String title) {
+        this.title = requireNonNull(title);
+        return this;
+    }
+
+    /**
+     * Sets the {@link TextCase#example()}.
+     *
+     * <p>If not set, the example will be the words {@code example} and
+     * {@code text} converted into the built {@link TextCase}.
+     *
+     * @param example the example; never null.
+     * @return this {@link TextCaseBuilder}; never null.
+     */
+    public TextCaseBuilder example(String example) {
+        this.example = requireNonNull(example);
+        return this;
+    }
+
+    /**
+     * Sets the {@link TextCase#joinDelimiter()}. By default, the words get
+     * joined without a delimiter.
+     *
+     * @param joinDelimiter the join delimiter; never null.
+     * @return this {@link TextCaseBuilder}; never null.
+     */
+    public TextCaseBuilder joinDelimiter(String joinDelimiter) {
+        this.joinDelimiter = requireNonNull(joinDelimiter);
+        return this;
+    }
+
+    /**
+     * Sets the {@link TextCase#wordsSplitter()}.
+     *
+     * <p>If not set, the text gets split around the join delimiter, which must
+     * not be empty in this case.
+     *
+     * @param wordsSplitter the {@link WordsSplitter}; never null.
+     * @return this {@link TextCaseBuilder}; never null.
+     */
+    public TextCaseBuilder wordsSplitter(WordsSplitter wordsSplitter) {
+        this.wordsSplitter = requireNonNull(wordsSplitter);
+        return this;
+    }
+
+    /**
+     * Sets the case of the first character of the first word. By default, it
+     * remains unchanged.
+     *
+     * @param characterCase the {@link CharacterCase}; never null.
+     * @return this {@link TextCaseBuilder}; never null.
+     */
+    public TextCaseBuilder firstCharacterOfFirstWord(CharacterCase characterCase) {
+        this.firstCharacterOfFirstWord = requireNonNull(characterCase);
+        return this;
+    }
+
+    /**
+     * Sets the case of the first character of all words, except the first
+     * one. By default, it remains unchanged.
+     *
+     * @param characterCase the {@link CharacterCase}; never null.
+     * @return this {@link TextCaseBuilder}; never null.
+     */
+    public TextCaseBuilder firstCharacterOfOtherWords(CharacterCase characterCase) {
+        this.firstCharacterOfOtherWords = requireNonNull(characterCase);
+        return this;
+    }
+
+    /**
+     * Sets the case of all characters of a word, except the first one. By
+     * default, they remain unchanged.
+     *
+     * @param characterCase the {@link CharacterCase}; never null.
+     * @return this {@link TextCaseBuilder}; never null.
+     */
+    public TextCaseBuilder otherCharacters(CharacterCase characterCase) {
+        this.otherCharacters = requireNonNull(characterCase);
+        return this;
+    }
+
+    /**
+     * Sets the {@link Locale} for all conversions to lower or upper case. By
+     * default, the {@link Locale}s of the {@link Configuration} are used.
+     *
+     * @param locale the {@link Locale}; never null.
+     * @return this {@link TextCaseBuilder}; never null.
+     * @see StandardTextCases#withLocale(TextCase, Locale)
+     */
+    public TextCaseBuilder locale(Locale locale) {
+        requireNonNull(locale);
+        this.caseMapping = new CaseMapping(locale, locale);
+        return this;
+    }
+
+    /**
+     * Creates the {@link TextCase}.
+     *
+     * @return a new {@link TextCase}; never null.
+     * @throws IllegalStateException if no title was set, or if neither a
+     *                               {@link WordsSplitter} nor a non-empty join
+     *                               delimiter was set.
+     */
+    public TextCase build() {
+        if (title == null) {
+            throw new IllegalStateException("No title set");
+        }
+        WordsSplitter wordsSplitter = this.wordsSplitter;
+        if (wordsSplitter == null) {
+            if (joinDelimiter.isEmpty()) {
+                throw new IllegalStateException("No words splitter set");
+            }
+            wordsSplitter = WordsSplitter.splitByString(joinDelimiter);
+        }
+
+        return StandardTextCases.create(
+                title,
+                example,
+                joinDelimiter,
+                wordsSplitter,
+                firstCharacterOfFirstWord,
+                firstCharacterOfOtherWords,
+                otherCharacters,
+                caseMapping
+        );
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * The case into which characters of a word get converted.
+     */
+    public enum CharacterCase {
+        /**
+         * Converts the characters into lower case.
+         */
+        LOWER_CASE,
+
+        /**
+         * Converts the characters into upper case.
+         */
+        UPPER_CASE,
+
+        /**
+         * Keeps the case of the characters.
+         */
+        UNCHANGED;
+
+        void append(CaseMapping caseMapping, int codePoint, StringBuilder target) {
+            switch (this) {
+                case LOWER_CASE -> caseMapping.appendLowerCase(codePoint, target);
+                case UPPER_CASE -> caseMapping.appendUpperCase(codePoint, target);
+                case UNCHANGED -> target.appendCodePoint(codePoint);
+            }
+        }
+
+        void append(CaseMapping caseMapping, CharSequence text, int start, int end, StringBuilder target) {
+            switch (this) {
+                case LOWER_CASE -> caseMapping.appendLowerCase(text, start, end, target);
+                case UPPER_CASE -> caseMapping.appendUpperCase(text, start, end, target);
+                case UNCHANGED -> target.append(text, start, end);
+            }
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package dev.turingcomplete.textcaseconverter;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Flow.Processor} that converts texts from one {@link TextCase} into
+ * another, as a stage of a reactive pipeline.
+ *
+ * <p>Each received text gets converted with
+ * {@link TextCase#convertFrom(TextCase, CharSequence, StringBuilder)}:
+ * <pre>{@code
+ * var processor = new TextCaseConversionProcessor(SOFT_CAMEL_CASE, SNAKE_CASE);
+ * publisher.subscribe(processor);
+ * processor.subscribe(subscriber);
+ * }</pre>
+ *
+ * <p>The texts get requested from the upstream {@link Flow.Publisher} in
+ * batches: initially as many as fit into the buffer, and then again after
+ * three quarters of them got delivered downstream. The buffered texts get
+ * converted only when the downstream {@link Flow.Subscriber} requested them,
+ * so that the demand of the downstream {@link Flow.Subscriber} is respected
+ * and at most the buffer size of texts wait for it. All texts that can be
+ * delivered at once get taken from the buffer together, and they get
+ * converted into a reused {@link StringBuilder}, so that the only allocation
+ * per text is the converted {@link String}.
+ *
+ * <p>The conversion happens on the thread that delivers a text from upstream
+ * or requests texts from downstream. A processor supports only a single
+ * subscription to an upstream {@link Flow.Publisher} and a single downstream
+ * {@link Flow.Subscriber}. If a conversion fails, the upstream subscription
+ * gets cancelled and the downstream {@link Flow.Subscriber} receives the
+ * exception through {@link Flow.Subscriber#onError(Throwable)}.
+ */
+public final class TextCaseConversionProcessor implements Flow.Processor<CharSequence, String> {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final int DEFAULT_BUFFER_SIZE = 256;
+
+    /**
+     * The maximum capacity of the reused {@link StringBuilder}, so that a
+     * single long text does not keep a large buffer alive.
+     */
+    private static final int MAX_RETAINED_CONVERSION_BUFFER_CAPACITY = 8192;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final TextCase originTextCase;
+    private final TextCase targetTextCase;
+    private final int bufferSize;
+    private final int replenishThreshold;
+
+    private final ReentrantLock bufferLock = new ReentrantLock();
+    private final ArrayDeque<CharSequence> buffer;
+
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscriber<? super String>> downstream = new AtomicReference<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private volatile boolean upstreamDone = false;
+    private volatile Throwable upstreamError;
+    private volatile Throwable invalidRequestError;
+    private volatile boolean cancelled = false;
+    private volatile Flow.Subscriber<? super String> subscribedDownstream;
+
+    // Only accessed by the thread that currently drains the buffer
+    private final CharSequence[] batch;
+    private StringBuilder conversionBuffer = new StringBuilder();
+    private int deliveredSinceLastRequest = 0;
+    private boolean terminated = false;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    /**
+     * Creates a {@link TextCaseConversionProcessor} with a buffer for 256
+     * texts.
+     *
+     * @param originTextCase the {@link TextCase} of the received texts; never
+     *                       null.
+     * @param targetTextCase the {@link TextCase} to convert the received texts
+     *                       into; never null.
+     */
+    public TextCaseConversionProcessor(TextCase originTextCase, TextCase targetTextCase) {
+        this(originTextCase, targetTextCase, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a {@link TextCaseConversionProcessor}.
+     *
+     * @param originTextCase the {@link TextCase} of the received texts; never
+     *                       null.
+     * @param targetTextCase the {@link TextCase} to convert the received texts
+     *                       into; never null.
+     * @param bufferSize     the maximum number of texts that get requested
+     *                       from upstream but not yet delivered downstream;
+     *                       must be positive.
+     * @throws IllegalArgumentException if the {@code bufferSize} is not
+     *                                  positive.
+     */
+    public TextCaseConversionProcessor(TextCase originTextCase, TextCase targetTextCase, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+
+        this.originTextCase = requireNonNull(originTextCase);
+        this.targetTextCase = requireNonNull(targetTextCase);
+        this.bufferSize = bufferSize;
+        replenishThreshold = Math.max(1, bufferSize - (bufferSize >> 2));
+        buffer = new ArrayDeque<>(bufferSize);
+        batch = new CharSequence[bufferSize];
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super String> subscriber) {
+        requireNonNull(subscriber);
+
+        if (!downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new RejectedSubscription());
+            subscriber.onError(new IllegalStateException("Only a single subscriber is supported"));
+            return;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        subscribedDownstream = subscriber;
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        requireNonNull(subscription);
+
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        if (cancelled) {
+            subscription.cancel();
+            return;
+        }
+        subscription.request(bufferSize);
+    }
+
+    @Override
+    public void onNext(CharSequence item) {
+        requireNonNull(item);
+
+        bufferLock.lock();
+        try {
+            buffer.add(item);
+        } finally {
+            bufferLock.unlock();
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        requireNonNull(throwable);
+
+        upstreamError = throwable;
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        drain();
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Delivers the buffered texts downstream, as far as they are requested.
+     *
+     * <p>Only one thread drains at a time. If another thread wants to drain
+     * while one is already draining, the draining thread loops once more, so
+     * that no text or termination signal gets lost.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missedDrainRequests = 1;
+        do {
+            Flow.Subscriber<? super String> subscriber = subscribedDownstream;
+            if (subscriber != null && !terminated) {
+                drainInto(subscriber);
+            }
+            missedDrainRequests = drainRequests.addAndGet(-missedDrainRequests);
+        } while (missedDrainRequests != 0);
+    }
+
+    private void drainInto(Flow.Subscriber<? super String> subscriber) {
+        while (true) {
+            if (cancelled) {
+                clearBuffer();
+                Throwable error = invalidRequestError;
+                if (error != null) {
+                    terminated = true;
+                    subscriber.onError(error);
+                }
+                return;
+            }
+
+            // Must be read before taking the batch, so that no text
+            // delivered before the completion gets missed
+            boolean done = upstreamDone;
+            long demand = requested.get();
+            int batchSize = takeBatch((int) Math.min(demand, bufferSize));
+            if (batchSize == 0) {
+                if (done && isBufferEmpty()) {
+                    terminate(subscriber);
+                }
+                return;
+            }
+
+            for (int i = 0; i < batchSize; i++) {
+                CharSequence text = batch[i];
+                batch[i] = null;
+                if (cancelled) {
+                    continue;
+                }
+
+                String result;
+                try {
+                    result = convert(text);
+                } catch (RuntimeException e) {
+                    cancelled = true;
+                    Flow.Subscription subscription = upstream.get();
+                    if (subscription != null) {
+                        subscription.cancel();
+                    }
+                    terminated = true;
+                    subscriber.onError(e);
+                    continue;
+                }
+                subscriber.onNext(result);
+            }
+
+            if (demand != Long.MAX_VALUE) {
+                requested.addAndGet(-batchSize);
+            }
+            requestReplenishment(batchSize);
+        }
+    }
+
+    private int takeBatch(int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            return 0;
+        }
+
+        bufferLock.lock();
+        try {
+            int batchSize = 0;
+            while (batchSize < maxBatchSize && !buffer.isEmpty()) {
+                batch[batchSize++] = buffer.poll();
+            }
+            return batchSize;
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    private boolean isBufferEmpty() {
+        bufferLock.lock();
+        try {
+            return buffer.isEmpty();
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    private void clearBuffer() {
+        bufferLock.lock();
+        try {
+            buffer.clear();
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    private String convert(CharSequence text) {
+        conversionBuffer.setLength(0);
+        targetTextCase.convertFrom(originTextCase, text, conversionBuffer);
+        String result = conversionBuffer.toString();
+        if (conversionBuffer.capacity() > MAX_RETAINED_CONVERSION_BUFFER_CAPACITY) {
+            conversionBuffer = new StringBuilder();
+        }
+        return result;
+    }
+
+    private void requestReplenishment(int deliveredCount) {
+        deliveredSinceLastRequest += deliveredCount;
+        if (deliveredSinceLastRequest >= replenishThreshold && !cancelled) {
+            Flow.Subscription subscription = upstream.get();
+            if (subscription != null) {
+                subscription.request(deliveredSinceLastRequest);
+                deliveredSinceLastRequest = 0;
+            }
+        }
+    }
+
+    private void terminate(Flow.Subscriber<? super String> subscriber) {
+        terminated = true;
+        Throwable error = upstreamError;
+        if (error != null) {
+            subscriber.onError(error);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    private void cancel() {
+        cancelled = true;
+        Flow.Subscription subscription = upstream.get();
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        drain();
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private final class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequestError = new IllegalArgumentException("Requested number of texts must be positive: " + n);
+                TextCaseConversionProcessor.this.cancel();
+                return;
+            }
+
+            requested.getAndAccumulate(n, (current, added) -> {
+                long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            TextCaseConversionProcessor.this.cancel();
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private static final class RejectedSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package dev.turingcomplete.textcaseconverter;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A precomputed table with the conversions of a fixed set of identifiers
+ * between several {@link TextCase}s.
+ *
+ * <p>All conversions get done once while building the table with
+ * {@link #builder()}. A {@link #lookup(TextCase, TextCase, String)} is a
+ * binary search in a sorted array and never calls a {@link WordsSplitter} or
+ * a {@link TextCase} conversion. This is useful if the identifiers are known
+ * in advance, for example, the field names of a schema.
+ *
+ * <p>The table can be written to a stream with {@link #writeTo(OutputStream)}
+ * and read again with {@link #readFrom(InputStream, Collection)}, so that it
+ * does not need to be built on every start.
+ *
+ * <p>An instance is immutable and thread-safe.
+ */
+public final class TextCaseConversionTable {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final int MAGIC_NUMBER = 0x54434354;
+    private static final int FORMAT_VERSION = 1;
+    private static final int INITIAL_READ_CAPACITY = 1024;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final TextCase[] textCases;
+    /**
+     * The form of each identifier in each {@link TextCase}:
+     * {@code identifiersInTextCases[textCaseIndex][identifierIndex]}.
+     */
+    private final String[][] identifiersInTextCases;
+    /**
+     * The identifier indices of each {@link TextCase}, sorted by the form of the
+     * identifier in that {@link TextCase}, and for equal forms by the index.
+     */
+    private final int[][] sortedIdentifierIndices;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    private TextCaseConversionTable(TextCase[] textCases, String[][] identifiersInTextCases, int[][] sortedIdentifierIndices) {
+        this.textCases = textCases;
+        this.identifiersInTextCases = identifiersInTextCases;
+        this.sortedIdentifierIndices = sortedIdentifierIndices;
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Creates a new {@link Builder}.
+     *
+     * @return a {@link Builder}; never null.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Looks up the given {@code originText}, which is in the
+     * {@code originTextCase}, and returns its form in the
+     * {@code targetTextCase}.
+     *
+     * <p>Both {@link TextCase}s can be the origin or one of the target
+     * {@link TextCase}s of the table. If several identifiers have the same form
+     * in the {@code originTextCase}, the one that was added first to the
+     * {@link Builder} wins.
+     *
+     * @param originTextCase the {@link TextCase} of the given
+     *                       {@code originText}; never null.
+     * @param targetTextCase the {@link TextCase} to convert the given
+     *                       {@code originText} into; never null.
+     * @param originText     the {@link String} to look up; never null.
+     * @return the {@code originText} in the {@code targetTextCase}; may be
+     * null if the {@code originText} is not in the table.
+     * @throws IllegalArgumentException if one of the {@link TextCase}s is not
+     *                                  part of this table.
+     */
+    public String lookup(TextCase originTextCase, TextCase targetTextCase, String originText) {
+        requireNonNull(originTextCase);
+        requireNonNull(targetTextCase);
+        requireNonNull(originText);
+
+        int originTextCaseIndex = indexOf(originTextCase);
+        int targetTextCaseIndex = indexOf(targetTextCase);
+
+        String[] originIdentifiers = identifiersInTextCases[originTextCaseIndex];
+        int[] sortedIndices = sortedIdentifierIndices[originTextCaseIndex];
+        int low = 0;
+        int high = sortedIndices.length - 1;
+        int foundIdentifierIndex = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = originIdentifiers[sortedIndices[middle]].compareTo(originText);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else {
+                if (comparison == 0) {
+                    // Continue to find the first identifier with this form
+                    foundIdentifierIndex = sortedIndices[middle];
+                }
+                high = middle - 1;
+            }
+        }
+
+        return foundIdentifierIndex >= 0 ? identifiersInTextCases[targetTextCaseIndex][foundIdentifierIndex] : null;
+    }
+
+    /**
+     * The {@link TextCase}s of this table, with the origin {@link TextCase}
+     * first.
+     *
+     * @return an unmodifiable {@link List} of {@link TextCase}s; never null.
+     */
+    public List<TextCase> textCases() {
+        return List.of(textCases);
+    }
+
+    /**
+     * The number of identifiers in this table.
+     *
+     * @return the number of identifiers.
+     */
+    public int size() {
+        return identifiersInTextCases[0].length;
+    }
+
+    /**
+     * Writes this table to the given {@link OutputStream}.
+     *
+     * <p>The {@link TextCase}s get written by their {@link TextCase#title()}.
+     * The {@code output} will not be closed.
+     *
+     * @param output the {@link OutputStream} to write to; never null.
+     * @throws IOException if writing fails.
+     * @see #readFrom(InputStream, Collection)
+     */
+    public void writeTo(OutputStream output) throws IOException {
+        requireNonNull(output);
+
+        var dataOutput = new DataOutputStream(output);
+        dataOutput.writeInt(MAGIC_NUMBER);
+        dataOutput.writeInt(FORMAT_VERSION);
+
+        dataOutput.writeInt(textCases.length);
+        for (TextCase textCase : textCases) {
+            writeString(textCase.title(), dataOutput);
+        }
+
+        dataOutput.writeInt(size());
+        for (int textCaseIndex = 0; textCaseIndex < textCases.length; textCaseIndex++) {
+            for (String identifier : identifiersInTextCases[textCaseIndex]) {
+                writeString(identifier, dataOutput);
+            }
+            for (int identifierIndex : sortedIdentifierIndices[textCaseIndex]) {
+                dataOutput.writeInt(identifierIndex);
+            }
+        }
+        dataOutput.flush();
+    }
+
+    /**
+     * Reads a table written by {@link #writeTo(OutputStream)} from the given
+     * {@link InputStream}.
+     *
+     * <p>The {@code input} will not be closed.
+     *
+     * @param input          the {@link InputStream} to read from; never null.
+     * @param knownTextCases the {@link TextCase}s to resolve the written
+     *                       {@link TextCase#title()}s, for example
+     *                       {@link StandardTextCases#ALL_STANDARD_TEXT_CASES};
+     *                       never null.
+     * @return the read {@link TextCaseConversionTable}; never null.
+     * @throws IOException if reading fails, the data is not a table written by
+     *                     {@link #writeTo(OutputStream)}, or a written
+     *                     {@link TextCase} is not in the {@code knownTextCases}.
+     */
+    public static TextCaseConversionTable readFrom(InputStream input, Collection<TextCase> knownTextCases) throws IOException {
+        requireNonNull(input);
+        requireNonNull(knownTextCases);
+
+        var dataInput = new DataInputStream(input);
+        if (dataInput.readInt() != MAGIC_NUMBER) {
+            throw new IOException("Not a text case conversion table");
+        }
+        int formatVersion = dataInput.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported text case conversion table format version: " + formatVersion);
+        }
+
+        int textCasesCount = dataInput.readInt();
+        if (textCasesCount <= 0 || textCasesCount > knownTextCases.size()) {
+            throw new IOException("Invalid number of text cases: " + textCasesCount);
+        }
+        var textCases = new TextCase[textCasesCount];
+        for (int i = 0; i < textCases.length; i++) {
+            String title = readString(dataInput);
+            textCases[i] = knownTextCases.stream()
+                    .filter(knownTextCase -> knownTextCase.title().equals(title))
+                    .findFirst()
+                    .orElseThrow(() -> new IOException("Unknown text case: " + title));
+        }
+
+        int identifiersCount = dataInput.readInt();
+        if (identifiersCount < 0) {
+            throw new IOException("Invalid number of identifiers: " + identifiersCount);
+        }
+        var identifiersInTextCases = new String[textCases.length][];
+        var sortedIdentifierIndices = new int[textCases.length][];
+        for (int textCaseIndex = 0; textCaseIndex < textCases.length; textCaseIndex++) {
+            identifiersInTextCases[textCaseIndex] = readIdentifiers(dataInput, identifiersCount);
+            sortedIdentifierIndices[textCaseIndex] = readIdentifierIndices(dataInput, identifiersCount);
+            checkSortedIdentifierIndices(identifiersInTextCases[textCaseIndex], sortedIdentifierIndices[textCaseIndex]);
+        }
+
+        return new TextCaseConversionTable(textCases, identifiersInTextCases, sortedIdentifierIndices);
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private int indexOf(TextCase textCase) {
+        for (int i = 0; i < textCases.length; i++) {
+            if (textCases[i] == textCase) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Text case is not part of this table: " + textCase.title());
+    }
+
+    private static void writeString(String value, DataOutputStream dataOutput) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        dataOutput.writeInt(bytes.length);
+        dataOutput.write(bytes);
+    }
+
+    private static String readString(DataInputStream dataInput) throws IOException {
+        int length = dataInput.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        // Unlike a preallocated array, this only grows with the actually
+        // available bytes, so that a corrupt length can not exhaust the memory
+        byte[] bytes = dataInput.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String[] readIdentifiers(DataInputStream dataInput, int identifiersCount) throws IOException {
+        // The array grows with the read identifiers, so that a corrupt count
+        // can not exhaust the memory
+        var identifiers = new String[Math.min(identifiersCount, INITIAL_READ_CAPACITY)];
+        for (int i = 0; i < identifiersCount; i++) {
+            if (i == identifiers.length) {
+                identifiers = Arrays.copyOf(identifiers, (int) Math.min(2L * i, identifiersCount));
+            }
+            identifiers[i] = readString(dataInput);
+        }
+        return identifiers;
+    }
+
+    private static int[] readIdentifierIndices(DataInputStream dataInput, int identifiersCount) throws IOException {
+        var identifierIndices = new int[Math.min(identifiersCount, INITIAL_READ_CAPACITY)];
+        for (int i = 0; i < identifiersCount; i++) {
+            if (i == identifierIndices.length) {
+                identifierIndices = Arrays.copyOf(identifierIndices, (int) Math.min(2L * i, identifiersCount));
+            }
+            int identifierIndex = dataInput.readInt();
+            if (identifierIndex < 0 || identifierIndex >= identifiersCount) {
+                throw new IOException("Invalid identifier index: " + identifierIndex);
+            }
+            identifierIndices[i] = identifierIndex;
+        }
+        return identifierIndices;
+    }
+
+    /**
+     * Checks that the given {@code sortedIndices} are a permutation of the
+     * identifier indices, sorted like by {@link Builder#build()}, which the
+     * binary search of {@link #lookup(TextCase, TextCase, String)} relies on.
+     */
+    private static void checkSortedIdentifierIndices(String[] identifiers, int[] sortedIndices) throws IOException {
+        var seenIndices = new boolean[identifiers.length];
+        for (int i = 0; i < sortedIndices.length; i++) {
+            int identifierIndex = sortedIndices[i];
+            if (seenIndices[identifierIndex]) {
+                throw new IOException("Duplicate identifier index: " + identifierIndex);
+            }
+            seenIndices[identifierIndex] = true;
+
+            if (i > 0) {
+                int previousIdentifierIndex = sortedIndices[i - 1];
+                int comparison = identifiers[previousIdentifierIndex].compareTo(identifiers[identifierIndex]);
+                if (comparison > 0 || (comparison == 0 && previousIdentifierIndex > identifierIndex)) {
+                    throw new IOException("Identifier indices are not sorted at index: " + i);
+                }
+            }
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * A builder for a {@link TextCaseConversionTable}.
+     */
+    public static final class Builder {
+
+        private final List<String> identifiers = new ArrayList<>();
+        private final Set<TextCase> targetTextCases = new LinkedHashSet<>();
+        private TextCase originTextCase;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the {@link TextCase} in which the identifiers are given.
+         *
+         * @param originTextCase the origin {@link TextCase}; never null.
+         * @return this {@link Builder}; never null.
+         */
+        public Builder originTextCase(TextCase originTextCase) {
+            this.originTextCase = requireNonNull(originTextCase);
+            return this;
+        }
+
+        /**
+         * Adds {@link TextCase}s into which the identifiers should be
+         * converted.
+         *
+         * @param targetTextCases the target {@link TextCase}s; never null.
+         * @return this {@link Builder}; never null.
+         */
+        public Builder targetTextCases(TextCase... targetTextCases) {
+            return targetTextCases(Arrays.asList(targetTextCases));
+        }
+
+        /**
+         * Adds {@link TextCase}s into which the identifiers should be
+         * converted.
+         *
+         * @param targetTextCases the target {@link TextCase}s; never null.
+         * @return this {@link Builder}; never null.
+         */
+        public Builder targetTextCases(Collection<TextCase> targetTextCases) {
+            for (TextCase targetTextCase : targetTextCases) {
+                this.targetTextCases.add(requireNonNull(targetTextCase));
+            }
+            return this;
+        }
+
+        /**
+         * Adds identifiers, which are in the origin {@link TextCase}.
+         *
+         * @param identifiers the identifiers; never null.
+         * @return this {@link Builder}; never null.
+         */
+        public Builder identifiers(String... identifiers) {
+            return identifiers(Arrays.asList(identifiers));
+        }
+
+        /**
+         * Adds identifiers, which are in the origin {@link TextCase}.
+         *
+         * @param identifiers the identifiers; never null.
+         * @return this {@link Builder}; never null.
+         */
+        public Builder identifiers(Collection<String> identifiers) {
+            for (String identifier : identifiers) {
+                this.identifiers.add(requireNonNull(identifier));
+            }
+            return this;
+        }
+
+        /**
+         * Converts all identifiers into all target {@link TextCase}s and creates
+         * the {@link TextCaseConversionTable}.
+         *
+         * @return a new {@link TextCaseConversionTable}; never null.
+         * @throws IllegalStateException if no origin {@link TextCase} was set.
+         */
+        public TextCaseConversionTable build() {
+            if (originTextCase == null) {
+                throw new IllegalStateException("No origin text case set");
+            }
+
+            Set<TextCase> allTextCases = new LinkedHashSet<>();
+            allTextCases.add(originTextCase);
+            allTextCases.addAll(targetTextCases);
+            var textCases = allTextCases.toArray(TextCase[]::new);
+
+            int identifiersCount = identifiers.size();
+            var identifiersInTextCases = new String[textCases.length][];
+            var sortedIdentifierIndices = new int[textCases.length][];
+            for (int textCaseIndex = 0; textCaseIndex < textCases.length; textCaseIndex++) {
+                TextCase textCase = textCases[textCaseIndex];
+                var identifiersInTextCase = new String[identifiersCount];
+                for (int i = 0; i < identifiersCount; i++) {
+                    String identifier = identifiers.get(i);
+                    identifiersInTextCase[i] = textCase == originTextCase
+                            ? identifier
+                            : textCase.convertFrom(originTextCase, identifier);
+                }
+                identifiersInTextCases[textCaseIndex] = identifiersInTextCase;
+                sortedIdentifierIndices[textCaseIndex] = sortIdentifierIndices(identifiersInTextCase);
+            }
+
+            return new TextCaseConversionTable(textCases, identifiersInTextCases, sortedIdentifierIndices);
+        }
+
+        private static int[] sortIdentifierIndices(String[] identifiers) {
+            return IntStream.range(0, identifiers.length)
+                    .boxed()
+                    .sorted(Comparator.<Integer, String>comparing(i -> identifiers[i]).thenComparing(i -> i))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter._internal.CharacterClassScanner;
+import dev.turingcomplete.textcaseconverter._internal.CharacterClassScanner.Features;
+
+import java.util.*;
+
+import static dev.turingcomplete.textcaseconverter._internal.CharacterClassScanner.*;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Detects in which {@link TextCase} a text most likely is.
+ *
+ * <p>A text gets scanned once to collect how letter cases and separators are
+ * used in it: the case of the first letter, the case of the first letter of
+ * each further word, the case transitions between consecutive letters inside
+ * of words, and the separators between words. These features get compared
+ * with the ones of each {@link TextCase}, which are derived from its
+ * {@link TextCase#example()} and {@link TextCase#joinDelimiter()}. There is no
+ * trial conversion through the {@link TextCase}s.
+ *
+ * <p>The score of a {@link TextCase} is the fraction of letters and separators
+ * in the text that are consistent with it, between {@code 0} and {@code 1}.
+ * Many texts are consistent with more than one {@link TextCase}, for example,
+ * {@code foo} is a valid {@link StandardTextCases#LOWER_CASE} and
+ * {@link StandardTextCases#SNAKE_CASE} text. Among {@link TextCase}s with the
+ * same score, the most specific one gets ranked first: a {@link TextCase}
+ * without a join delimiter, if the text contains no separator, and then the
+ * one which allows the fewest letter cases and separators. Remaining ties get
+ * ranked in the order of the {@link TextCase}s given to the constructor.
+ *
+ * <p>Letters without a case, digits and combining marks are ignored. All other
+ * characters that are not letters are separators.
+ *
+ * <p>An instance is immutable and thread-safe.
+ */
+public final class TextCaseDetector {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final int ALL_LETTER_CASES_MASK = 0b11;
+    private static final int ALL_TRANSITIONS_MASK = 0b1111;
+
+    private static final Comparator<Detection> DETECTION_RANKING = Comparator.comparingDouble(Detection::score).reversed();
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final List<TextCase> textCases;
+    private final CharacterClassScanner characterClassScanner;
+    private final TextCaseProfile[] textCaseProfiles;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    /**
+     * Creates a {@link TextCaseDetector} for the
+     * {@link StandardTextCases#ALL_STANDARD_TEXT_CASES}.
+     */
+    public TextCaseDetector() {
+        this(StandardTextCases.ALL_STANDARD_TEXT_CASES);
+    }
+
+    /**
+     * Creates a {@link TextCaseDetector} for the given {@code textCases}.
+     *
+     * <p>Custom {@link TextCase}s can be detected alongside the built-in ones
+     * by passing a combination of them and
+     * {@link StandardTextCases#ALL_STANDARD_TEXT_CASES}. The
+     * {@link TextCase#example()} of a custom {@link TextCase} should consist of
+     * at least two words, so that the case of the first letter of a further
+     * word can be derived from it.
+     *
+     * @param textCases the {@link TextCase}s to detect, in the order of their
+     *                  precedence for texts that match more than one of them
+     *                  equally; never null.
+     * @throws IllegalArgumentException if the join delimiters of the
+     *                                  {@code textCases} contain more than
+     *                                  {@value CharacterClassScanner#MAX_KNOWN_SEPARATORS}
+     *                                  distinct separators.
+     */
+    public TextCaseDetector(Collection<? extends TextCase> textCases) {
+        this.textCases = List.copyOf(textCases);
+
+        var knownSeparators = new StringBuilder();
+        for (TextCase textCase : this.textCases) {
+            String joinDelimiter = textCase.joinDelimiter();
+            for (int i = 0; i < joinDelimiter.length(); i++) {
+                char character = joinDelimiter.charAt(i);
+                if (CharacterClassScanner.isSeparator(character) && knownSeparators.indexOf(String.valueOf(character)) < 0) {
+                    knownSeparators.append(character);
+                }
+            }
+        }
+        characterClassScanner = new CharacterClassScanner(knownSeparators.toString().toCharArray());
+
+        textCaseProfiles = new TextCaseProfile[this.textCases.size()];
+        for (int i = 0; i < textCaseProfiles.length; i++) {
+            textCaseProfiles[i] = createTextCaseProfile(this.textCases.get(i), knownSeparators.toString());
+        }
+        // A stable sort, which keeps the given order for the same specificity
+        Arrays.sort(textCaseProfiles, Comparator.comparingInt(TextCaseProfile::specificity));
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Detects the {@link TextCase} of the given {@code text} with the highest
+     * score.
+     *
+     * @param text the text to detect the {@link TextCase} of; never null.
+     * @return the {@link Detection} with the highest score; empty if the
+     * {@code text} contains neither letters with a case nor separators, or if
+     * it is not consistent with any {@link TextCase} at all.
+     * @see #detectAll(CharSequence)
+     */
+    public Optional<Detection> detect(CharSequence text) {
+        requireNonNull(text);
+
+        Features features = characterClassScanner.scan(text);
+        int total = features.letterCount() + features.separatorCount();
+        TextCaseProfile bestTextCaseProfile = null;
+        int bestConsistentCount = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            for (TextCaseProfile textCaseProfile : textCaseProfiles) {
+                if (isSkippedInPass(pass, textCaseProfile, features)) {
+                    continue;
+                }
+
+                // Only a higher score wins, since the profiles are ranked
+                int consistentCount = countConsistent(textCaseProfile, features);
+                if (consistentCount > bestConsistentCount) {
+                    bestTextCaseProfile = textCaseProfile;
+                    bestConsistentCount = consistentCount;
+                }
+            }
+        }
+        return bestTextCaseProfile == null
+                ? Optional.empty()
+                : Optional.of(new Detection(bestTextCaseProfile.textCase(), (double) bestConsistentCount / total));
+    }
+
+    /**
+     * Detects all {@link TextCase}s the given {@code text} may be in.
+     *
+     * @param text the text to detect the {@link TextCase}s of; never null.
+     * @return an unmodifiable {@link List} of a {@link Detection} for each
+     * {@link TextCase} with a score above {@code 0}, ranked from the most to the
+     * least likely one; never null. Empty if the {@code text} contains neither
+     * letters with a case nor separators.
+     */
+    public List<Detection> detectAll(CharSequence text) {
+        requireNonNull(text);
+
+        Features features = characterClassScanner.scan(text);
+        int letterCount = features.letterCount();
+        int separatorCount = features.separatorCount();
+        int total = letterCount + separatorCount;
+        if (total == 0) {
+            return List.of();
+        }
+
+        // The profiles are already ranked, and the sort is stable, so only the
+        // scores need to be compared
+        var detections = new ArrayList<Detection>(textCaseProfiles.length);
+        for (int pass = 0; pass < 2; pass++) {
+            for (TextCaseProfile textCaseProfile : textCaseProfiles) {
+                if (isSkippedInPass(pass, textCaseProfile, features)) {
+                    continue;
+                }
+
+                int consistentCount = countConsistent(textCaseProfile, features);
+                if (consistentCount > 0) {
+                    detections.add(new Detection(textCaseProfile.textCase(), (double) consistentCount / total));
+                }
+            }
+        }
+        detections.sort(DETECTION_RANKING);
+        return Collections.unmodifiableList(detections);
+    }
+
+    /**
+     * The {@link TextCase}s this detector detects, in the order of their
+     * precedence.
+     *
+     * @return an unmodifiable {@link List} of {@link TextCase}s; never null.
+     */
+    public List<TextCase> textCases() {
+        return textCases;
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private static int countConsistent(TextCaseProfile textCaseProfile, Features features) {
+        int consistentCount = features.knownSeparatorCount(textCaseProfile.separatorsMask());
+
+        int firstLetterCase = features.firstLetterCase();
+        if (firstLetterCase != NO_CASE && isSet(textCaseProfile.firstLetterCasesMask(), firstLetterCase)) {
+            consistentCount++;
+        }
+
+        for (int letterCase = LOWER_CASE; letterCase <= UPPER_CASE; letterCase++) {
+            if (isSet(textCaseProfile.wordStartCasesMask(), letterCase)) {
+                consistentCount += features.wordStartCount(letterCase);
+            }
+        }
+
+        for (int transition = 0; transition < 4; transition++) {
+            if (isSet(textCaseProfile.transitionsMask(), transition)) {
+                consistentCount += features.transitionCount(transition);
+            }
+        }
+
+        return consistentCount;
+    }
+
+    private TextCaseProfile createTextCaseProfile(TextCase textCase, String knownSeparators) {
+        long separatorsMask = 0;
+        String joinDelimiter = textCase.joinDelimiter();
+        for (int i = 0; i < joinDelimiter.length(); i++) {
+            int knownSeparatorIndex = knownSeparators.indexOf(joinDelimiter.charAt(i));
+            if (knownSeparatorIndex >= 0) {
+                separatorsMask |= 1L << knownSeparatorIndex;
+            }
+        }
+
+        Features exampleFeatures = characterClassScanner.scan(textCase.example());
+
+        int firstLetterCasesMask = exampleFeatures.firstLetterCase() == NO_CASE
+                ? ALL_LETTER_CASES_MASK
+                : 1 << exampleFeatures.firstLetterCase();
+
+        int wordStartCasesMask = 0;
+        for (int letterCase = LOWER_CASE; letterCase <= UPPER_CASE; letterCase++) {
+            if (exampleFeatures.wordStartCount(letterCase) > 0) {
+                wordStartCasesMask |= 1 << letterCase;
+            }
+        }
+        if (wordStartCasesMask == 0) {
+            // The example is a single word, so the further words are assumed
+            // to start like the first one
+            wordStartCasesMask = firstLetterCasesMask;
+        }
+
+        int transitionsMask = 0;
+        for (int transition = 0; transition < 4; transition++) {
+            if (exampleFeatures.transitionCount(transition) > 0) {
+                transitionsMask |= 1 << transition;
+            }
+        }
+        if (transitionsMask == 0) {
+            transitionsMask = ALL_TRANSITIONS_MASK;
+        }
+
+        return new TextCaseProfile(textCase, firstLetterCasesMask, wordStartCasesMask, transitionsMask, separatorsMask);
+    }
+
+    /**
+     * The {@link TextCaseProfile}s are ranked by specificity. In addition,
+     * for a text without separators, the ones without a join delimiter get
+     * ranked first. To rank them without a sort, they are visited in two
+     * passes: the first one skips all profiles which expect separators in a
+     * text without them, the second one visits only these.
+     */
+    private static boolean isSkippedInPass(int pass, TextCaseProfile textCaseProfile, Features features) {
+        boolean rankedLast = textCaseProfile.separatorsMask() != 0 && features.separatorCount() == 0;
+        return (pass == 0) == rankedLast;
+    }
+
+    private static boolean isSet(int mask, int bit) {
+        return (mask & (1 << bit)) != 0;
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * A {@link TextCase} that a text may be in.
+     *
+     * @param textCase the {@link TextCase}; never null.
+     * @param score    the fraction of the letters and separators in the text
+     *                 that are consistent with the {@code textCase}, between
+     *                 {@code 0} (exclusive) and {@code 1} (inclusive).
+     */
+    public record Detection(TextCase textCase, double score) {
+
+        public Detection {
+            requireNonNull(textCase);
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * The features a text in a {@link TextCase} is expected to have.
+     *
+     * @param firstLetterCasesMask the allowed cases of the first letter.
+     * @param wordStartCasesMask   the allowed cases of the first letter of
+     *                             further words.
+     * @param transitionsMask      the allowed case transitions between
+     *                             consecutive letters inside of words.
+     * @param separatorsMask       the indices of the known separators in the
+     *                             join delimiter.
+     */
+    private record TextCaseProfile(
+            TextCase textCase,
+            int firstLetterCasesMask,
+            int wordStartCasesMask,
+            int transitionsMask,
+            long separatorsMask
+    ) {
+
+        /**
+         * The number of allowed letter cases, case transitions and separators.
+         * A lower number is more specific.
+         */
+        int specificity() {
+            return Integer.bitCount(firstLetterCasesMask)
+                    + Integer.bitCount(wordStartCasesMask)
+                    + Integer.bitCount(transitionsMask)
+                    + Long.bitCount(separatorsMask);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package dev.turingcomplete.textcaseconverter;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A registry of {@link TextCase}s and {@link WordsSplitter}s, which can be
+ * looked up by name.
+ *
+ * <p>A {@link TextCase} can be found by its {@link TextCase#title()}, its
+ * {@link TextCase#example()} or one of its aliases. A {@link WordsSplitter}
+ * can be found by its name or one of its aliases. Titles, names and aliases
+ * are matched ignoring the case and the separators space, {@code -},
+ * {@code _} and {@code .}. For example, {@code Snake Case},
+ * {@code snake-case} and {@code SNAKE_CASE} all find the
+ * {@link StandardTextCases#SNAKE_CASE}. Examples are matched exactly, since
+ * many of them only differ in their case (like {@code lowercase} and
+ * {@code UPPERCASE}). If a text matches both a title or alias and an example,
+ * the title or alias takes precedence.
+ *
+ * <p>A lookup is a single hash map lookup without any locks, and it allocates
+ * nothing if the given name is already in lower case without separators.
+ * Registrations replace an immutable copy of the lookup maps atomically, so
+ * lookups always see either all or none of the names of a registration. This
+ * makes registrations more expensive than lookups, which fits the common use
+ * of registering some custom {@link TextCase}s at startup and looking them up
+ * on every request.
+ *
+ * <p>An instance is thread-safe.
+ */
+public final class TextCaseRegistry {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final AtomicReference<Entries> entries = new AtomicReference<>(Entries.EMPTY);
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    /**
+     * Creates an empty {@link TextCaseRegistry}.
+     *
+     * @see #withStandards()
+     */
+    public TextCaseRegistry() {
+    }
+
+    /**
+     * Creates a {@link TextCaseRegistry} which contains all
+     * {@link StandardTextCases#ALL_STANDARD_TEXT_CASES} and the
+     * {@link StandardWordsSplitters}, with the names of their constants (for
+     * example, {@code SOFT_UPPER_CASE}).
+     *
+     * @return a new {@link TextCaseRegistry}; never null.
+     */
+    public static TextCaseRegistry withStandards() {
+        var textCaseRegistry = new TextCaseRegistry();
+        for (TextCase textCase : StandardTextCases.ALL_STANDARD_TEXT_CASES) {
+            textCaseRegistry.register(textCase);
+        }
+        textCaseRegistry.register("Spaces", StandardWordsSplitters.SPACES);
+        textCaseRegistry.register("Dash", StandardWordsSplitters.DASH);
+        textCaseRegistry.register("Underscore", StandardWordsSplitters.UNDERSCORE);
+        textCaseRegistry.register("Dot", StandardWordsSplitters.DOT);
+        textCaseRegistry.register("Strict Upper Case", StandardWordsSplitters.STRICT_UPPER_CASE);
+        textCaseRegistry.register("Soft Upper Case", StandardWordsSplitters.SOFT_UPPER_CASE);
+        textCaseRegistry.register("Mixed", StandardWordsSplitters.MIXED);
+        textCaseRegistry.register("Noop", StandardWordsSplitters.NOOP);
+        return textCaseRegistry;
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Registers the given {@code textCase} under its {@link TextCase#title()},
+     * its {@link TextCase#example()} and the given {@code aliases}.
+     *
+     * <p>Registering a {@link TextCase} again adds the new aliases to the
+     * existing ones.
+     *
+     * @param textCase the {@link TextCase} to register; never null.
+     * @param aliases  further names of the {@code textCase}; never null.
+     * @throws IllegalArgumentException if the title, the example or one of the
+     *                                  aliases is already used by another
+     *                                  {@link TextCase}, or if the title or
+     *                                  one of the aliases consists of
+     *                                  separators only.
+     */
+    public void register(TextCase textCase, String... aliases) {
+        requireNonNull(textCase);
+
+        var names = new ArrayList<String>(aliases.length + 1);
+        names.add(normalizeName(textCase.title()));
+        for (String alias : aliases) {
+            names.add(normalizeName(alias));
+        }
+        String example = textCase.example();
+        update(entries -> entries.withTextCase(textCase, names, example));
+    }
+
+    /**
+     * Removes the given {@code textCase} with all its names.
+     *
+     * @param textCase the {@link TextCase} to remove; never null.
+     * @return true if the {@code textCase} was registered; false otherwise.
+     */
+    public boolean unregister(TextCase textCase) {
+        requireNonNull(textCase);
+
+        return update(entries -> entries.withoutTextCase(textCase)) != null;
+    }
+
+    /**
+     * Registers the given {@code wordsSplitter} under the given {@code name}
+     * and {@code aliases}.
+     *
+     * <p>Registering a {@link WordsSplitter} again adds the new names to the
+     * existing ones.
+     *
+     * @param name          the name of the {@code wordsSplitter}; never null.
+     * @param wordsSplitter the {@link WordsSplitter} to register; never null.
+     * @param aliases       further names of the {@code wordsSplitter}; never
+     *                      null.
+     * @throws IllegalArgumentException if the name or one of the aliases is
+     *                                  already used by another
+     *                                  {@link WordsSplitter}, or if it consists
+     *                                  of separators only.
+     */
+    public void register(String name, WordsSplitter wordsSplitter, String... aliases) {
+        requireNonNull(wordsSplitter);
+
+        var names = new ArrayList<String>(aliases.length + 1);
+        names.add(normalizeName(name));
+        for (String alias : aliases) {
+            names.add(normalizeName(alias));
+        }
+        update(entries -> entries.withWordsSplitter(wordsSplitter, names));
+    }
+
+    /**
+     * Removes the given {@code wordsSplitter} with all its names.
+     *
+     * @param wordsSplitter the {@link WordsSplitter} to remove; never null.
+     * @return true if the {@code wordsSplitter} was registered; false
+     * otherwise.
+     */
+    public boolean unregister(WordsSplitter wordsSplitter) {
+        requireNonNull(wordsSplitter);
+
+        return update(entries -> entries.withoutWordsSplitter(wordsSplitter)) != null;
+    }
+
+    /**
+     * Finds the {@link TextCase} with the given title, alias or example.
+     *
+     * @param titleAliasOrExample the title or alias of the {@link TextCase},
+     *                            in any case and with any separators, or its
+     *                            exact example; never null.
+     * @return the found {@link TextCase}; empty if there is none.
+     */
+    public Optional<TextCase> findTextCase(String titleAliasOrExample) {
+        requireNonNull(titleAliasOrExample);
+
+        Entries entries = this.entries.get();
+        TextCase textCase = entries.textCasesByName().get(normalizeName(titleAliasOrExample));
+        if (textCase == null) {
+            textCase = entries.textCasesByExample().get(titleAliasOrExample);
+        }
+        return Optional.ofNullable(textCase);
+    }
+
+    /**
+     * Finds the {@link WordsSplitter} with the given name or alias.
+     *
+     * @param nameOrAlias the name or alias of the {@link WordsSplitter}, in
+     *                    any case and with any separators; never null.
+     * @return the found {@link WordsSplitter}; empty if there is none.
+     */
+    public Optional<WordsSplitter> findWordsSplitter(String nameOrAlias) {
+        requireNonNull(nameOrAlias);
+
+        return Optional.ofNullable(entries.get().wordsSplittersByName().get(normalizeName(nameOrAlias)));
+    }
+
+    /**
+     * The registered {@link TextCase}s.
+     *
+     * @return an unmodifiable {@link List} of the {@link TextCase}s, in the
+     * order of their first registration; never null.
+     */
+    public List<TextCase> textCases() {
+        return entries.get().textCases();
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Replaces the current entries with the result of the given
+     * {@code updater}. If another thread replaced them in the meantime, the
+     * {@code updater} gets applied again to its entries.
+     *
+     * @return the new entries; null if the {@code updater} returned null,
+     * which means there was nothing to update.
+     */
+    private Entries update(UnaryOperator<Entries> updater) {
+        while (true) {
+            Entries currentEntries = entries.get();
+            Entries newEntries = updater.apply(currentEntries);
+            if (newEntries == null || entries.compareAndSet(currentEntries, newEntries)) {
+                return newEntries;
+            }
+        }
+    }
+
+    /**
+     * Converts the given {@code name} into lower case and removes all
+     * separators. If the {@code name} already is in this form, it gets
+     * returned without creating a new {@link String}.
+     */
+    private static String normalizeName(String name) {
+        int i = 0;
+        int length = name.length();
+        while (i < length && !requiresNormalization(name.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return name;
+        }
+
+        var normalizedName = new StringBuilder(length);
+        normalizedName.append(name, 0, i);
+        for (; i < length; i++) {
+            char character = name.charAt(i);
+            if (!isNameSeparator(character)) {
+                normalizedName.append(Character.toLowerCase(character));
+            }
+        }
+        return normalizedName.toString();
+    }
+
+    private static boolean requiresNormalization(char character) {
+        return isNameSeparator(character) || Character.toLowerCase(character) != character;
+    }
+
+    private static boolean isNameSeparator(char character) {
+        return character == ' ' || character == '-' || character == '_' || character == '.';
+    }
+
+    private static <T> Map<String, T> put(Map<String, T> map, Collection<String> keys, T value, String keyDescription) {
+        var newMap = new HashMap<>(map);
+        for (String key : keys) {
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Empty " + keyDescription);
+            }
+            T existingValue = newMap.putIfAbsent(key, value);
+            if (existingValue != null && !existingValue.equals(value)) {
+                throw new IllegalArgumentException("The " + keyDescription + " '" + key + "' is already registered");
+            }
+        }
+        return Collections.unmodifiableMap(newMap);
+    }
+
+    private static <T> Map<String, T> remove(Map<String, T> map, T value) {
+        var newMap = new HashMap<>(map);
+        newMap.values().removeIf(value::equals);
+        return Collections.unmodifiableMap(newMap);
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * An immutable state of the registry.
+     */
+    private record Entries(
+            Map<String, TextCase> textCasesByName,
+            Map<String, TextCase> textCasesByExample,
+            List<TextCase> textCases,
+            Map<String, WordsSplitter> wordsSplittersByName
+    ) {
+
+        static final Entries EMPTY = new Entries(Map.of(), Map.of(), List.of(), Map.of());
+
+        Entries withTextCase(TextCase textCase, List<String> names, String example) {
+            Map<String, TextCase> newTextCasesByName = put(textCasesByName, names, textCase, "name");
+            List<String> examples = example.isEmpty() ? List.of() : List.of(example);
+            Map<String, TextCase> newTextCasesByExample = put(textCasesByExample, examples, textCase, "example");
+            List<TextCase> newTextCases = textCases;
+            if (!textCases.contains(textCase)) {
+                var textCasesCopy = new ArrayList<>(textCases);
+                textCasesCopy.add(textCase);
+                newTextCases = Collections.unmodifiableList(textCasesCopy);
+            }
+            return new Entries(newTextCasesByName, newTextCasesByExample, newTextCases, wordsSplittersByName);
+        }
+
+        Entries withoutTextCase(TextCase textCase) {
+            if (!textCases.contains(textCase)) {
+                return null;
+            }
+
+            var textCasesCopy = new ArrayList<>(textCases);
+            textCasesCopy.remove(textCase);
+            return new Entries(
+                    remove(textCasesByName, textCase),
+                    remove(textCasesByExample, textCase),
+                    Collections.unmodifiableList(textCasesCopy),
+                    wordsSplittersByName
+            );
+        }
+
+        Entries withWordsSplitter(WordsSplitter wordsSplitter, List<String> names) {
+            return new Entries(textCasesByName, textCasesByExample, textCases, put(wordsSplittersByName, names, wordsSplitter, "name"));
+        }
+
+        Entries withoutWordsSplitter(WordsSplitter wordsSplitter) {
+            if (!wordsSplittersByName.containsValue(wordsSplitter)) {
+                return null;
+            }
+            return new Entries(textCasesByName, textCasesByExample, textCases, remove(wordsSplittersByName, wordsSplitter));
+        }
+    }
+}
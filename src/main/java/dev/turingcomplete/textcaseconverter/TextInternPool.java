@@ -0,0 +1,232 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter._internal.WeakInternPool;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A pool of canonical instances of converted texts, so that equal results of
+ * conversions share a single {@link String} instance.
+ *
+ * <p>This is useful if many equal converted texts are held in memory for a
+ * long time, for example, the column or property names in a metadata cache.
+ * The conversions of a {@link TextCase} returned by
+ * {@link #interning(TextCase)} return the canonical instances:
+ * <pre>{@code
+ * var internPool = new TextInternPool();
+ * TextCase snakeCase = internPool.interning(StandardTextCases.SNAKE_CASE);
+ * snakeCase.convertFrom(StandardTextCases.SOFT_CAMEL_CASE, "userId"); // The same instance for each call
+ * }</pre>
+ *
+ * <p>In contrast to {@link String#intern()}, the pool only holds weak
+ * references. A canonical instance gets garbage collected as soon as it is no
+ * longer used outside of this pool.
+ *
+ * <p>An instance is thread-safe. The pool is divided into segments with
+ * their own locks, so that concurrent conversions rarely block each other.
+ */
+public final class TextInternPool {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final WeakInternPool pool = new WeakInternPool();
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Returns the canonical instance of the given {@code text}. If there is
+     * none yet, the {@code text} becomes the canonical instance.
+     *
+     * @param text the text; never null.
+     * @return the canonical instance which is equal to the {@code text}; never
+     * null.
+     */
+    public String intern(String text) {
+        requireNonNull(text);
+
+        return pool.intern(text);
+    }
+
+    /**
+     * Creates a view of the given {@code textCase}, whose conversion methods
+     * return the canonical instances of their results.
+     *
+     * <p>This includes the results of {@link TextCase#convertTo}, which are
+     * converted by the target {@link TextCase}. Conversions into a
+     * {@link StringBuilder} or an {@link Appendable} are delegated unchanged.
+     *
+     * @param textCase the {@link TextCase} to delegate the conversions to;
+     *                 never null.
+     * @return an interning {@link TextCase}; never null.
+     */
+    public TextCase interning(TextCase textCase) {
+        requireNonNull(textCase);
+
+        return new InterningTextCase(textCase, this);
+    }
+
+    /**
+     * Gets a snapshot of the pool statistics.
+     *
+     * @return the {@link Statistics}; never null.
+     */
+    public Statistics statistics() {
+        return new Statistics(pool.hitCount(), pool.missCount(), pool.size());
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * A snapshot of the statistics of a {@link TextInternPool}.
+     *
+     * @param hitCount  the number of texts for which a canonical instance
+     *                  already existed.
+     * @param missCount the number of texts which became a canonical instance.
+     * @param size      the number of canonical instances in the pool. This may
+     *                  include instances that were already garbage collected
+     *                  but not yet removed.
+     */
+    public record Statistics(long hitCount, long missCount, int size) {
+
+        /**
+         * The ratio of texts for which a canonical instance already existed.
+         *
+         * @return the hit rate between {@code 0} and {@code 1}; {@code 0} if
+         * there was no text yet.
+         */
+        public double hitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private record InterningTextCase(TextCase textCase, TextInternPool internPool) implements TextCase {
+
+        @Override
+        public String title() {
+            return textCase.title();
+        }
+
+        @Override
+        public String example() {
+            return textCase.example();
+        }
+
+        @Override
+        public String joinDelimiter() {
+            return textCase.joinDelimiter();
+        }
+
+        @Override
+        public WordsSplitter wordsSplitter() {
+            return textCase.wordsSplitter();
+        }
+
+        @Override
+        public String convert(String... words) {
+            return internPool.intern(textCase.convert(words));
+        }
+
+        @Override
+        public String convert(List<String> words) {
+            return internPool.intern(textCase.convert(words));
+        }
+
+        @Override
+        public String convert(List<String> words, String joinDelimiter) {
+            return internPool.intern(textCase.convert(words, joinDelimiter));
+        }
+
+        @Override
+        public String convert(String text, WordsSplitter wordsSplitter) {
+            return internPool.intern(textCase.convert(text, wordsSplitter));
+        }
+
+        @Override
+        public String convert(String text, WordsSplitter wordsSplitter, String joinDelimiter) {
+            return internPool.intern(textCase.convert(text, wordsSplitter, joinDelimiter));
+        }
+
+        @Override
+        public String convertFrom(TextCase originTextCase, String originText) {
+            return internPool.intern(textCase.convertFrom(originTextCase, originText));
+        }
+
+        @Override
+        public String convertFrom(TextCase originTextCase, String originText, String joinDelimiter) {
+            return internPool.intern(textCase.convertFrom(originTextCase, originText, joinDelimiter));
+        }
+
+        @Override
+        public String convertTo(TextCase targetTextCase, String originText) {
+            return internPool.intern(textCase.convertTo(targetTextCase, originText));
+        }
+
+        @Override
+        public String convertTo(TextCase targetTextCase, String originText, String joinDelimiter) {
+            return internPool.intern(textCase.convertTo(targetTextCase, originText, joinDelimiter));
+        }
+
+        @Override
+        public void convert(List<String> words, String joinDelimiter, StringBuilder target) {
+            textCase.convert(words, joinDelimiter, target);
+        }
+
+        @Override
+        public void convert(List<String> words, String joinDelimiter, Appendable target) throws IOException {
+            textCase.convert(words, joinDelimiter, target);
+        }
+
+        @Override
+        public String convert(CharSequence text, int[] wordSpans, String joinDelimiter) {
+            return internPool.intern(textCase.convert(text, wordSpans, joinDelimiter));
+        }
+
+        @Override
+        public void convert(CharSequence text, int[] wordSpans, String joinDelimiter, StringBuilder target) {
+            textCase.convert(text, wordSpans, joinDelimiter, target);
+        }
+
+        @Override
+        public void convert(CharSequence text, WordsSplitter wordsSplitter, String joinDelimiter, Appendable target) throws IOException {
+            textCase.convert(text, wordsSplitter, joinDelimiter, target);
+        }
+
+        @Override
+        public void convert(Reader text, WordsSplitter wordsSplitter, String joinDelimiter, Appendable target) throws IOException {
+            textCase.convert(text, wordsSplitter, joinDelimiter, target);
+        }
+
+        @Override
+        public void convertFrom(TextCase originTextCase, CharSequence originText, StringBuilder target) {
+            textCase.convertFrom(originTextCase, originText, target);
+        }
+
+        @Override
+        public List<String> convertAllTo(
+                TextCase targetTextCase,
+                Collection<String> originTexts,
+                ForkJoinPool forkJoinPool,
+                int parallelismThreshold
+        ) {
+            List<String> targetTexts = textCase.convertAllTo(targetTextCase, originTexts, forkJoinPool, parallelismThreshold);
+            var internedTargetTexts = new ArrayList<String>(targetTexts.size());
+            for (String targetText : targetTexts) {
+                internedTargetTexts.add(internPool.intern(targetText));
+            }
+            return Collections.unmodifiableList(internedTargetTexts);
+        }
+    }
+}
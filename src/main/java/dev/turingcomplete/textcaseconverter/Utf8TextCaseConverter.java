@@ -0,0 +1,323 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter._internal.AsciiBytesCharSequence;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Converts UTF-8 encoded texts from one {@link TextCase} into another, from
+ * a source {@code byte[]} or {@link ByteBuffer} into a destination
+ * {@code byte[]} or {@link ByteBuffer}.
+ *
+ * <p>This is meant for texts that are already held as UTF-8 bytes, like the
+ * field names of a serialization format:
+ * <pre>{@code
+ * var converter = new Utf8TextCaseConverter(SOFT_CAMEL_CASE, SNAKE_CASE);
+ * byte[] fieldName = converter.convert("userId".getBytes(UTF_8)); // user_id
+ * }</pre>
+ *
+ * <p>The result is the same as decoding the bytes into a {@link String},
+ * converting it with {@link TextCase#convertFrom(TextCase, String)} and
+ * encoding the result back into UTF-8, but no {@link String} gets created.
+ * If the source bytes are all ASCII characters, which is the common case for
+ * identifiers, they get split and converted as characters directly, without
+ * decoding them. Otherwise, they get decoded into a reused buffer first.
+ * Malformed UTF-8 sequences get replaced by the replacement character
+ * {@code U+FFFD}, like {@link String#String(byte[], java.nio.charset.Charset)}
+ * does. The converted text gets encoded directly into the destination, with
+ * a shortcut for ASCII characters.
+ *
+ * <p>An instance is not thread-safe, since it reuses its buffers between
+ * conversions. It should be used by a single thread at a time, for example,
+ * one per serializer or through a {@link ThreadLocal}.
+ */
+public final class Utf8TextCaseConverter {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final int INITIAL_BUFFER_SIZE = 64;
+
+    /**
+     * The maximum capacity of the reused buffers, so that a single long text
+     * does not keep large buffers alive.
+     */
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 8192;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final TextCase originTextCase;
+    private final TextCase targetTextCase;
+
+    private final AsciiBytesCharSequence asciiSourceText = new AsciiBytesCharSequence();
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                                                                 .onMalformedInput(CodingErrorAction.REPLACE)
+                                                                 .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private CharBuffer decodedSourceText = CharBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private StringBuilder convertedText = new StringBuilder(INITIAL_BUFFER_SIZE);
+    // Only used for buffers without an accessible array
+    private byte[] sourceBytes = new byte[INITIAL_BUFFER_SIZE];
+    private byte[] targetBytes = new byte[INITIAL_BUFFER_SIZE];
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    /**
+     * Creates a {@link Utf8TextCaseConverter}.
+     *
+     * @param originTextCase the {@link TextCase} of the source texts; never
+     *                       null.
+     * @param targetTextCase the {@link TextCase} to convert the source texts
+     *                       into; never null.
+     */
+    public Utf8TextCaseConverter(TextCase originTextCase, TextCase targetTextCase) {
+        this.originTextCase = requireNonNull(originTextCase);
+        this.targetTextCase = requireNonNull(targetTextCase);
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Converts the given UTF-8 encoded {@code source} text.
+     *
+     * @param source the UTF-8 encoded text to convert; never null.
+     * @return the UTF-8 encoded converted text; never null.
+     */
+    public byte[] convert(byte[] source) {
+        requireNonNull(source);
+
+        return convert(source, 0, source.length);
+    }
+
+    /**
+     * Converts the UTF-8 encoded text in the given range of the
+     * {@code source}.
+     *
+     * @param source the bytes containing the UTF-8 encoded text to convert;
+     *               never null.
+     * @param offset the index of the first byte of the text.
+     * @param length the number of bytes of the text.
+     * @return the UTF-8 encoded converted text; never null.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *                                   the {@code source}.
+     */
+    public byte[] convert(byte[] source, int offset, int length) {
+        requireNonNull(source);
+        Objects.checkFromIndexSize(offset, length, source.length);
+
+        try {
+            CharSequence converted = convertToCharacters(source, offset, length);
+            var target = new byte[utf8Length(converted)];
+            encode(converted, target, 0);
+            return target;
+        } finally {
+            releaseBuffers();
+        }
+    }
+
+    /**
+     * Converts the UTF-8 encoded text in the given range of the
+     * {@code source} into the {@code target}, starting at the
+     * {@code targetOffset}.
+     *
+     * @param source       the bytes containing the UTF-8 encoded text to
+     *                     convert; never null.
+     * @param sourceOffset the index of the first byte of the text.
+     * @param sourceLength the number of bytes of the text.
+     * @param target       the bytes to write the UTF-8 encoded converted text
+     *                     into; never null. May be the same array as the
+     *                     {@code source}.
+     * @param targetOffset the index of the first byte to write.
+     * @return the number of written bytes.
+     * @throws IndexOutOfBoundsException if a range is out of the bounds of its
+     *                                   array.
+     * @throws BufferOverflowException   if the converted text does not fit
+     *                                   into the {@code target}. Nothing gets
+     *                                   written in this case.
+     */
+    public int convert(byte[] source, int sourceOffset, int sourceLength, byte[] target, int targetOffset) {
+        requireNonNull(source);
+        requireNonNull(target);
+        Objects.checkFromIndexSize(sourceOffset, sourceLength, source.length);
+        Objects.checkIndex(targetOffset, target.length + 1);
+
+        try {
+            CharSequence converted = convertToCharacters(source, sourceOffset, sourceLength);
+            int convertedLength = utf8Length(converted);
+            if (convertedLength > target.length - targetOffset) {
+                throw new BufferOverflowException();
+            }
+            encode(converted, target, targetOffset);
+            return convertedLength;
+        } finally {
+            releaseBuffers();
+        }
+    }
+
+    /**
+     * Converts the UTF-8 encoded text in the remaining bytes of the
+     * {@code source} into the {@code target}.
+     *
+     * <p>The position of the {@code source} gets moved to its limit, and the
+     * position of the {@code target} gets moved behind the written bytes.
+     *
+     * @param source the UTF-8 encoded text to convert; never null.
+     * @param target the {@link ByteBuffer} to write the UTF-8 encoded
+     *               converted text into; never null.
+     * @throws BufferOverflowException if the converted text does not fit into
+     *                                 the remaining bytes of the
+     *                                 {@code target}. Nothing gets written and
+     *                                 the positions remain unchanged in this
+     *                                 case.
+     */
+    public void convert(ByteBuffer source, ByteBuffer target) {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        try {
+            int sourceLength = source.remaining();
+            CharSequence converted;
+            if (source.hasArray()) {
+                converted = convertToCharacters(source.array(), source.arrayOffset() + source.position(), sourceLength);
+            } else {
+                if (sourceBytes.length < sourceLength) {
+                    sourceBytes = new byte[sourceLength];
+                }
+                source.get(source.position(), sourceBytes, 0, sourceLength);
+                converted = convertToCharacters(sourceBytes, 0, sourceLength);
+            }
+
+            int convertedLength = utf8Length(converted);
+            if (convertedLength > target.remaining()) {
+                throw new BufferOverflowException();
+            }
+            if (target.hasArray()) {
+                encode(converted, target.array(), target.arrayOffset() + target.position());
+                target.position(target.position() + convertedLength);
+            } else {
+                if (targetBytes.length < convertedLength) {
+                    targetBytes = new byte[convertedLength];
+                }
+                encode(converted, targetBytes, 0);
+                target.put(targetBytes, 0, convertedLength);
+            }
+            source.position(source.limit());
+        } finally {
+            releaseBuffers();
+        }
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private CharSequence convertToCharacters(byte[] source, int offset, int length) {
+        CharSequence sourceText;
+        if (AsciiBytesCharSequence.isAscii(source, offset, length)) {
+            sourceText = asciiSourceText.reset(source, offset, length);
+        } else {
+            sourceText = decode(source, offset, length);
+        }
+
+        convertedText.setLength(0);
+        targetTextCase.convertFrom(originTextCase, sourceText, convertedText);
+        return convertedText;
+    }
+
+    private CharSequence decode(byte[] source, int offset, int length) {
+        // UTF-8 never decodes into more characters than bytes
+        if (decodedSourceText.capacity() < length) {
+            decodedSourceText = CharBuffer.allocate(length);
+        }
+        decodedSourceText.clear();
+        decoder.reset();
+        decoder.decode(ByteBuffer.wrap(source, offset, length), decodedSourceText, true);
+        decoder.flush(decodedSourceText);
+        return decodedSourceText.flip();
+    }
+
+    private void releaseBuffers() {
+        asciiSourceText.clear();
+        if (convertedText.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+            convertedText = new StringBuilder(INITIAL_BUFFER_SIZE);
+        }
+        if (decodedSourceText.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+            decodedSourceText = CharBuffer.allocate(INITIAL_BUFFER_SIZE);
+        }
+        if (sourceBytes.length > MAX_RETAINED_BUFFER_CAPACITY) {
+            sourceBytes = new byte[INITIAL_BUFFER_SIZE];
+        }
+        if (targetBytes.length > MAX_RETAINED_BUFFER_CAPACITY) {
+            targetBytes = new byte[INITIAL_BUFFER_SIZE];
+        }
+    }
+
+    /**
+     * @return the number of bytes of the given {@code text} in UTF-8. An
+     * unpaired surrogate counts as one byte for the replacement {@code ?},
+     * like in {@link String#getBytes(java.nio.charset.Charset)}.
+     */
+    private static int utf8Length(CharSequence text) {
+        int length = text.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            char character = text.charAt(i);
+            if (character < 0x80) {
+                continue;
+            }
+
+            if (character < 0x800) {
+                utf8Length += 1;
+            } else if (Character.isHighSurrogate(character) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                // Four bytes for the two characters
+                utf8Length += 2;
+                i++;
+            } else if (!Character.isSurrogate(character)) {
+                utf8Length += 2;
+            }
+        }
+        return utf8Length;
+    }
+
+    private static void encode(CharSequence text, byte[] target, int offset) {
+        int length = text.length();
+        int i = 0;
+        int targetIndex = offset;
+        // Shortcut for the leading ASCII characters
+        while (i < length) {
+            char character = text.charAt(i);
+            if (character >= 0x80) {
+                break;
+            }
+            target[targetIndex++] = (byte) character;
+            i++;
+        }
+
+        while (i < length) {
+            char character = text.charAt(i++);
+            if (character < 0x80) {
+                target[targetIndex++] = (byte) character;
+            } else if (character < 0x800) {
+                target[targetIndex++] = (byte) (0xC0 | (character >> 6));
+                target[targetIndex++] = (byte) (0x80 | (character & 0x3F));
+            } else if (Character.isHighSurrogate(character) && i < length && Character.isLowSurrogate(text.charAt(i))) {
+                int codePoint = Character.toCodePoint(character, text.charAt(i++));
+                target[targetIndex++] = (byte) (0xF0 | (codePoint >> 18));
+                target[targetIndex++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                target[targetIndex++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                target[targetIndex++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(character)) {
+                target[targetIndex++] = '?';
+            } else {
+                target[targetIndex++] = (byte) (0xE0 | (character >> 12));
+                target[targetIndex++] = (byte) (0x80 | ((character >> 6) & 0x3F));
+                target[targetIndex++] = (byte) (0x80 | (character & 0x3F));
+            }
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
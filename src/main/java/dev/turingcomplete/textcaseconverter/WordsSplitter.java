@@ -1,12 +1,12 @@
 package dev.turingcomplete.textcaseconverter;
 
-import java.util.Arrays;
+import dev.turingcomplete.textcaseconverter._internal.PatternWordsSplitter;
+import dev.turingcomplete.textcaseconverter._internal.StringWordsSplitter;
+
 import java.util.List;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
-import static java.util.function.Predicate.not;
-
 /**
  * A utility to split a text into its words.
  */
@@ -26,30 +26,120 @@ public interface WordsSplitter {
      */
     List<String> split(String text);
 
+    /**
+     * Splits the given {@code text} into words using the delimiting strategy
+     * defined in this {@link WordsSplitter} implementation, and passes each
+     * word to the given {@code wordConsumer}.
+     *
+     * <p>In contrast to {@link #split(String)}, no {@link List} of the words
+     * needs to be created. The {@link WordsSplitter}s of this library also pass
+     * the words as ranges of the given {@code text}, without cutting them out.
+     *
+     * <p>The default implementation delegates to {@link #split(String)}.
+     *
+     * @param text         the {@link CharSequence} to be split; never null.
+     * @param wordConsumer the {@link WordConsumer} which will get called for
+     *                     each word in the order of their occurrence; never
+     *                     null.
+     */
+    default void split(CharSequence text, WordConsumer wordConsumer) {
+        Objects.requireNonNull(text);
+        Objects.requireNonNull(wordConsumer);
+
+        for (String word : split(text.toString())) {
+            wordConsumer.accept(word, 0, word.length());
+        }
+    }
+
+    /**
+     * Splits the given {@code text} into words using the delimiting strategy
+     * defined in this {@link WordsSplitter} implementation, and returns the
+     * words as index ranges of the {@code text}.
+     *
+     * <p>The returned array contains two elements per word: the inclusive start
+     * index followed by the exclusive end index of the word in the given
+     * {@code text}. For example, splitting {@code "foo bar"} by spaces results
+     * in {@code [0, 3, 4, 7]}. In contrast to {@link #split(String)}, no
+     * {@link String} gets created for the words.
+     *
+     * <p>The default implementation delegates to {@link #split(String)} and
+     * searches each word in the {@code text}, starting after the previous word.
+     *
+     * @param text the {@link CharSequence} to be split; never null.
+     * @return an array with the start and end index of each word, in the order
+     * of their occurrence; never null.
+     * @throws IllegalStateException if a word of {@link #split(String)} is not
+     *                               a part of the {@code text}.
+     * @see TextCase#convert(CharSequence, int[], String)
+     */
+    default int[] splitToSpans(CharSequence text) {
+        Objects.requireNonNull(text);
+
+        String textString = text.toString();
+        List<String> words = split(textString);
+        var wordSpans = new int[words.size() * 2];
+        int searchIndex = 0;
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            int start = textString.indexOf(word, searchIndex);
+            if (start < 0) {
+                throw new IllegalStateException("Word is not a part of the text: " + word);
+            }
+            searchIndex = start + word.length();
+            wordSpans[i * 2] = start;
+            wordSpans[i * 2 + 1] = searchIndex;
+        }
+        return wordSpans;
+    }
+
     /**
      * Creates a {@link WordsSplitter} which splits a text around the given
-     * {@link Pattern}.
+     * {@link Pattern}. Blank words will be omitted.
      *
      * @param pattern the delimiting {@link Pattern}; never null.
      * @return a {@link WordsSplitter}; never null.
      */
     static WordsSplitter splitByPattern(Pattern pattern) {
         Objects.requireNonNull(pattern);
-        return text -> Arrays.stream(text.split(pattern.pattern())).filter(not(String::isBlank)).toList();
+        return new PatternWordsSplitter(pattern);
     }
 
     /**
      * Creates a {@link WordsSplitter} which splits a text around the given
-     * {@link String}.
+     * {@link String}. Blank words will be omitted.
      *
      * @param string the delimiting {@link String}; never null.
      * @return a {@link WordsSplitter}; never null.
      */
     static WordsSplitter splitByString(String string) {
         Objects.requireNonNull(string);
-        return text -> Arrays.stream(text.split(Pattern.quote(string))).filter(not(String::isBlank)).toList();
+        if (string.isEmpty()) {
+            // An empty delimiter splits around every character
+            return splitByPattern(Pattern.compile(Pattern.quote(string)));
+        }
+        return new StringWordsSplitter(string);
     }
 
     // -- Private Methods ------------------------------------------------------------------------------------------- //
+
     // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * Consumes the words found by {@link WordsSplitter#split(CharSequence, WordConsumer)}.
+     */
+    @FunctionalInterface
+    interface WordConsumer {
+
+        /**
+         * Gets called for a word, which is the range from {@code start} to
+         * {@code end} of the given {@code text}.
+         *
+         * <p>The {@code text} may only be valid during this call.
+         *
+         * @param text  the text containing the word; never null.
+         * @param start the inclusive start index of the word.
+         * @param end   the exclusive end index of the word.
+         */
+        void accept(CharSequence text, int start, int end);
+    }
 }
@@ -0,0 +1,117 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter._internal.CharacterClassWordsSplitter;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A builder for a {@link WordsSplitter} that splits a text, which may mix
+ * several {@link TextCase}s, in a single pass.
+ *
+ * <p>A new word can start at any of the given delimiters, at upper case
+ * characters and at transitions between letters and digits. For example,
+ * {@code user_firstName-v2.id} can be split into {@code user},
+ * {@code first}, {@code Name}, {@code v}, {@code 2} and {@code id} by:
+ * <pre>{@code
+ * WordsSplitter wordsSplitter = new WordsSplitterBuilder()
+ *         .delimiters("_-.")
+ *         .upperCaseSplitting(UpperCaseSplitting.SOFT)
+ *         .letterDigitSplitting(true)
+ *         .build();
+ * }</pre>
+ *
+ * <p>The result is the same as splitting the text by each delimiter (like
+ * {@link StandardWordsSplitters#DASH}), and then each word by
+ * {@link StandardWordsSplitters#SOFT_UPPER_CASE} or
+ * {@link StandardWordsSplitters#STRICT_UPPER_CASE}, but without creating the
+ * intermediate words. The splitting is driven by a precomputed table of the
+ * character classes of the ASCII characters and of the transitions between
+ * them, which start a new word.
+ */
+public final class WordsSplitterBuilder {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private String delimiters = "";
+    private UpperCaseSplitting upperCaseSplitting = UpperCaseSplitting.NONE;
+    private boolean letterDigitSplitting = false;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Sets the characters that separate words. Each character is a delimiter
+     * on its own, and a sequence of them separates two words only once. Blank
+     * words will be omitted. By default, there are no delimiters.
+     *
+     * @param delimiters the delimiting characters; never null.
+     * @return this {@link WordsSplitterBuilder}; never null.
+     */
+    public WordsSplitterBuilder delimiters(String delimiters) {
+        this.delimiters = requireNonNull(delimiters);
+        return this;
+    }
+
+    /**
+     * Sets at which upper case characters a new word starts. By default, upper
+     * case characters do not start a new word.
+     *
+     * @param upperCaseSplitting the {@link UpperCaseSplitting}; never null.
+     * @return this {@link WordsSplitterBuilder}; never null.
+     */
+    public WordsSplitterBuilder upperCaseSplitting(UpperCaseSplitting upperCaseSplitting) {
+        this.upperCaseSplitting = requireNonNull(upperCaseSplitting);
+        return this;
+    }
+
+    /**
+     * Sets whether a new word starts at a digit that follows a letter, and at
+     * a letter that follows a digit. By default, it does not.
+     *
+     * @param letterDigitSplitting whether to split between letters and digits.
+     * @return this {@link WordsSplitterBuilder}; never null.
+     */
+    public WordsSplitterBuilder letterDigitSplitting(boolean letterDigitSplitting) {
+        this.letterDigitSplitting = letterDigitSplitting;
+        return this;
+    }
+
+    /**
+     * Creates the {@link WordsSplitter}.
+     *
+     * @return a new {@link WordsSplitter}; never null.
+     */
+    public WordsSplitter build() {
+        int upperCaseSplittingMode = switch (upperCaseSplitting) {
+            case NONE -> CharacterClassWordsSplitter.UPPER_CASE_NONE;
+            case SOFT -> CharacterClassWordsSplitter.UPPER_CASE_SOFT;
+            case STRICT -> CharacterClassWordsSplitter.UPPER_CASE_STRICT;
+        };
+        return new CharacterClassWordsSplitter(delimiters.codePoints().toArray(), upperCaseSplittingMode, letterDigitSplitting);
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * The upper case characters at which a new word starts.
+     */
+    public enum UpperCaseSplitting {
+        /**
+         * Upper case characters do not start a new word.
+         */
+        NONE,
+
+        /**
+         * An upper case character starts a new word if the previous character
+         * is not in upper case, like {@link StandardWordsSplitters#SOFT_UPPER_CASE}.
+         */
+        SOFT,
+
+        /**
+         * Every upper case character starts a new word, like
+         * {@link StandardWordsSplitters#STRICT_UPPER_CASE}.
+         */
+        STRICT
+    }
+}
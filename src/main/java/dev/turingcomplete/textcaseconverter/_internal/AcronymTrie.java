@@ -0,0 +1,205 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable trie of acronyms, which are matched ignoring the case of their
+ * characters.
+ *
+ * <p>The nodes are numbered in breadth-first order and stored in flat
+ * arrays: the outgoing edges of a node are a contiguous range of
+ * {@link #edgeCharacters} and {@link #edgeTargets}, sorted by their lower
+ * case character. Following an edge is a binary search in that range, which
+ * is usually only a few characters long.
+ *
+ * <p>An instance is immutable and thread-safe.
+ */
+public final class AcronymTrie {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    public static final int ROOT = 0;
+    public static final int NO_NODE = -1;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    /**
+     * The index of the first edge of each node, with an additional last
+     * element, so that the edges of the node {@code n} are the range from
+     * {@code firstEdges[n]} to {@code firstEdges[n + 1]}.
+     */
+    private final int[] firstEdges;
+    private final char[] edgeCharacters;
+    private final int[] edgeTargets;
+    /**
+     * The acronym which ends at each node, or null.
+     */
+    private final String[] acronyms;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    /**
+     * Creates an {@link AcronymTrie}.
+     *
+     * @param acronyms the acronyms in their preferred spelling; never null.
+     *                 Must not contain empty acronyms, acronyms which start
+     *                 with a lower case character, or acronyms which only
+     *                 differ in their case.
+     * @throws IllegalArgumentException if an acronym is empty, starts with a
+     *                                  lower case character, or if two
+     *                                  acronyms only differ in their case.
+     */
+    public AcronymTrie(Collection<String> acronyms) {
+        requireNonNull(acronyms);
+
+        var root = new BuilderNode();
+        int nodesCount = 1;
+        int edgesCount = 0;
+        for (String acronym : acronyms) {
+            requireNonNull(acronym);
+            if (acronym.isEmpty()) {
+                throw new IllegalArgumentException("Empty acronym");
+            }
+            if (!CaseMapping.DEFAULT.isUpperCase(acronym.codePointAt(0))) {
+                // The words splitter could not split it from a previous word
+                throw new IllegalArgumentException("The acronym '" + acronym + "' starts with a lower case character");
+            }
+
+            BuilderNode node = root;
+            for (int i = 0; i < acronym.length(); i++) {
+                char character = Character.toLowerCase(acronym.charAt(i));
+                BuilderNode child = node.children.get(character);
+                if (child == null) {
+                    child = new BuilderNode();
+                    node.children.put(character, child);
+                    nodesCount++;
+                    edgesCount++;
+                }
+                node = child;
+            }
+            if (node.acronym != null) {
+                throw new IllegalArgumentException("The acronym '" + acronym + "' is already registered as '" + node.acronym + "'");
+            }
+            node.acronym = acronym;
+        }
+
+        firstEdges = new int[nodesCount + 1];
+        edgeCharacters = new char[edgesCount];
+        edgeTargets = new int[edgesCount];
+        this.acronyms = new String[nodesCount];
+
+        // Since the nodes are numbered in the order they are visited, the
+        // children of a node get the next free numbers
+        var queue = new ArrayDeque<BuilderNode>();
+        queue.add(root);
+        int nodeIndex = 0;
+        int nextNodeIndex = 1;
+        int edgeIndex = 0;
+        while (!queue.isEmpty()) {
+            BuilderNode node = queue.poll();
+            this.acronyms[nodeIndex] = node.acronym;
+            firstEdges[nodeIndex] = edgeIndex;
+            for (Map.Entry<Character, BuilderNode> child : node.children.entrySet()) {
+                edgeCharacters[edgeIndex] = child.getKey();
+                edgeTargets[edgeIndex] = nextNodeIndex++;
+                edgeIndex++;
+                queue.add(child.getValue());
+            }
+            nodeIndex++;
+        }
+        firstEdges[nodesCount] = edgesCount;
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Follows the edge of the given {@code node} for the given
+     * {@code character}, ignoring its case.
+     *
+     * @return the node at the end of the edge; {@link #NO_NODE} if there is
+     * no such edge.
+     */
+    public int child(int node, char character) {
+        char lowerCaseCharacter = Character.toLowerCase(character);
+        int low = firstEdges[node];
+        int high = firstEdges[node + 1] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char edgeCharacter = edgeCharacters[middle];
+            if (edgeCharacter < lowerCaseCharacter) {
+                low = middle + 1;
+            } else if (edgeCharacter > lowerCaseCharacter) {
+                high = middle - 1;
+            } else {
+                return edgeTargets[middle];
+            }
+        }
+        return NO_NODE;
+    }
+
+    /**
+     * @return whether the given {@code node} has outgoing edges, so that a
+     * longer acronym may match.
+     */
+    public boolean hasChildren(int node) {
+        return firstEdges[node] != firstEdges[node + 1];
+    }
+
+    /**
+     * @return the acronym in its preferred spelling which ends at the given
+     * {@code node}; null if no acronym ends there.
+     */
+    public String acronym(int node) {
+        return acronyms[node];
+    }
+
+    /**
+     * Finds the acronym which is the range from {@code start} to {@code end}
+     * of the given {@code text}, ignoring its case.
+     *
+     * @return the acronym in its preferred spelling; null if the range is not
+     * an acronym.
+     */
+    public String find(CharSequence text, int start, int end) {
+        int node = ROOT;
+        for (int i = start; i < end && node != NO_NODE; i++) {
+            node = child(node, text.charAt(i));
+        }
+        return node == NO_NODE ? null : acronyms[node];
+    }
+
+    /**
+     * @return all acronyms in their preferred spelling, in the order of their
+     * lower case characters; never null.
+     */
+    public List<String> acronyms() {
+        var result = new ArrayList<String>();
+        collectAcronyms(ROOT, result);
+        return result;
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private void collectAcronyms(int node, List<String> result) {
+        if (acronyms[node] != null) {
+            result.add(acronyms[node]);
+        }
+        for (int edge = firstEdges[node]; edge < firstEdges[node + 1]; edge++) {
+            collectAcronyms(edgeTargets[edge], result);
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private static final class BuilderNode {
+
+        private final TreeMap<Character, BuilderNode> children = new TreeMap<>();
+        private String acronym;
+    }
+}
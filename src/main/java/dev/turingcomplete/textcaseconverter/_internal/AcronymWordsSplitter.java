@@ -0,0 +1,134 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Splits a text around upper case characters like the soft mode of the
+ * {@link UpperCaseWordsSplitter}, but keeps known acronyms as separate words.
+ *
+ * <p>At the start of each word, the {@link AcronymTrie} gets searched for
+ * the longest acronym starting there, which is not followed by a lower case
+ * character. If there is one, it becomes a word of its own, and the next
+ * word starts right after it. Otherwise, the word continues until an upper
+ * case character follows a character that is not in upper case. For
+ * example, with the acronym {@code HTTP}, {@code parseHTTPRequest} gets
+ * split into {@code parse}, {@code HTTP} and {@code Request}, instead of
+ * {@code parse} and {@code HTTPRequest}.
+ *
+ * <p>The acronyms get matched during the same scan over the characters that
+ * finds the case boundaries, so the splitting stays linear in the length of
+ * the text. The split of a word only depends on the characters from its
+ * start, which makes it possible to continue an incremental splitting at the
+ * start of any word.
+ */
+public final class AcronymWordsSplitter extends WordRangesSplitter {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final int NO_ACRONYM = -1;
+    private static final int MORE_TEXT_NEEDED = -2;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final AcronymTrie acronymTrie;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    public AcronymWordsSplitter(AcronymTrie acronymTrie) {
+        this.acronymTrie = requireNonNull(acronymTrie);
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Override
+    public int split(CharSequence text, int start, int end, boolean startOfText, boolean endOfText, WordConsumer wordConsumer) {
+        int wordStart = start;
+        while (wordStart < end) {
+            int acronymEnd = matchAcronym(text, wordStart, end, endOfText);
+            if (acronymEnd == MORE_TEXT_NEEDED) {
+                return wordStart;
+            }
+            if (acronymEnd != NO_ACRONYM) {
+                wordConsumer.accept(text, wordStart, acronymEnd);
+                wordStart = acronymEnd;
+                continue;
+            }
+
+            int wordEnd = findWordEnd(text, wordStart, end, startOfText && wordStart == start, endOfText);
+            if (wordEnd == MORE_TEXT_NEEDED) {
+                return wordStart;
+            }
+            wordConsumer.accept(text, wordStart, wordEnd);
+            wordStart = wordEnd;
+        }
+        return end;
+    }
+
+    /**
+     * @return the end of the longest acronym at {@code wordStart}, which is
+     * not followed by a lower case character; {@link #NO_ACRONYM} if there is
+     * none; or {@link #MORE_TEXT_NEEDED} if this depends on the characters
+     * after {@code end}.
+     */
+    private int matchAcronym(CharSequence text, int wordStart, int end, boolean endOfText) {
+        int longestAcronymEnd = NO_ACRONYM;
+        int node = AcronymTrie.ROOT;
+        int i = wordStart;
+        while (true) {
+            if (i > wordStart && acronymTrie.acronym(node) != null) {
+                if (i == end) {
+                    if (!endOfText) {
+                        return MORE_TEXT_NEEDED;
+                    }
+                    longestAcronymEnd = i;
+                } else if (!endOfText && i + 1 == end && Character.isHighSurrogate(text.charAt(i))) {
+                    // The low surrogate may be the next character
+                    return MORE_TEXT_NEEDED;
+                } else if (!Character.isLowerCase(TextUtilities.codePointAt(text, i, end))) {
+                    longestAcronymEnd = i;
+                }
+            }
+
+            if (i == end) {
+                return !endOfText && acronymTrie.hasChildren(node) ? MORE_TEXT_NEEDED : longestAcronymEnd;
+            }
+            node = acronymTrie.child(node, text.charAt(i));
+            if (node == AcronymTrie.NO_NODE) {
+                return longestAcronymEnd;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * @param startOfText whether the word is at the beginning of the text.
+     * @return the end of the word at {@code wordStart}, which is the next
+     * upper case character after a character that is not in upper case; or
+     * {@link #MORE_TEXT_NEEDED} if this depends on the characters after
+     * {@code end}.
+     */
+    private static int findWordEnd(CharSequence text, int wordStart, int end, boolean startOfText, boolean endOfText) {
+        int i = wordStart;
+        boolean previousCharacterWasUppercase = true;
+        while (i < end) {
+            if (!endOfText && i + 1 == end && Character.isHighSurrogate(text.charAt(i))) {
+                // The low surrogate may be the next character
+                return MORE_TEXT_NEEDED;
+            }
+
+            int codePoint = TextUtilities.codePointAt(text, i, end);
+            boolean isUpperCase = CaseMapping.DEFAULT.isUpperCase(codePoint);
+            if (i == wordStart) {
+                // The first character never starts a new word. Like in the
+                // UpperCaseWordsSplitter, the first character of the text is
+                // only upper case if it has a lower case mapping.
+                previousCharacterWasUppercase = startOfText ? Character.isUpperCase(codePoint) : isUpperCase;
+            } else if (isUpperCase && !previousCharacterWasUppercase) {
+                return i;
+            } else {
+                previousCharacterWasUppercase = isUpperCase;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return endOfText ? end : MORE_TEXT_NEEDED;
+    }
+}
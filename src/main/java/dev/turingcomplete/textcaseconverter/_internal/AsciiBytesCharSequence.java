@@ -0,0 +1,90 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link CharSequence} view of a range of ASCII bytes, so that they can be
+ * processed as characters without decoding them.
+ *
+ * <p>The view can be reset to another range, so that a single instance can
+ * be reused. The bytes are not copied; changes of them are visible through
+ * the view.
+ */
+public final class AsciiBytesCharSequence implements CharSequence {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final byte[] EMPTY_BYTES = new byte[0];
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private byte[] bytes = EMPTY_BYTES;
+    private int offset = 0;
+    private int length = 0;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Checks if all bytes in the given range are ASCII characters.
+     *
+     * @param bytes  the bytes to check; never null.
+     * @param offset the index of the first byte.
+     * @param length the number of bytes.
+     * @return true if no byte has its highest bit set; false otherwise.
+     */
+    public static boolean isAscii(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (bytes[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets the viewed range, which must only contain ASCII characters (see
+     * {@link #isAscii(byte[], int, int)}).
+     *
+     * @return this {@link AsciiBytesCharSequence}; never null.
+     */
+    public AsciiBytesCharSequence reset(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    /**
+     * Releases the viewed bytes.
+     */
+    public void clear() {
+        reset(EMPTY_BYTES, 0, 0);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        return (char) bytes[offset + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + length);
+        }
+        return new AsciiBytesCharSequence().reset(bytes, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.US_ASCII);
+    }
+}
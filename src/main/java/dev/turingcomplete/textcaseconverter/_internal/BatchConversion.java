@@ -0,0 +1,153 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import dev.turingcomplete.textcaseconverter.TextCase;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Converts a batch of texts between two {@link TextCase}s, in parallel if
+ * the batch is large enough.
+ */
+public final class BatchConversion {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    /**
+     * The number of tasks per thread of the {@link ForkJoinPool}. More tasks
+     * than threads balance out texts of different lengths.
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private BatchConversion() {
+        throw new UnsupportedOperationException();
+    }
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Converts all {@code originTexts} from the {@code originTextCase} to the
+     * {@code targetTextCase}.
+     *
+     * <p>If there are fewer {@code originTexts} than the
+     * {@code parallelismThreshold}, they get converted in the calling thread.
+     * Otherwise, they get divided into chunks of at most
+     * {@code parallelismThreshold} texts, which get converted in the given
+     * {@code forkJoinPool}. Each chunk reuses a single {@link StringBuilder}.
+     *
+     * @param originTextCase       the {@link TextCase} of the
+     *                             {@code originTexts}; never null.
+     * @param targetTextCase       the {@link TextCase} to convert into; never
+     *                             null.
+     * @param originTexts          the texts to convert; never null.
+     * @param forkJoinPool         the {@link ForkJoinPool} for the parallel
+     *                             conversion; never null.
+     * @param parallelismThreshold the minimum number of texts for a parallel
+     *                             conversion; must be positive.
+     * @return an unmodifiable {@link List} of the converted texts, in the
+     * order of the {@code originTexts}; never null.
+     */
+    public static List<String> convertAll(
+            TextCase originTextCase,
+            TextCase targetTextCase,
+            Collection<String> originTexts,
+            ForkJoinPool forkJoinPool,
+            int parallelismThreshold
+    ) {
+        requireNonNull(originTextCase);
+        requireNonNull(targetTextCase);
+        requireNonNull(forkJoinPool);
+        if (parallelismThreshold <= 0) {
+            throw new IllegalArgumentException("Parallelism threshold must be positive: " + parallelismThreshold);
+        }
+
+        String[] texts = originTexts.toArray(String[]::new);
+        for (String text : texts) {
+            requireNonNull(text);
+        }
+        var results = new String[texts.length];
+
+        if (texts.length < parallelismThreshold) {
+            convertRange(originTextCase, targetTextCase, texts, 0, texts.length, results);
+        } else {
+            int tasksCount = forkJoinPool.getParallelism() * TASKS_PER_THREAD;
+            int chunkSize = Math.max(1, Math.min(parallelismThreshold, (texts.length + tasksCount - 1) / tasksCount));
+            forkJoinPool.invoke(new ConversionTask(originTextCase, targetTextCase, texts, 0, texts.length, chunkSize, results));
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private static void convertRange(
+            TextCase originTextCase,
+            TextCase targetTextCase,
+            String[] texts,
+            int start,
+            int end,
+            String[] results
+    ) {
+        var scratch = new StringBuilder();
+        for (int i = start; i < end; i++) {
+            scratch.setLength(0);
+            targetTextCase.convertFrom(originTextCase, texts[i], scratch);
+            results[i] = scratch.toString();
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private static final class ConversionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient TextCase originTextCase;
+        private final transient TextCase targetTextCase;
+        private final String[] texts;
+        private final int start;
+        private final int end;
+        private final int chunkSize;
+        private final String[] results;
+
+        private ConversionTask(
+                TextCase originTextCase,
+                TextCase targetTextCase,
+                String[] texts,
+                int start,
+                int end,
+                int chunkSize,
+                String[] results
+        ) {
+            this.originTextCase = originTextCase;
+            this.targetTextCase = targetTextCase;
+            this.texts = texts;
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= chunkSize) {
+                convertRange(originTextCase, targetTextCase, texts, start, end, results);
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+            invokeAll(
+                    new ConversionTask(originTextCase, targetTextCase, texts, start, middle, chunkSize, results),
+                    new ConversionTask(originTextCase, targetTextCase, texts, middle, end, chunkSize, results)
+            );
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import dev.turingcomplete.textcaseconverter.Configuration;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Converts characters, code points and texts to lower or upper case with a
+ * specific {@link Locale}.
+ *
+ * <p>All methods behave identically to {@link String#toLowerCase(Locale)} and
+ * {@link String#toUpperCase(Locale)} called with the respective character,
+ * code point or text as a {@link String}. But to avoid creating
+ * {@link String}s, there are two fast paths:
+ * <ul>
+ *     <li>ASCII characters and texts get converted by a precomputed table.</li>
+ *     <li>If the {@link Locale} has no language-specific case mappings (i.e.,
+ *     it is not Turkish, Azerbaijani or Lithuanian), single characters and
+ *     code points get converted by {@link Character#toLowerCase(int)} and
+ *     {@link Character#toUpperCase(int)}, except for the few ones with a
+ *     special case mapping in the Unicode standard (e.g., the German sharp s
+ *     becomes {@code SS}).</li>
+ * </ul>
+ *
+ * <p>Non-ASCII texts are always converted by the {@link String} methods,
+ * which are faster for whole words than a conversion code point by code
+ * point.
+ *
+ * <p>An instance is immutable and thread-safe.
+ */
+public final class CaseMapping {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final int ASCII_TABLE_SIZE = 128;
+
+    /**
+     * Marks an ASCII character whose case conversion with the {@link Locale}
+     * does not result in exactly one character.
+     */
+    private static final char NO_SINGLE_CHARACTER_MAPPING = Character.MAX_VALUE;
+
+    /**
+     * The languages with conditional case mappings in the Unicode standard.
+     */
+    private static final Set<String> LANGUAGES_WITH_SPECIAL_CASE_MAPPINGS = Set.of("tr", "az", "lt");
+
+    /**
+     * The {@link CaseMapping} with the {@link Locale}s of the
+     * {@link Configuration}.
+     */
+    public static final CaseMapping DEFAULT = new CaseMapping(Configuration.TO_LOWER_CASE_LOCALE, Configuration.TO_UPPER_CASE_LOCALE);
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final Locale toLowerCaseLocale;
+    private final Locale toUpperCaseLocale;
+    private final char[] asciiToLowerCase;
+    private final char[] asciiToUpperCase;
+    private final boolean characterToLowerCase;
+    private final boolean characterToUpperCase;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    /**
+     * Creates a {@link CaseMapping}.
+     *
+     * @param toLowerCaseLocale the {@link Locale} for conversions to lower
+     *                          case; never null.
+     * @param toUpperCaseLocale the {@link Locale} for conversions to upper
+     *                          case; never null.
+     */
+    public CaseMapping(Locale toLowerCaseLocale, Locale toUpperCaseLocale) {
+        this.toLowerCaseLocale = requireNonNull(toLowerCaseLocale);
+        this.toUpperCaseLocale = requireNonNull(toUpperCaseLocale);
+
+        asciiToLowerCase = createAsciiTable(toLowerCaseLocale, false);
+        asciiToUpperCase = createAsciiTable(toUpperCaseLocale, true);
+        characterToLowerCase = !LANGUAGES_WITH_SPECIAL_CASE_MAPPINGS.contains(toLowerCaseLocale.getLanguage());
+        characterToUpperCase = !LANGUAGES_WITH_SPECIAL_CASE_MAPPINGS.contains(toUpperCaseLocale.getLanguage());
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Checks if the given {@code text} is in upper case.
+     *
+     * @param text the text to be checked; never null.
+     * @return true if the {@code text} is in upper case; false otherwise.
+     */
+    public boolean isUpperCase(String text) {
+        return text.toUpperCase(toUpperCaseLocale).equals(text);
+    }
+
+    /**
+     * Checks if the given {@code character} is in upper case.
+     *
+     * <p>Like {@link #isUpperCase(String)}, a character is in upper case if
+     * the conversion to upper case would not change it. This means that
+     * characters without a case (e.g., digits or spaces) are in upper case.
+     *
+     * @param character the character to be checked.
+     * @return true if the {@code character} is in upper case; false otherwise.
+     */
+    public boolean isUpperCase(char character) {
+        if (character < ASCII_TABLE_SIZE && asciiToUpperCase[character] != NO_SINGLE_CHARACTER_MAPPING) {
+            return asciiToUpperCase[character] == character;
+        }
+        return isUpperCase((int) character);
+    }
+
+    /**
+     * Checks if the given {@code codePoint} is in upper case.
+     *
+     * @param codePoint the code point to be checked.
+     * @return true if the {@code codePoint} is in upper case; false otherwise.
+     * @see #isUpperCase(char)
+     */
+    public boolean isUpperCase(int codePoint) {
+        if (codePoint < ASCII_TABLE_SIZE && asciiToUpperCase[codePoint] != NO_SINGLE_CHARACTER_MAPPING) {
+            return asciiToUpperCase[codePoint] == codePoint;
+        }
+        if (characterToUpperCase && !hasSpecialUpperCaseMapping(codePoint)) {
+            return Character.toUpperCase(codePoint) == codePoint;
+        }
+        return isUpperCase(Character.toString(codePoint));
+    }
+
+    /**
+     * Converts the given {@code text} to lower case.
+     *
+     * @param text the text to be converted; never null.
+     * @return the lower case text; never null.
+     */
+    public String toLowerCase(String text) {
+        return text.toLowerCase(toLowerCaseLocale);
+    }
+
+    /**
+     * Converts the given {@code text} to upper case.
+     *
+     * @param text the text to be converted; never null.
+     * @return the upper case text; never null.
+     */
+    public String toUpperCase(String text) {
+        return text.toUpperCase(toUpperCaseLocale);
+    }
+
+    /**
+     * Appends the lower case form of the given {@code character} to the given
+     * {@code target}.
+     *
+     * <p>Note that the lower case form of a character may consist of more than
+     * one character.
+     *
+     * @param character the character to be converted.
+     * @param target    the {@link StringBuilder} to append to; never null.
+     */
+    public void appendLowerCase(char character, StringBuilder target) {
+        if (character < ASCII_TABLE_SIZE && asciiToLowerCase[character] != NO_SINGLE_CHARACTER_MAPPING) {
+            target.append(asciiToLowerCase[character]);
+        } else {
+            appendLowerCase((int) character, target);
+        }
+    }
+
+    /**
+     * Appends the upper case form of the given {@code character} to the given
+     * {@code target}.
+     *
+     * <p>Note that the upper case form of a character may consist of more than
+     * one character (e.g., the German sharp s becomes {@code SS}).
+     *
+     * @param character the character to be converted.
+     * @param target    the {@link StringBuilder} to append to; never null.
+     */
+    public void appendUpperCase(char character, StringBuilder target) {
+        if (character < ASCII_TABLE_SIZE && asciiToUpperCase[character] != NO_SINGLE_CHARACTER_MAPPING) {
+            target.append(asciiToUpperCase[character]);
+        } else {
+            appendUpperCase((int) character, target);
+        }
+    }
+
+    /**
+     * Appends the lower case form of the given {@code codePoint} to the given
+     * {@code target}.
+     *
+     * @param codePoint the code point to be converted.
+     * @param target    the {@link StringBuilder} to append to; never null.
+     * @see #appendLowerCase(char, StringBuilder)
+     */
+    public void appendLowerCase(int codePoint, StringBuilder target) {
+        if (codePoint < ASCII_TABLE_SIZE && asciiToLowerCase[codePoint] != NO_SINGLE_CHARACTER_MAPPING) {
+            target.append(asciiToLowerCase[codePoint]);
+        } else if (characterToLowerCase && !hasSpecialLowerCaseMapping(codePoint)) {
+            target.appendCodePoint(Character.toLowerCase(codePoint));
+        } else {
+            target.append(toLowerCase(Character.toString(codePoint)));
+        }
+    }
+
+    /**
+     * Appends the upper case form of the given {@code codePoint} to the given
+     * {@code target}.
+     *
+     * @param codePoint the code point to be converted.
+     * @param target    the {@link StringBuilder} to append to; never null.
+     * @see #appendUpperCase(char, StringBuilder)
+     */
+    public void appendUpperCase(int codePoint, StringBuilder target) {
+        if (codePoint < ASCII_TABLE_SIZE && asciiToUpperCase[codePoint] != NO_SINGLE_CHARACTER_MAPPING) {
+            target.append(asciiToUpperCase[codePoint]);
+        } else if (characterToUpperCase && !hasSpecialUpperCaseMapping(codePoint)) {
+            target.appendCodePoint(Character.toUpperCase(codePoint));
+        } else {
+            target.append(toUpperCase(Character.toString(codePoint)));
+        }
+    }
+
+    /**
+     * Appends the lower case form of the range from {@code start} to
+     * {@code end} of the given {@code text} to the given {@code target}.
+     *
+     * <p>The result is identical to {@link #toLowerCase(String)} called with
+     * the range as a {@link String}, which may depend on the surrounding
+     * characters (e.g., for the Greek final sigma).
+     *
+     * @param text   the text to be converted; never null.
+     * @param start  the inclusive start index of the range.
+     * @param end    the exclusive end index of the range.
+     * @param target the {@link StringBuilder} to append to; never null.
+     */
+    public void appendLowerCase(CharSequence text, int start, int end, StringBuilder target) {
+        if (isAsciiWithSingleCharacterMappings(text, start, end, asciiToLowerCase)) {
+            for (int i = start; i < end; i++) {
+                target.append(asciiToLowerCase[text.charAt(i)]);
+            }
+        } else {
+            target.append(toLowerCase(text.subSequence(start, end).toString()));
+        }
+    }
+
+    /**
+     * Appends the upper case form of the range from {@code start} to
+     * {@code end} of the given {@code text} to the given {@code target}.
+     *
+     * <p>The result is identical to {@link #toUpperCase(String)} called with
+     * the range as a {@link String}.
+     *
+     * @param text   the text to be converted; never null.
+     * @param start  the inclusive start index of the range.
+     * @param end    the exclusive end index of the range.
+     * @param target the {@link StringBuilder} to append to; never null.
+     */
+    public void appendUpperCase(CharSequence text, int start, int end, StringBuilder target) {
+        if (isAsciiWithSingleCharacterMappings(text, start, end, asciiToUpperCase)) {
+            for (int i = start; i < end; i++) {
+                target.append(asciiToUpperCase[text.charAt(i)]);
+            }
+        } else {
+            target.append(toUpperCase(text.subSequence(start, end).toString()));
+        }
+    }
+
+    /**
+     * Checks if the given range of the {@code text} contains only ASCII
+     * characters, whose lower and upper case forms are exactly one character.
+     *
+     * <p>For such a range, the case conversion of the whole range is identical
+     * to the case conversion of each single character.
+     *
+     * @param text  the text to be checked; never null.
+     * @param start the inclusive start index of the range.
+     * @param end   the exclusive end index of the range.
+     * @return true if all characters have single character case mappings;
+     * false otherwise.
+     */
+    public boolean isAsciiWithSingleCharacterMappings(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char character = text.charAt(i);
+            if (character >= ASCII_TABLE_SIZE
+                    || asciiToLowerCase[character] == NO_SINGLE_CHARACTER_MAPPING
+                    || asciiToUpperCase[character] == NO_SINGLE_CHARACTER_MAPPING) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the given {@code codePoint} has a special lower case mapping in
+     * the Unicode standard, which can not be represented by
+     * {@link Character#toLowerCase(int)}.
+     *
+     * <p>These are the Latin capital letter I with dot above, whose lower case
+     * form consists of two code points, and the Greek capital letter sigma,
+     * whose lower case form depends on its position in a word.
+     *
+     * @param codePoint the code point to be checked.
+     * @return true if the {@code codePoint} has a special lower case mapping;
+     * false otherwise.
+     */
+    static boolean hasSpecialLowerCaseMapping(int codePoint) {
+        return codePoint == 0x0130 || codePoint == 0x03A3;
+    }
+
+    /**
+     * Checks if the given {@code codePoint} has a special upper case mapping in
+     * the Unicode standard, which can not be represented by
+     * {@link Character#toUpperCase(int)}.
+     *
+     * <p>These are the code points whose upper case form consists of more than
+     * one code point. The Greek Extended block contains most of them and gets
+     * excluded as a whole.
+     *
+     * @param codePoint the code point to be checked.
+     * @return true if the {@code codePoint} has a special upper case mapping;
+     * false otherwise.
+     */
+    static boolean hasSpecialUpperCaseMapping(int codePoint) {
+        if (codePoint < 0x0600) {
+            return codePoint == 0x00DF // Latin small letter sharp s
+                    || codePoint == 0x0149 // Latin small letter n preceded by apostrophe
+                    || codePoint == 0x01F0 // Latin small letter j with caron
+                    || codePoint == 0x0390 // Greek small letter iota with dialytika and tonos
+                    || codePoint == 0x03B0 // Greek small letter upsilon with dialytika and tonos
+                    || codePoint == 0x0587; // Armenian small ligature ech yiwn
+        }
+        return (codePoint >= 0x1E96 && codePoint <= 0x1E9A) // Latin small letters with diacritics
+                || (codePoint >= 0x1F00 && codePoint <= 0x1FFF) // Greek Extended
+                || (codePoint >= 0xFB00 && codePoint <= 0xFB17); // Latin and Armenian ligatures
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CaseMapping that = (CaseMapping) o;
+        return toLowerCaseLocale.equals(that.toLowerCaseLocale) && toUpperCaseLocale.equals(that.toUpperCaseLocale);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(toLowerCaseLocale, toUpperCaseLocale);
+    }
+
+    @Override
+    public String toString() {
+        return "CaseMapping[toLowerCaseLocale=" + toLowerCaseLocale + ", toUpperCaseLocale=" + toUpperCaseLocale + "]";
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private static boolean isAsciiWithSingleCharacterMappings(CharSequence text, int start, int end, char[] asciiTable) {
+        for (int i = start; i < end; i++) {
+            char character = text.charAt(i);
+            if (character >= ASCII_TABLE_SIZE || asciiTable[character] == NO_SINGLE_CHARACTER_MAPPING) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char[] createAsciiTable(Locale locale, boolean toUpperCase) {
+        var table = new char[ASCII_TABLE_SIZE];
+        for (char character = 0; character < ASCII_TABLE_SIZE; character++) {
+            String characterText = String.valueOf(character);
+            String converted = toUpperCase ? characterText.toUpperCase(locale) : characterText.toLowerCase(locale);
+            table[character] = converted.length() == 1 ? converted.charAt(0) : NO_SINGLE_CHARACTER_MAPPING;
+        }
+        return table;
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
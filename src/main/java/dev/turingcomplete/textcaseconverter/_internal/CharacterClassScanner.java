@@ -0,0 +1,285 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Collects the {@link Features} of a text, which describe how letter cases
+ * and separators are used in it, in a single scan over its characters.
+ *
+ * <p>Every code point falls into one of the character classes: lower case
+ * letter, upper case letter, separator or neutral. Letters without a case
+ * (for example, Chinese characters), digits and combining marks are neutral.
+ * All other characters are separators. The ASCII characters get classified
+ * through a precomputed table.
+ *
+ * <p>The separators given to the constructor are counted individually. All
+ * other separators are only counted as a total.
+ *
+ * <p>An instance is immutable and thread-safe.
+ */
+public final class CharacterClassScanner {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    /**
+     * The case of a letter for {@link Features#firstLetterCase()}.
+     */
+    public static final int LOWER_CASE = 0;
+    public static final int UPPER_CASE = 1;
+    public static final int NO_CASE = -1;
+
+    /**
+     * The maximum number of individually counted separators, so that a set of
+     * them fits into a {@code long} bit mask.
+     */
+    public static final int MAX_KNOWN_SEPARATORS = Long.SIZE;
+
+    private static final byte NEUTRAL_CLASS = -1;
+    private static final byte LOWER_CASE_CLASS = -2;
+    private static final byte UPPER_CASE_CLASS = -3;
+    private static final byte OTHER_SEPARATOR_CLASS = -4;
+    // Values >= 0 are the index of a known separator
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final char[] knownSeparators;
+    private final byte[] asciiCharacterClasses;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    /**
+     * Creates a {@link CharacterClassScanner}.
+     *
+     * @param knownSeparators the separators which should be counted
+     *                        individually, in the order of their index; never
+     *                        null. Must not contain more than
+     *                        {@link #MAX_KNOWN_SEPARATORS} characters, and each
+     *                        must be a separator.
+     * @throws IllegalArgumentException if there are too many separators or if
+     *                                  one of them is not a separator.
+     */
+    public CharacterClassScanner(char[] knownSeparators) {
+        requireNonNull(knownSeparators);
+        if (knownSeparators.length > MAX_KNOWN_SEPARATORS) {
+            throw new IllegalArgumentException("Too many separators: " + knownSeparators.length);
+        }
+
+        this.knownSeparators = knownSeparators.clone();
+        asciiCharacterClasses = new byte[128];
+        for (char character = 0; character < asciiCharacterClasses.length; character++) {
+            asciiCharacterClasses[character] = classifyNonKnownSeparator(character);
+        }
+        for (byte i = 0; i < knownSeparators.length; i++) {
+            char knownSeparator = knownSeparators[i];
+            if (!isSeparator(knownSeparator)) {
+                throw new IllegalArgumentException("Not a separator: " + knownSeparator);
+            }
+            if (knownSeparator < asciiCharacterClasses.length) {
+                asciiCharacterClasses[knownSeparator] = i;
+            }
+        }
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Checks if the given character is a separator.
+     *
+     * @param character the character to check.
+     * @return true if the {@code character} is neither a letter, a digit nor a
+     * combining mark; false otherwise.
+     */
+    public static boolean isSeparator(int character) {
+        return classifyNonKnownSeparator(character) == OTHER_SEPARATOR_CLASS;
+    }
+
+    /**
+     * Scans the given {@code text}.
+     *
+     * <p>A letter is the start of a word if a separator precedes it. The case
+     * transitions are counted for all other letters, relative to the previous
+     * letter of the same word.
+     *
+     * @param text the text to scan; never null.
+     * @return the {@link Features} of the {@code text}; never null.
+     */
+    public Features scan(CharSequence text) {
+        requireNonNull(text);
+
+        var features = new Features(knownSeparators.length);
+        int previousLetterCase = NO_CASE;
+        boolean atWordStart = false;
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            char character = text.charAt(i);
+            int characterClass;
+            if (character < asciiCharacterClasses.length) {
+                characterClass = asciiCharacterClasses[character];
+                i++;
+            } else {
+                int codePoint = TextUtilities.codePointAt(text, i, length);
+                characterClass = classify(codePoint);
+                i += Character.charCount(codePoint);
+            }
+
+            if (characterClass == LOWER_CASE_CLASS || characterClass == UPPER_CASE_CLASS) {
+                int letterCase = characterClass == UPPER_CASE_CLASS ? UPPER_CASE : LOWER_CASE;
+                features.letterCount++;
+                if (features.firstLetterCase == NO_CASE) {
+                    features.firstLetterCase = letterCase;
+                } else if (atWordStart) {
+                    features.wordStartCounts[letterCase]++;
+                } else {
+                    features.transitionCounts[transition(previousLetterCase, letterCase)]++;
+                }
+                previousLetterCase = letterCase;
+                atWordStart = false;
+            } else if (characterClass == OTHER_SEPARATOR_CLASS) {
+                features.separatorCount++;
+                atWordStart = true;
+            } else if (characterClass != NEUTRAL_CLASS) {
+                features.knownSeparatorCounts[characterClass]++;
+                features.separatorCount++;
+                atWordStart = true;
+            }
+        }
+        return features;
+    }
+
+    /**
+     * Gets the index of the case transition from the case of the previous
+     * letter to the case of the current letter. The index can be used as a bit
+     * in a mask of transitions.
+     *
+     * @param previousLetterCase the {@link #LOWER_CASE} or {@link #UPPER_CASE}
+     *                           of the previous letter.
+     * @param letterCase         the {@link #LOWER_CASE} or {@link #UPPER_CASE}
+     *                           of the current letter.
+     * @return the index of the transition, between {@code 0} and {@code 3}.
+     */
+    public static int transition(int previousLetterCase, int letterCase) {
+        return (previousLetterCase << 1) | letterCase;
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private int classify(int codePoint) {
+        byte characterClass = classifyNonKnownSeparator(codePoint);
+        if (characterClass == OTHER_SEPARATOR_CLASS && codePoint <= Character.MAX_VALUE) {
+            for (int i = 0; i < knownSeparators.length; i++) {
+                if (knownSeparators[i] == codePoint) {
+                    return i;
+                }
+            }
+        }
+        return characterClass;
+    }
+
+    private static byte classifyNonKnownSeparator(int codePoint) {
+        if (Character.isUpperCase(codePoint) || Character.isTitleCase(codePoint)) {
+            return UPPER_CASE_CLASS;
+        }
+        if (Character.isLowerCase(codePoint)) {
+            return LOWER_CASE_CLASS;
+        }
+        if (Character.isLetterOrDigit(codePoint)) {
+            return NEUTRAL_CLASS;
+        }
+        switch (Character.getType(codePoint)) {
+            case Character.NON_SPACING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.LETTER_NUMBER:
+            case Character.OTHER_NUMBER:
+                return NEUTRAL_CLASS;
+            default:
+                return OTHER_SEPARATOR_CLASS;
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * The result of {@link CharacterClassScanner#scan(CharSequence)}.
+     */
+    public static final class Features {
+
+        private int firstLetterCase = NO_CASE;
+        private final int[] wordStartCounts = new int[2];
+        private final int[] transitionCounts = new int[4];
+        private final int[] knownSeparatorCounts;
+        private int letterCount = 0;
+        private int separatorCount = 0;
+
+        private Features(int knownSeparatorsCount) {
+            knownSeparatorCounts = new int[knownSeparatorsCount];
+        }
+
+        /**
+         * The case of the first letter with a case.
+         *
+         * @return {@link #LOWER_CASE}, {@link #UPPER_CASE} or {@link #NO_CASE}
+         * if the text contains no letter with a case.
+         */
+        public int firstLetterCase() {
+            return firstLetterCase;
+        }
+
+        /**
+         * The number of letters, except the first one, at the start of a word.
+         *
+         * @param letterCase {@link #LOWER_CASE} or {@link #UPPER_CASE}.
+         * @return the number of letters in the given case.
+         */
+        public int wordStartCount(int letterCase) {
+            return wordStartCounts[letterCase];
+        }
+
+        /**
+         * The number of letters inside of words with the given case transition
+         * from the previous letter.
+         *
+         * @param transition the index of the transition, see
+         *                   {@link CharacterClassScanner#transition(int, int)}.
+         * @return the number of letters with the transition.
+         */
+        public int transitionCount(int transition) {
+            return transitionCounts[transition];
+        }
+
+        /**
+         * The number of letters with a case.
+         *
+         * @return the number of letters.
+         */
+        public int letterCount() {
+            return letterCount;
+        }
+
+        /**
+         * The number of separators with one of the given indices.
+         *
+         * @param knownSeparatorsMask a bit mask of the indices of the known
+         *                            separators.
+         * @return the number of separators.
+         */
+        public int knownSeparatorCount(long knownSeparatorsMask) {
+            int count = 0;
+            for (int i = 0; i < knownSeparatorCounts.length; i++) {
+                if ((knownSeparatorsMask & (1L << i)) != 0) {
+                    count += knownSeparatorCounts[i];
+                }
+            }
+            return count;
+        }
+
+        /**
+         * The number of all separators.
+         *
+         * @return the number of separators.
+         */
+        public int separatorCount() {
+            return separatorCount;
+        }
+    }
+}
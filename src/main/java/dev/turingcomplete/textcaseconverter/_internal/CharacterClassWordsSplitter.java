@@ -0,0 +1,186 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Splits a text around delimiters, upper case characters and transitions
+ * between letters and digits in a single pass.
+ *
+ * <p>Every code point gets a character class, which is either a delimiter or
+ * a combination of the flags {@link #UPPER_CASE_FLAG}, {@link #LETTER_FLAG}
+ * and {@link #DIGIT_FLAG}. The ASCII characters get classified through a
+ * precomputed table. Whether a new word starts between two characters only
+ * depends on their classes and gets looked up in a precomputed table of
+ * transitions, too.
+ *
+ * <p>A character is in upper case if {@link CaseMapping#isUpperCase(int)}
+ * says so, which is the same check as the one of the
+ * {@link UpperCaseWordsSplitter}, which also checks the first character of
+ * a text with {@link Character#isUpperCase(int)} instead. Hence, the words
+ * are the same as the ones of splitting the text around each delimiter,
+ * omitting blank words, and then each word with an
+ * {@link UpperCaseWordsSplitter}.
+ *
+ * <p>An instance is immutable and thread-safe.
+ */
+public final class CharacterClassWordsSplitter extends WordRangesSplitter {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    public static final int UPPER_CASE_NONE = 0;
+    public static final int UPPER_CASE_SOFT = 1;
+    public static final int UPPER_CASE_STRICT = 2;
+
+    private static final int UPPER_CASE_FLAG = 0b001;
+    private static final int LETTER_FLAG = 0b010;
+    private static final int DIGIT_FLAG = 0b100;
+    private static final int DELIMITER_CLASS = 0b1000;
+    private static final int NON_DELIMITER_CLASSES_COUNT = 0b1000;
+
+    private static final int ASCII_TABLE_SIZE = 128;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final int[] nonAsciiDelimiters;
+    private final byte[] asciiCharacterClasses;
+    /**
+     * Whether a new word starts at a character of the class {@code c}, which
+     * follows a character of the class {@code p}, at the index
+     * {@code p * NON_DELIMITER_CLASSES_COUNT + c}.
+     */
+    private final boolean[] wordStartTransitions;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    /**
+     * Creates a {@link CharacterClassWordsSplitter}.
+     *
+     * @param delimiters           the code points which separate words; never
+     *                             null.
+     * @param upperCaseSplitting   one of {@link #UPPER_CASE_NONE},
+     *                             {@link #UPPER_CASE_SOFT} or
+     *                             {@link #UPPER_CASE_STRICT}.
+     * @param letterDigitSplitting whether a new word starts at a digit after a
+     *                             letter and at a letter after a digit.
+     */
+    public CharacterClassWordsSplitter(int[] delimiters, int upperCaseSplitting, boolean letterDigitSplitting) {
+        requireNonNull(delimiters);
+
+        nonAsciiDelimiters = Arrays.stream(delimiters).filter(delimiter -> delimiter >= ASCII_TABLE_SIZE).sorted().distinct().toArray();
+        asciiCharacterClasses = new byte[ASCII_TABLE_SIZE];
+        for (int character = 0; character < ASCII_TABLE_SIZE; character++) {
+            asciiCharacterClasses[character] = (byte) classifyNonDelimiter(character);
+        }
+        for (int delimiter : delimiters) {
+            if (delimiter < ASCII_TABLE_SIZE) {
+                asciiCharacterClasses[delimiter] = DELIMITER_CLASS;
+            }
+        }
+
+        wordStartTransitions = new boolean[NON_DELIMITER_CLASSES_COUNT * NON_DELIMITER_CLASSES_COUNT];
+        for (int previousClass = 0; previousClass < NON_DELIMITER_CLASSES_COUNT; previousClass++) {
+            for (int characterClass = 0; characterClass < NON_DELIMITER_CLASSES_COUNT; characterClass++) {
+                boolean isUpperCase = (characterClass & UPPER_CASE_FLAG) != 0;
+                boolean wordStart = switch (upperCaseSplitting) {
+                    case UPPER_CASE_SOFT -> isUpperCase && (previousClass & UPPER_CASE_FLAG) == 0;
+                    case UPPER_CASE_STRICT -> isUpperCase;
+                    default -> false;
+                };
+                if (letterDigitSplitting) {
+                    wordStart |= (previousClass & LETTER_FLAG) != 0 && (characterClass & DIGIT_FLAG) != 0;
+                    wordStart |= (previousClass & DIGIT_FLAG) != 0 && (characterClass & LETTER_FLAG) != 0;
+                }
+                wordStartTransitions[previousClass * NON_DELIMITER_CLASSES_COUNT + characterClass] = wordStart;
+            }
+        }
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Override
+    public int split(CharSequence text, int start, int end, boolean startOfText, boolean endOfText, WordConsumer wordConsumer) {
+        // The first character of a word never starts a new word. The index at
+        // which the splitting must be continued is the start of the pending
+        // word, or the delimiter before it, so that a continued splitting
+        // starts in the same state.
+        int wordStart = -1;
+        int continueIndex = start;
+        int previousClass = 0;
+        int i = start;
+        while (i < end) {
+            int characterStart = i;
+            int codePoint = text.charAt(i);
+            int characterClass;
+            if (codePoint < ASCII_TABLE_SIZE) {
+                characterClass = asciiCharacterClasses[codePoint];
+                i++;
+            } else {
+                if (!endOfText && i + 1 == end && Character.isHighSurrogate(text.charAt(i))) {
+                    // The low surrogate may be the next character
+                    return continueIndex;
+                }
+                codePoint = TextUtilities.codePointAt(text, i, end);
+                characterClass = classify(codePoint);
+                i += Character.charCount(codePoint);
+            }
+
+            if (characterClass == DELIMITER_CLASS) {
+                if (wordStart >= 0) {
+                    acceptNonBlank(text, wordStart, characterStart, wordConsumer);
+                    wordStart = -1;
+                }
+                continueIndex = characterStart;
+            } else if (wordStart < 0) {
+                wordStart = characterStart;
+                if (startOfText || characterStart != start) {
+                    // Like the UpperCaseWordsSplitter at the start of a text
+                    characterClass = Character.isUpperCase(codePoint)
+                            ? characterClass | UPPER_CASE_FLAG
+                            : characterClass & ~UPPER_CASE_FLAG;
+                }
+            } else if (wordStartTransitions[previousClass * NON_DELIMITER_CLASSES_COUNT + characterClass]) {
+                acceptNonBlank(text, wordStart, characterStart, wordConsumer);
+                wordStart = characterStart;
+                continueIndex = characterStart;
+            }
+            previousClass = characterClass;
+        }
+
+        if (!endOfText) {
+            return continueIndex;
+        }
+        if (wordStart >= 0) {
+            acceptNonBlank(text, wordStart, end, wordConsumer);
+        }
+        return end;
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private int classify(int codePoint) {
+        if (Arrays.binarySearch(nonAsciiDelimiters, codePoint) >= 0) {
+            return DELIMITER_CLASS;
+        }
+        return classifyNonDelimiter(codePoint);
+    }
+
+    private static int classifyNonDelimiter(int codePoint) {
+        int characterClass = 0;
+        if (CaseMapping.DEFAULT.isUpperCase(codePoint)) {
+            characterClass |= UPPER_CASE_FLAG;
+        }
+        if (Character.isLetter(codePoint)) {
+            characterClass |= LETTER_FLAG;
+        } else if (Character.isDigit(codePoint)) {
+            characterClass |= DIGIT_FLAG;
+        }
+        return characterClass;
+    }
+
+    private static void acceptNonBlank(CharSequence text, int start, int end, WordConsumer wordConsumer) {
+        if (!TextUtilities.isBlank(text, start, end)) {
+            wordConsumer.accept(text, start, end);
+        }
+    }
+}
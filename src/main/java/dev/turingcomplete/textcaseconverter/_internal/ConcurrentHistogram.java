@@ -0,0 +1,130 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative {@code long} values, which can be recorded
+ * concurrently without locks.
+ *
+ * <p>The values are counted in log-linear buckets, like in HdrHistogram: each
+ * power of two range is divided into {@value #SUB_BUCKETS_COUNT} buckets of
+ * equal width. Values below {@value #SUB_BUCKETS_COUNT} get their own bucket.
+ * This limits the relative error of a value derived from the buckets to
+ * 12.5%, with a fixed number of buckets for the whole {@code long} range.
+ */
+public final class ConcurrentHistogram {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets to cover all values up to {@link Long#MAX_VALUE}.
+     */
+    public static final int BUCKETS_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS_COUNT;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator minimum = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator maximum = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Records the given {@code value}. Negative values are recorded as
+     * {@code 0}.
+     *
+     * @param value the value to record.
+     */
+    public void record(long value) {
+        long nonNegativeValue = Math.max(0, value);
+        counts.incrementAndGet(bucketIndex(nonNegativeValue));
+        sum.add(nonNegativeValue);
+        minimum.accumulate(nonNegativeValue);
+        maximum.accumulate(nonNegativeValue);
+    }
+
+    /**
+     * @return a copy of the count of each bucket, by its index.
+     */
+    public long[] counts() {
+        var countsCopy = new long[BUCKETS_COUNT];
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            countsCopy[i] = counts.get(i);
+        }
+        return countsCopy;
+    }
+
+    /**
+     * @return the sum of all recorded values.
+     */
+    public long sum() {
+        return sum.sum();
+    }
+
+    /**
+     * @return the smallest recorded value; {@link Long#MAX_VALUE} if no value
+     * was recorded yet.
+     */
+    public long minimum() {
+        return minimum.get();
+    }
+
+    /**
+     * @return the largest recorded value; {@link Long#MIN_VALUE} if no value
+     * was recorded yet.
+     */
+    public long maximum() {
+        return maximum.get();
+    }
+
+    /**
+     * Gets the index of the bucket which counts the given {@code value}.
+     *
+     * @param value a non-negative value.
+     * @return the index of the bucket.
+     */
+    public static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS_COUNT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS_COUNT + subBucket;
+    }
+
+    /**
+     * Gets the smallest value which is counted in the bucket with the given
+     * {@code index}.
+     *
+     * @param index the index of the bucket.
+     * @return the inclusive lower bound of the bucket.
+     */
+    public static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKETS_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS_COUNT;
+        return (SUB_BUCKETS_COUNT + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Gets the largest value which is counted in the bucket with the given
+     * {@code index}.
+     *
+     * @param index the index of the bucket.
+     * @return the inclusive upper bound of the bucket.
+     */
+    public static long bucketUpperBound(int index) {
+        return index == BUCKETS_COUNT - 1 ? Long.MAX_VALUE : bucketLowerBound(index + 1) - 1;
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
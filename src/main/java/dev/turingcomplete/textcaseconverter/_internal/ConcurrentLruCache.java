@@ -0,0 +1,186 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A size-bounded cache with a least recently used eviction.
+ *
+ * <p>The entries are distributed over several segments by the hash code of
+ * their key. Each segment has its own lock and eviction order, so that
+ * concurrent accesses to different segments do not block each other. The
+ * maximum size is divided among the segments, so that each segment can hold
+ * at least 16 entries, or all entries if there is only one segment. Since
+ * the segments evict independently, an entry may get evicted before the
+ * cache as a whole is full.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public final class ConcurrentLruCache<K, V> {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final int MAXIMUM_SEGMENTS_COUNT = 64;
+    private static final int MINIMUM_SEGMENT_SIZE = 16;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final Segment<K, V>[] segments;
+    private final int segmentsMask;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    /**
+     * @param maximumSize the maximum number of entries; must be positive.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentLruCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+
+        // Each segment evicts on its own, so it must be large enough that a few
+        // frequently used keys which fall into the same segment do not evict
+        // each other.
+        int segmentsCount = Integer.highestOneBit(Math.max(1, Math.min(
+                Math.min(MAXIMUM_SEGMENTS_COUNT, Runtime.getRuntime().availableProcessors() * 4),
+                maximumSize / MINIMUM_SEGMENT_SIZE
+        )));
+        segments = new Segment[segmentsCount];
+        // Distribute the remainder, so that the total is the maximum size
+        int segmentMaximumSize = maximumSize / segmentsCount;
+        int remainder = maximumSize % segmentsCount;
+        for (int i = 0; i < segmentsCount; i++) {
+            segments[i] = new Segment<>(i < remainder ? segmentMaximumSize + 1 : segmentMaximumSize);
+        }
+        segmentsMask = segmentsCount - 1;
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Returns the cached value for the given {@code key}, or computes, caches
+     * and returns it with the given {@code valueFunction}.
+     *
+     * <p>The {@code valueFunction} gets called without holding a lock. If the
+     * same key gets requested concurrently, the value may be computed more than
+     * once.
+     *
+     * @param key           the key; never null.
+     * @param valueFunction computes the value of a missing key; never null.
+     * @return the cached or computed value; never null.
+     */
+    public V get(K key, Function<K, V> valueFunction) {
+        Segment<K, V> segment = segmentFor(key);
+        V value = segment.get(key);
+        if (value != null) {
+            hitCount.increment();
+            return value;
+        }
+
+        missCount.increment();
+        value = valueFunction.apply(key);
+        segment.put(key, value);
+        return value;
+    }
+
+    /**
+     * @return the number of {@link #get} calls which returned a cached value.
+     */
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of {@link #get} calls which computed the value.
+     */
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the current number of cached entries.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Removes all cached entries. The hit and miss counts are not reset.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        // Spread the higher bits, like in HashMap
+        return segments[(hash ^ (hash >>> 16)) & segmentsMask];
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private static final class Segment<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, V> entries;
+
+        Segment(int maximumSize) {
+            entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > maximumSize;
+                }
+            };
+        }
+
+        V get(K key) {
+            lock.lock();
+            try {
+                return entries.get(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(K key, V value) {
+            lock.lock();
+            try {
+                entries.put(key, value);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a text around a {@link Pattern}. Blank words will be omitted.
+ *
+ * <p>Since the matches of a {@link Pattern} may depend on any following
+ * character, an incremental splitting will only be done once the end of the
+ * text is reached.
+ */
+public final class PatternWordsSplitter extends WordRangesSplitter {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final Pattern pattern;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    public PatternWordsSplitter(Pattern pattern) {
+        this.pattern = pattern;
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Override
+    public int split(CharSequence text, int start, int end, boolean startOfText, boolean endOfText, WordConsumer wordConsumer) {
+        if (!endOfText) {
+            return start;
+        }
+
+        Matcher matcher = pattern.matcher(text).region(start, end);
+        int wordStart = start;
+        while (matcher.find()) {
+            if (!TextUtilities.isBlank(text, wordStart, matcher.start())) {
+                wordConsumer.accept(text, wordStart, matcher.start());
+            }
+            wordStart = matcher.end();
+        }
+        if (!TextUtilities.isBlank(text, wordStart, end)) {
+            wordConsumer.accept(text, wordStart, end);
+        }
+        return end;
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
@@ -0,0 +1,74 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+/**
+ * Splits a text around a non-empty delimiter {@link String}. Blank words will
+ * be omitted.
+ */
+public final class StringWordsSplitter extends WordRangesSplitter {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final String delimiter;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    public StringWordsSplitter(String delimiter) {
+        if (delimiter.isEmpty()) {
+            throw new IllegalArgumentException("Delimiter must not be empty");
+        }
+        this.delimiter = delimiter;
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Override
+    public int split(CharSequence text, int start, int end, boolean startOfText, boolean endOfText, WordConsumer wordConsumer) {
+        int delimiterLength = delimiter.length();
+        int wordStart = start;
+        int delimiterStart;
+        while ((delimiterStart = indexOfDelimiter(text, wordStart, end)) >= 0) {
+            if (!TextUtilities.isBlank(text, wordStart, delimiterStart)) {
+                wordConsumer.accept(text, wordStart, delimiterStart);
+            }
+            wordStart = delimiterStart + delimiterLength;
+        }
+
+        if (!endOfText) {
+            return wordStart;
+        }
+        if (!TextUtilities.isBlank(text, wordStart, end)) {
+            wordConsumer.accept(text, wordStart, end);
+        }
+        return end;
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private int indexOfDelimiter(CharSequence text, int fromIndex, int end) {
+        if (text instanceof String string && end == string.length()) {
+            return delimiter.length() == 1
+                    ? string.indexOf(delimiter.charAt(0), fromIndex)
+                    : string.indexOf(delimiter, fromIndex);
+        }
+
+        char firstDelimiterCharacter = delimiter.charAt(0);
+        int lastPossibleStart = end - delimiter.length();
+        for (int i = fromIndex; i <= lastPossibleStart; i++) {
+            if (text.charAt(i) == firstDelimiterCharacter && regionMatchesDelimiter(text, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean regionMatchesDelimiter(CharSequence text, int start) {
+        for (int i = 1; i < delimiter.length(); i++) {
+            if (text.charAt(start + i) != delimiter.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
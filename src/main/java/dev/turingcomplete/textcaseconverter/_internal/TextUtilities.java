@@ -1,9 +1,9 @@
 package dev.turingcomplete.textcaseconverter._internal;
 
-import dev.turingcomplete.textcaseconverter.Configuration;
-
 /**
  * Utility methods for text operations.
+ *
+ * <p>The case conversion methods are in {@link CaseMapping}.
  */
 public final class TextUtilities {
     // -- Class Fields ---------------------------------------------------------------------------------------------- //
@@ -17,33 +17,45 @@ public final class TextUtilities {
     // -- Exposed Methods ------------------------------------------------------------------------------------------- //
 
     /**
-     * Checks if the given {@code text} is in upper case.
+     * Checks if the given range of the {@code text} is empty or contains only
+     * whitespace characters, like {@link String#isBlank()}.
      *
-     * @param text the text to be checked; may be null.
-     * @return true if the {@code text} is in upper case; false otherwise.
+     * @param text  the text to be checked; never null.
+     * @param start the inclusive start index of the range.
+     * @param end   the exclusive end index of the range.
+     * @return true if the range is blank; false otherwise.
      */
-    public static boolean isUpperCase(String text) {
-        return text.toUpperCase(Configuration.TO_UPPER_CASE_LOCALE).equals(text);
+    public static boolean isBlank(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Converts the given {@code text} to lower case.
+     * Gets the code point at the given {@code index} of the {@code text}.
      *
-     * @param text the text to be converted; never null.
-     * @return the lower case text; never null.
-     */
-    public static String toLowerCase(String text) {
-        return text.toLowerCase(Configuration.TO_LOWER_CASE_LOCALE);
-    }
-
-    /**
-     * Converts the given {@code text} to upper case.
+     * <p>In contrast to {@link Character#codePointAt(CharSequence, int)}, a
+     * high surrogate before {@code end} will not be combined with a low
+     * surrogate at {@code end}.
      *
-     * @param text the text to be converted; never null.
-     * @return the upper case text; never null.
+     * @param text  the text containing the code point; never null.
+     * @param index the index of the code point.
+     * @param end   the exclusive end index up to which the code point may
+     *              extend.
+     * @return the code point.
      */
-    public static String toUpperCase(String text) {
-        return text.toUpperCase(Configuration.TO_UPPER_CASE_LOCALE);
+    public static int codePointAt(CharSequence text, int index, int end) {
+        char character = text.charAt(index);
+        if (Character.isHighSurrogate(character) && index + 1 < end) {
+            char nextCharacter = text.charAt(index + 1);
+            if (Character.isLowSurrogate(nextCharacter)) {
+                return Character.toCodePoint(character, nextCharacter);
+            }
+        }
+        return character;
     }
 
     // -- Private Methods ------------------------------------------------------------------------------------------- //
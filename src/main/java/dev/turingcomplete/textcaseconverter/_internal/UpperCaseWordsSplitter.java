@@ -0,0 +1,128 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+/**
+ * Splits a text around upper case characters.
+ *
+ * <p>In the strict mode, every upper case character starts a new word. In
+ * the soft mode, an upper case character only starts a new word if the
+ * previous character is not in upper case.
+ *
+ * <p>The text gets iterated by code points so that a surrogate pair never
+ * gets split into two words.
+ */
+public final class UpperCaseWordsSplitter extends WordRangesSplitter {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final boolean strict;
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    public UpperCaseWordsSplitter(boolean strict) {
+        this.strict = strict;
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Override
+    public int split(CharSequence text, int start, int end, boolean startOfText, boolean endOfText, WordConsumer wordConsumer) {
+        if (start == end) {
+            return end;
+        }
+
+        int firstCodePoint = TextUtilities.codePointAt(text, start, end);
+        int i = start + Character.charCount(firstCodePoint);
+        int wordStart = start;
+        // A continued splitting always starts at an upper case character
+        boolean previousCharacterWasUppercase = !startOfText || Character.isUpperCase(firstCodePoint);
+        while (i < end) {
+            int codePoint = TextUtilities.codePointAt(text, i, end);
+            if (!endOfText && i + 1 == end && Character.isHighSurrogate(text.charAt(i))) {
+                // The low surrogate may be the next character
+                return wordStart;
+            }
+
+            boolean isUpperCase = CaseMapping.DEFAULT.isUpperCase(codePoint);
+            if (isUpperCase && (strict || !previousCharacterWasUppercase)) {
+                // New word
+                wordConsumer.accept(text, wordStart, i);
+                wordStart = i;
+            }
+            previousCharacterWasUppercase = isUpperCase;
+            i += Character.charCount(codePoint);
+        }
+
+        if (!endOfText) {
+            return wordStart;
+        }
+        wordConsumer.accept(text, wordStart, end);
+        return end;
+    }
+
+    /**
+     * Splits the given {@code text} and appends each word, converted to lower
+     * or upper case and joined by the {@code joinDelimiter}, to the given
+     * {@code target}.
+     *
+     * <p>The result is the same as splitting the {@code text} and converting
+     * each word with {@link CaseMapping#appendLowerCase(CharSequence, int, int, StringBuilder)}
+     * or {@link CaseMapping#appendUpperCase(CharSequence, int, int, StringBuilder)}.
+     * But the word boundaries, the case conversion and the delimiters are all
+     * handled in a single pass over the characters. This is only possible for
+     * a text whose characters have a single character case mapping in the
+     * ASCII tables of the {@link CaseMapping}s; for any other text, nothing gets
+     * appended and false is returned.
+     *
+     * @param text          the text to be split and converted; never null.
+     * @param caseMapping   the {@link CaseMapping} for the conversion of the
+     *                      words; never null.
+     * @param toUpperCase   whether the words get converted to upper case or
+     *                      lower case.
+     * @param joinDelimiter the delimiter to join the words; never null.
+     * @param target        the {@link StringBuilder} to append to; never null.
+     * @return true if the {@code text} was converted; false otherwise.
+     */
+    public boolean splitAndConvertAscii(
+            CharSequence text,
+            CaseMapping caseMapping,
+            boolean toUpperCase,
+            String joinDelimiter,
+            StringBuilder target
+    ) {
+        int length = text.length();
+        if (!CaseMapping.DEFAULT.isAsciiWithSingleCharacterMappings(text, 0, length)
+                || !caseMapping.isAsciiWithSingleCharacterMappings(text, 0, length)) {
+            return false;
+        }
+        if (length == 0) {
+            return true;
+        }
+
+        char firstCharacter = text.charAt(0);
+        appendCase(firstCharacter, caseMapping, toUpperCase, target);
+        boolean previousCharacterWasUppercase = Character.isUpperCase(firstCharacter);
+        for (int i = 1; i < length; i++) {
+            char character = text.charAt(i);
+            boolean isUpperCase = CaseMapping.DEFAULT.isUpperCase(character);
+            if (isUpperCase && (strict || !previousCharacterWasUppercase)) {
+                // New word
+                target.append(joinDelimiter);
+            }
+            appendCase(character, caseMapping, toUpperCase, target);
+            previousCharacterWasUppercase = isUpperCase;
+        }
+        return true;
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private static void appendCase(char character, CaseMapping caseMapping, boolean toUpperCase, StringBuilder target) {
+        if (toUpperCase) {
+            caseMapping.appendUpperCase(character, target);
+        } else {
+            caseMapping.appendLowerCase(character, target);
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
@@ -0,0 +1,130 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A pool of canonical {@link String} instances, like {@link String#intern()},
+ * whose instances can be garbage collected as soon as they are no longer used
+ * outside of this pool.
+ *
+ * <p>The instances are distributed over several segments by their hash code.
+ * Each segment has its own lock, so that concurrent accesses to different
+ * segments do not block each other.
+ */
+public final class WeakInternPool {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final int MAXIMUM_SEGMENTS_COUNT = 64;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+
+    private final Segment[] segments;
+    private final int segmentsMask;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+
+    public WeakInternPool() {
+        int segmentsCount = Integer.highestOneBit(Math.min(MAXIMUM_SEGMENTS_COUNT, Runtime.getRuntime().availableProcessors() * 4));
+        segments = new Segment[segmentsCount];
+        for (int i = 0; i < segmentsCount; i++) {
+            segments[i] = new Segment();
+        }
+        segmentsMask = segmentsCount - 1;
+    }
+
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Returns the canonical instance of the given {@code text}. If there is
+     * none yet, the {@code text} becomes the canonical instance.
+     *
+     * @param text the text; never null.
+     * @return the canonical instance which is equal to the {@code text}; never
+     * null.
+     */
+    public String intern(String text) {
+        int hash = text.hashCode();
+        // Spread the higher bits, like in HashMap
+        String canonicalText = segments[(hash ^ (hash >>> 16)) & segmentsMask].intern(text);
+        if (canonicalText == null) {
+            missCount.increment();
+            return text;
+        }
+        hitCount.increment();
+        return canonicalText;
+    }
+
+    /**
+     * @return the number of {@link #intern} calls which returned an existing
+     * canonical instance.
+     */
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of {@link #intern} calls which added a new canonical
+     * instance.
+     */
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the current number of canonical instances, which may include
+     * instances that were already garbage collected but not yet removed.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private static final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        // The value references the key, which is the canonical instance
+        private final WeakHashMap<String, WeakReference<String>> canonicalTexts = new WeakHashMap<>();
+
+        /**
+         * @return the existing canonical instance, which may be the
+         * {@code text} itself; null if the {@code text} became the canonical
+         * instance.
+         */
+        String intern(String text) {
+            lock.lock();
+            try {
+                WeakReference<String> canonicalTextReference = canonicalTexts.get(text);
+                if (canonicalTextReference != null) {
+                    String canonicalText = canonicalTextReference.get();
+                    if (canonicalText != null) {
+                        return canonicalText;
+                    }
+                }
+                canonicalTexts.put(text, new WeakReference<>(text));
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return canonicalTexts.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
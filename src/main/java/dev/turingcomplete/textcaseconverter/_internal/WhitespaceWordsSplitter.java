@@ -0,0 +1,45 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+/**
+ * Splits a text around whitespace characters. Blank words will be omitted.
+ *
+ * <p>The whitespace characters are the same as the ones of the regular
+ * expression {@code \s}: {@code [ \t\n\x0B\f\r]}.
+ */
+public final class WhitespaceWordsSplitter extends WordRangesSplitter {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Override
+    public int split(CharSequence text, int start, int end, boolean startOfText, boolean endOfText, WordConsumer wordConsumer) {
+        int wordStart = start;
+        for (int i = start; i < end; i++) {
+            if (isWhitespace(text.charAt(i))) {
+                if (!TextUtilities.isBlank(text, wordStart, i)) {
+                    wordConsumer.accept(text, wordStart, i);
+                }
+                wordStart = i + 1;
+            }
+        }
+
+        if (!endOfText) {
+            return wordStart;
+        }
+        if (!TextUtilities.isBlank(text, wordStart, end)) {
+            wordConsumer.accept(text, wordStart, end);
+        }
+        return end;
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private static boolean isWhitespace(char character) {
+        // Most characters are above the space, which gets checked first to
+        // need only a single comparison for them
+        return character <= ' ' && (character == ' ' || character >= '\t' && character <= '\r');
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
@@ -0,0 +1,152 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import dev.turingcomplete.textcaseconverter.WordsSplitter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link WordsSplitter} that determines the words as index ranges of the
+ * text, without cutting them out of the text.
+ *
+ * <p>The splitting can also be done incrementally, which allows to split a
+ * text that gets read in chunks (see {@link #split(Reader, WordsSplitter, WordConsumer)}).
+ */
+public abstract class WordRangesSplitter implements WordsSplitter {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final int INITIAL_WORD_SPANS_CAPACITY = 16;
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Override
+    public List<String> split(String text) {
+        requireNonNull(text);
+
+        List<String> words = new ArrayList<>();
+        split(text, 0, text.length(), true, true, (__, start, end) -> words.add(text.substring(start, end)));
+        return Collections.unmodifiableList(words);
+    }
+
+    @Override
+    public void split(CharSequence text, WordConsumer wordConsumer) {
+        requireNonNull(text);
+        requireNonNull(wordConsumer);
+
+        split(text, 0, text.length(), true, true, wordConsumer);
+    }
+
+    @Override
+    public int[] splitToSpans(CharSequence text) {
+        requireNonNull(text);
+
+        var wordSpansCollector = new WordSpansCollector();
+        split(text, 0, text.length(), true, true, wordSpansCollector);
+        return wordSpansCollector.toArray();
+    }
+
+    /**
+     * Splits the range from {@code start} to {@code end} of the given
+     * {@code text} into words.
+     *
+     * <p>If {@code endOfText} is false, the range is only the beginning of the
+     * text, and more characters may follow. In this case, only the words are
+     * passed to the {@code wordConsumer} that are guaranteed to be unaffected by
+     * the following characters.
+     *
+     * @param text         the text to be split; never null.
+     * @param start        the inclusive start index of the range.
+     * @param end          the exclusive end index of the range.
+     * @param startOfText  whether {@code start} is the beginning of the text or
+     *                     the return value of a previous call.
+     * @param endOfText    whether {@code end} is the end of the text.
+     * @param wordConsumer the {@link WordConsumer} for the words; never null.
+     * @return the index at which the splitting must be continued with the next
+     * call, if {@code endOfText} is false; {@code end} otherwise.
+     */
+    public abstract int split(
+            CharSequence text,
+            int start,
+            int end,
+            boolean startOfText,
+            boolean endOfText,
+            WordConsumer wordConsumer
+    );
+
+    /**
+     * Splits the text read from the given {@link Reader} into words with the
+     * given {@link WordsSplitter}.
+     *
+     * <p>If the {@code wordsSplitter} is a {@link WordRangesSplitter}, the text
+     * gets split incrementally while reading, and only the last, unfinished
+     * word is kept in memory. Otherwise, the whole text gets read first.
+     *
+     * @param text          the {@link Reader} to read the text from; never null.
+     * @param wordsSplitter the {@link WordsSplitter} to use; never null.
+     * @param wordConsumer  the {@link WordConsumer} for the words; never null.
+     * @throws IOException if an I/O error occurs while reading.
+     */
+    public static void split(Reader text, WordsSplitter wordsSplitter, WordConsumer wordConsumer) throws IOException {
+        if (!(wordsSplitter instanceof WordRangesSplitter wordRangesSplitter)) {
+            var completeText = new StringWriter();
+            text.transferTo(completeText);
+            wordsSplitter.split(completeText.toString(), wordConsumer);
+            return;
+        }
+
+        var pendingText = new StringBuilder();
+        var readBuffer = new char[READ_BUFFER_SIZE];
+        boolean startOfText = true;
+        int nextSplitLength = 0;
+        int read;
+        while ((read = text.read(readBuffer)) != -1) {
+            pendingText.append(readBuffer, 0, read);
+            if (pendingText.length() < nextSplitLength) {
+                continue;
+            }
+
+            int continueIndex = wordRangesSplitter.split(pendingText, 0, pendingText.length(), startOfText, false, wordConsumer);
+            if (continueIndex > 0) {
+                pendingText.delete(0, continueIndex);
+                startOfText = false;
+            }
+            // The pending text must be scanned again from its beginning. Doing
+            // this only after it has doubled keeps the total number of scanned
+            // characters linear, even for a word that spans many reads.
+            nextSplitLength = 2 * pendingText.length();
+        }
+        wordRangesSplitter.split(pendingText, 0, pendingText.length(), startOfText, true, wordConsumer);
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private static final class WordSpansCollector implements WordConsumer {
+
+        private int[] wordSpans = new int[INITIAL_WORD_SPANS_CAPACITY];
+        private int size = 0;
+
+        @Override
+        public void accept(CharSequence text, int start, int end) {
+            if (size == wordSpans.length) {
+                wordSpans = Arrays.copyOf(wordSpans, size * 2);
+            }
+            wordSpans[size++] = start;
+            wordSpans[size++] = end;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(wordSpans, size);
+        }
+    }
+}
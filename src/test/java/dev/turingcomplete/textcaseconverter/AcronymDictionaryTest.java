@@ -0,0 +1,171 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter.TestUtilities.SingleCharacterReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static dev.turingcomplete.textcaseconverter.StandardTextCases.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AcronymDictionaryTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final AcronymDictionary ACRONYMS = AcronymDictionary.of("HTTP", "HTTPS", "SQL", "OAuth", "XML", "ID");
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "parseHTTPRequest|parse,HTTP,Request",
+            "XMLHTTPRequest|XML,HTTP,Request",
+            "HTTPSConnection|HTTPS,Connection",
+            "softCamelCaseSql|soft,Camel,Case,Sql",
+            "getSQLQuery|get,SQL,Query",
+            "useOAuth2Token|use,OAuth,2Token",
+            "httpClient|http,Client",
+            "Https|Https",
+            "SQLite|SQLite",
+            "getIDs|get,IDs",
+            "userID|user,ID",
+            "fooBar|foo,Bar",
+            "FOOBar|FOOBar",
+            "http|http"
+    })
+    void testSplit(String text, String expectedWords) throws IOException {
+        List<String> expectedWordsList = Arrays.asList(expectedWords.split(","));
+        WordsSplitter wordsSplitter = ACRONYMS.wordsSplitter();
+
+        assertThat(wordsSplitter.split(text)).isEqualTo(expectedWordsList);
+
+        // Incremental splitting, one character at a time
+        var words = new StringBuilder();
+        SNAKE_CASE.convert(new SingleCharacterReader(text), wordsSplitter, ",", words);
+        assertThat(words.toString()).isEqualTo(SNAKE_CASE.convert(expectedWordsList, ","));
+    }
+
+    @Test
+    void testSplitEmptyText() {
+        assertThat(ACRONYMS.wordsSplitter().split("")).isEmpty();
+        assertThat(ACRONYMS.wordsSplitter().splitToSpans("")).isEmpty();
+    }
+
+    @Test
+    void testEmptyDictionarySplitsLikeSoftUpperCase() throws IOException {
+        WordsSplitter wordsSplitter = AcronymDictionary.of().wordsSplitter();
+
+        for (String text : List.of("parseHTTPRequest", "softCamelCaseSql", "fooBar", "FooBAR", "foo bar", "\uD801\uDC00\uD801\uDC28B",
+                                   "_Bar", "1Foo", "-Foo", "$Foo", "a1Foo", "99")) {
+            assertThat(wordsSplitter.split(text)).as(text).isEqualTo(StandardWordsSplitters.SOFT_UPPER_CASE.split(text));
+
+            var words = new StringBuilder();
+            SNAKE_CASE.convert(new SingleCharacterReader(text), wordsSplitter, ",", words);
+            assertThat(words.toString()).as(text).isEqualTo(SNAKE_CASE.convert(StandardWordsSplitters.SOFT_UPPER_CASE.split(text), ","));
+        }
+    }
+
+    @Test
+    void testFind() {
+        assertThat(ACRONYMS.find("oauth").orElseThrow()).isEqualTo("OAuth");
+        assertThat(ACRONYMS.find("Http").orElseThrow()).isEqualTo("HTTP");
+        assertThat(ACRONYMS.find("HTT").isPresent()).isFalse();
+        assertThat(ACRONYMS.find("HTTPSS").isPresent()).isFalse();
+        assertThat(ACRONYMS.find("").isPresent()).isFalse();
+    }
+
+    @Test
+    void testAcronyms() {
+        assertThat(ACRONYMS.acronyms()).containsExactly("HTTP", "HTTPS", "ID", "OAuth", "SQL", "XML");
+    }
+
+    @Test
+    void testInvalidAcronyms() {
+        assertThatThrownBy(() -> AcronymDictionary.of("HTTP", "Http")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AcronymDictionary.of("")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AcronymDictionary.of("iOS")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AcronymDictionary.of(List.of("HTTP", "eBay"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * The converted texts of a copy must be split into the same words again
+     * by the copy itself. An acronym like {@code iOS} would break this, since
+     * it does not start a new word in {@code myiOSApp}, so it can only be
+     * registered in upper case.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"Strict Camel Case", "Soft Camel Case", "Train Case", "Pascal Case", "Pascal Snake Case", "Camel Snake Case"})
+    void testWithAcronymsRoundTrip(String title) {
+        AcronymDictionary acronyms = AcronymDictionary.of("IOS", "OAuth", "HTTP", "3D");
+        TextCase textCase = StandardTextCases.withAcronyms(textCase(title), acronyms);
+
+        for (List<String> words : List.of(List.of("my", "ios", "app"), List.of("ios", "app"), List.of("app", "ios"),
+                                          List.of("http", "oauth", "client"), List.of("my", "3d", "model"))) {
+            String convertedText = textCase.convert(words);
+            assertThat(SNAKE_CASE.convertFrom(textCase, convertedText)).as(convertedText).isEqualTo(SNAKE_CASE.convert(words));
+        }
+        assertThat(StandardTextCases.withAcronyms(SOFT_CAMEL_CASE, acronyms).convert(List.of("my", "ios", "app"))).isEqualTo("myIOSApp");
+    }
+
+    @Test
+    void testWithAcronyms() {
+        TextCase pascalCase = StandardTextCases.withAcronyms(PASCAL_CASE, ACRONYMS);
+        TextCase softCamelCase = StandardTextCases.withAcronyms(SOFT_CAMEL_CASE, ACRONYMS);
+        TextCase pascalSnakeCase = StandardTextCases.withAcronyms(PASCAL_SNAKE_CASE, ACRONYMS);
+
+        assertThat(pascalCase.convertFrom(SNAKE_CASE, "http_oauth_client")).isEqualTo("HTTPOAuthClient");
+        assertThat(softCamelCase.convertFrom(SNAKE_CASE, "http_oauth_client")).isEqualTo("httpOAuthClient");
+        assertThat(softCamelCase.convertFrom(SNAKE_CASE, "client_http")).isEqualTo("clientHTTP");
+        assertThat(pascalSnakeCase.convertFrom(SOFT_CAMEL_CASE, "parseSqlQuery")).isEqualTo("Parse_SQL_Query");
+        assertThat(softCamelCase.convert("get", "user", "id")).isEqualTo("getUserID");
+
+        // The texts of the copies can be split again
+        assertThat(SNAKE_CASE.convertFrom(pascalCase, "HTTPOAuthClient")).isEqualTo("http_oauth_client");
+        assertThat(SNAKE_CASE.convertFrom(softCamelCase, "parseXMLHTTPRequest")).isEqualTo("parse_xml_http_request");
+        assertThat(pascalSnakeCase.wordsSplitter()).isSameAs(PASCAL_SNAKE_CASE.wordsSplitter());
+
+        // A copy of a copy replaces the acronyms
+        TextCase otherPascalCase = StandardTextCases.withAcronyms(pascalCase, AcronymDictionary.of("Xml"));
+        assertThat(otherPascalCase.convertFrom(SNAKE_CASE, "http_xml")).isEqualTo("HttpXml");
+        assertThat(StandardTextCases.withLocale(pascalCase, Locale.ROOT).convertFrom(SNAKE_CASE, "sql")).isEqualTo("SQL");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Strict Camel Case", "Soft Camel Case", "Train Case", "Pascal Case", "Pascal Snake Case", "Camel Snake Case"})
+    void testWithAcronymsMixedCase(String title) {
+        TextCase textCase = textCase(title);
+
+        assertThat(StandardTextCases.withAcronyms(textCase, ACRONYMS).convertFrom(SNAKE_CASE, "client_oauth_http"))
+                .isEqualTo(textCase.convertFrom(SNAKE_CASE, "client_oauth_http")
+                                   .replace("Oauth", "OAuth")
+                                   .replace("Http", "HTTP"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Kebab Case", "Snake Case", "Screaming Snake Case", "Cobol Case", "Lower Case", "Upper Case", "Inverted Case", "Alternating Case", "Dot Case"})
+    void testWithAcronymsWholeWordCase(String title) {
+        TextCase textCase = textCase(title);
+
+        assertThatThrownBy(() -> StandardTextCases.withAcronyms(textCase, ACRONYMS)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StandardTextCases.withAcronyms(StandardTextCases.withLocale(textCase, Locale.ROOT), ACRONYMS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    private static TextCase textCase(String title) {
+        return ALL_STANDARD_TEXT_CASES.stream()
+                                      .filter(textCase -> textCase.title().equals(title))
+                                      .findFirst()
+                                      .orElseThrow();
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
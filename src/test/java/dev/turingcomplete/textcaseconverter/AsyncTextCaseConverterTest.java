@@ -0,0 +1,184 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter.AsyncTextCaseConverter.ConversionJob;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static dev.turingcomplete.textcaseconverter.StandardTextCases.*;
+import static dev.turingcomplete.textcaseconverter.TestUtilities.FAILING_TEXT_CASE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncTextCaseConverterTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Test
+    void testConvert() throws Exception {
+        var asyncConverter = new AsyncTextCaseConverter();
+
+        CompletableFuture<String> result = asyncConverter.convert(new ConversionJob(SOFT_CAMEL_CASE, SNAKE_CASE, "fooBar"));
+
+        assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("foo_bar");
+    }
+
+    @Test
+    void testConvertBlocksIfMaxPendingConversionsReached() throws Exception {
+        var queuedTasks = new LinkedBlockingQueue<Runnable>();
+        var asyncConverter = new AsyncTextCaseConverter(queuedTasks::add, 2);
+
+        CompletableFuture<String> first = asyncConverter.convert(new ConversionJob(SOFT_CAMEL_CASE, SNAKE_CASE, "fooBar"));
+        asyncConverter.convert(new ConversionJob(SOFT_CAMEL_CASE, SNAKE_CASE, "barBaz"));
+
+        var third = new CompletableFuture<CompletableFuture<String>>();
+        var thread = new Thread(() -> {
+            try {
+                third.complete(asyncConverter.convert(new ConversionJob(SOFT_CAMEL_CASE, KEBAB_CASE, "bazQux")));
+            } catch (InterruptedException e) {
+                third.completeExceptionally(e);
+            }
+        });
+        thread.start();
+        thread.join(200);
+        assertThat(third.isDone()).isFalse();
+        assertThat(queuedTasks).hasSize(2);
+
+        queuedTasks.take().run();
+        assertThat(first.get()).isEqualTo("foo_bar");
+        thread.join(10_000);
+        assertThat(third.isDone()).isTrue();
+        queuedTasks.take().run();
+        queuedTasks.take().run();
+        assertThat(third.get().get()).isEqualTo("baz-qux");
+    }
+
+    @Test
+    void testConvertFails() throws Exception {
+        var asyncConverter = new AsyncTextCaseConverter(Runnable::run, 1);
+
+        CompletableFuture<String> result = asyncConverter.convert(new ConversionJob(FAILING_TEXT_CASE, SNAKE_CASE, "foo"));
+
+        assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalStateException.class);
+        // The permit got released
+        assertThat(asyncConverter.convert(new ConversionJob(SNAKE_CASE, KEBAB_CASE, "foo_bar")).join()).isEqualTo("foo-bar");
+    }
+
+    @Test
+    void testConvertRejected() {
+        var asyncConverter = new AsyncTextCaseConverter(task -> {
+            throw new RejectedExecutionException();
+        }, 1);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> asyncConverter.convert(new ConversionJob(SNAKE_CASE, KEBAB_CASE, "foo_bar")))
+                    .isInstanceOf(RejectedExecutionException.class);
+        }
+    }
+
+    @Test
+    void testConvertAll() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            var asyncConverter = new AsyncTextCaseConverter(executorService, 100);
+            Stream<ConversionJob> conversionJobs = IntStream.range(0, 10_000)
+                                                            .mapToObj(i -> new ConversionJob(SOFT_CAMEL_CASE, SNAKE_CASE, "value" + i + "Name"));
+
+            List<String> results = asyncConverter.convertAll(conversionJobs).get(10, TimeUnit.SECONDS);
+
+            assertThat(results).hasSize(10_000);
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i)).isEqualTo(SNAKE_CASE.convertFrom(SOFT_CAMEL_CASE, "value" + i + "Name"));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void testConvertAllEmpty() throws Exception {
+        var asyncConverter = new AsyncTextCaseConverter();
+
+        assertThat(asyncConverter.convertAll(Stream.empty()).get(10, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    void testConvertAllPullsLazily() {
+        var queuedTasks = new ArrayList<Runnable>();
+        var asyncConverter = new AsyncTextCaseConverter(queuedTasks::add, AsyncTextCaseConverter.BATCH_SIZE * 2);
+        var pulledCount = new AtomicInteger();
+        Stream<ConversionJob> conversionJobs = IntStream.range(0, 1000)
+                                                        .peek(i -> pulledCount.incrementAndGet())
+                                                        .mapToObj(i -> new ConversionJob(SNAKE_CASE, KEBAB_CASE, "foo_" + i));
+
+        CompletableFuture<List<String>> result = asyncConverter.convertAll(conversionJobs);
+
+        // The calling thread did not pull any job
+        assertThat(queuedTasks).hasSize(1);
+        assertThat(pulledCount.get()).isEqualTo(0);
+
+        // Two batches were pulled, plus the lookahead of `hasNext()`
+        queuedTasks.remove(0).run();
+        assertThat(queuedTasks).hasSize(2);
+        assertThat(pulledCount.get()).isLessThanOrEqualTo(AsyncTextCaseConverter.BATCH_SIZE * 2 + 1);
+
+        while (!queuedTasks.isEmpty()) {
+            queuedTasks.remove(0).run();
+            assertThat(queuedTasks.size()).isLessThanOrEqualTo(2);
+        }
+        assertThat(result.join()).hasSize(1000);
+        assertThat(result.join().get(999)).isEqualTo("foo-999");
+    }
+
+    @Test
+    void testConvertAllOnCallingThread() {
+        var asyncConverter = new AsyncTextCaseConverter(Runnable::run, AsyncTextCaseConverter.BATCH_SIZE);
+        Stream<ConversionJob> conversionJobs = IntStream.range(0, 1_000_000)
+                                                        .mapToObj(i -> new ConversionJob(SNAKE_CASE, KEBAB_CASE, "foo_bar"));
+
+        // Must not recurse once per batch
+        List<String> results = asyncConverter.convertAll(conversionJobs).join();
+
+        assertThat(results).hasSize(1_000_000);
+        assertThat(results.get(999_999)).isEqualTo("foo-bar");
+    }
+
+    @Test
+    void testConvertAllRejected() {
+        var asyncConverter = new AsyncTextCaseConverter(task -> {
+            throw new RejectedExecutionException();
+        }, 1);
+
+        assertThatThrownBy(() -> asyncConverter.convertAll(Stream.of(new ConversionJob(SNAKE_CASE, KEBAB_CASE, "foo_bar"))).join())
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void testConvertAllFails() {
+        var asyncConverter = new AsyncTextCaseConverter(Runnable::run, 10);
+        Stream<ConversionJob> conversionJobs = IntStream.range(0, 100)
+                                                        .mapToObj(i -> {
+                                                            if (i == 50) {
+                                                                throw new IllegalStateException("Failure");
+                                                            }
+                                                            return new ConversionJob(SNAKE_CASE, KEBAB_CASE, "foo_" + i);
+                                                        });
+
+        assertThatThrownBy(() -> asyncConverter.convertAll(conversionJobs).join()).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testInvalidMaxPendingConversions() {
+        assertThatThrownBy(() -> new AsyncTextCaseConverter(Runnable::run, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
@@ -0,0 +1,85 @@
+package dev.turingcomplete.textcaseconverter;
+
+import org.junit.jupiter.api.Test;
+
+import static dev.turingcomplete.textcaseconverter.StandardTextCases.*;
+import static dev.turingcomplete.textcaseconverter.TestUtilities.runConcurrently;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachingTextCaseConverterTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Test
+    void testConvert() {
+        var converter = new CachingTextCaseConverter(100);
+
+        assertThat(converter.convert(STRICT_CAMEL_CASE, SNAKE_CASE, "fooBar")).isEqualTo("foo_bar");
+        assertThat(converter.convert(STRICT_CAMEL_CASE, SNAKE_CASE, "fooBar")).isEqualTo("foo_bar");
+        assertThat(converter.convert(STRICT_CAMEL_CASE, KEBAB_CASE, "fooBar")).isEqualTo("foo-bar");
+        assertThat(converter.convert(SNAKE_CASE, STRICT_CAMEL_CASE, "foo_bar")).isEqualTo("fooBar");
+
+        CachingTextCaseConverter.Statistics statistics = converter.statistics();
+        assertThat(statistics.hitCount()).isEqualTo(1);
+        assertThat(statistics.missCount()).isEqualTo(3);
+        assertThat(statistics.size()).isEqualTo(3);
+        assertThat(statistics.hitRate()).isEqualTo(0.25);
+    }
+
+    @Test
+    void testMaximumSize() {
+        var converter = new CachingTextCaseConverter(10);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(converter.convert(SNAKE_CASE, KEBAB_CASE, "foo_" + i)).isEqualTo("foo-" + i);
+        }
+        assertThat(converter.statistics().size()).isLessThanOrEqualTo(10);
+
+        converter.clear();
+        assertThat(converter.statistics().size()).isEqualTo(0);
+        assertThat(converter.statistics().missCount()).isEqualTo(1000);
+    }
+
+    @Test
+    void testSmallMaximumSizeIsNotDividedIntoTinySegments() {
+        for (int maximumSize : new int[]{1, 15, 31}) {
+            var converter = new CachingTextCaseConverter(maximumSize);
+            for (int i = 0; i < maximumSize; i++) {
+                converter.convert(SNAKE_CASE, KEBAB_CASE, "foo_" + i);
+            }
+            assertThat(converter.statistics().size()).isEqualTo(maximumSize);
+        }
+
+        var converter = new CachingTextCaseConverter(100);
+        for (int i = 0; i < 100; i++) {
+            converter.convert(SNAKE_CASE, KEBAB_CASE, "foo_" + (i % 2));
+        }
+        assertThat(converter.statistics().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testInvalidMaximumSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingTextCaseConverter(0));
+    }
+
+    @Test
+    void testConcurrentConvert() throws Exception {
+        var converter = new CachingTextCaseConverter(50);
+        runConcurrently(8, thread -> {
+            for (int i = 0; i < 10_000; i++) {
+                int id = i % 100;
+                assertThat(converter.convert(SNAKE_CASE, PASCAL_CASE, "foo_bar_" + id)).isEqualTo("FooBar" + id);
+            }
+            return null;
+        });
+
+        CachingTextCaseConverter.Statistics statistics = converter.statistics();
+        assertThat(statistics.hitCount() + statistics.missCount()).isEqualTo(80_000);
+        assertThat(statistics.size()).isLessThanOrEqualTo(50);
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
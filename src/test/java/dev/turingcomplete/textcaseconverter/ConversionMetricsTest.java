@@ -0,0 +1,136 @@
+package dev.turingcomplete.textcaseconverter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.turingcomplete.textcaseconverter.StandardTextCases.*;
+import static dev.turingcomplete.textcaseconverter.TestUtilities.FAILING_TEXT_CASE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConversionMetricsTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Test
+    void testInstrumentedTextCase() throws Exception {
+        var conversionMetrics = new ConversionMetrics();
+        TextCase snakeCase = conversionMetrics.instrument(SNAKE_CASE);
+
+        assertThat(snakeCase.title()).isEqualTo(SNAKE_CASE.title());
+        assertThat(snakeCase.example()).isEqualTo(SNAKE_CASE.example());
+        assertThat(snakeCase.joinDelimiter()).isEqualTo(SNAKE_CASE.joinDelimiter());
+        assertThat(snakeCase.wordsSplitter()).isSameAs(SNAKE_CASE.wordsSplitter());
+
+        assertThat(snakeCase.convertFrom(SOFT_CAMEL_CASE, "fooBar")).isEqualTo("foo_bar");
+        assertThat(snakeCase.convert(List.of("foo", "barBaz"))).isEqualTo("foo_barbaz");
+        assertThat(snakeCase.convertTo(KEBAB_CASE, "foo_bar")).isEqualTo("foo-bar");
+        var target = new StringBuilder();
+        snakeCase.convert(new StringReader("foo bar"), StandardWordsSplitters.SPACES, target);
+        assertThat(target.toString()).isEqualTo("foo_bar");
+
+        ConversionMetrics.Metrics metrics = conversionMetrics.snapshot().textCases().get(SNAKE_CASE.title());
+        assertThat(metrics.callsCount()).isEqualTo(4);
+        assertThat(metrics.latencyNanos().count()).isEqualTo(4);
+        // The length of a reader is unknown
+        ConversionMetrics.Distribution inputLengths = metrics.inputLengths();
+        assertThat(inputLengths.count()).isEqualTo(3);
+        assertThat(inputLengths.sum()).isEqualTo(6 + 9 + 7);
+        assertThat(inputLengths.minimum()).isEqualTo(6);
+        assertThat(inputLengths.maximum()).isEqualTo(9);
+        assertThat(inputLengths.mean()).isEqualTo(22 / 3d);
+        assertThat(conversionMetrics.snapshot().wordsSplitters()).isEmpty();
+    }
+
+    @Test
+    void testInstrumentedTextCasesWithSameTitleShareMetrics() {
+        var conversionMetrics = new ConversionMetrics();
+        conversionMetrics.instrument(SNAKE_CASE).convert("foo", "bar");
+        conversionMetrics.instrument(SNAKE_CASE).convert("foo", "bar");
+        conversionMetrics.instrument(KEBAB_CASE).convert("foo", "bar");
+
+        ConversionMetrics.Snapshot snapshot = conversionMetrics.snapshot();
+        assertThat(snapshot.textCases()).containsOnlyKeys(SNAKE_CASE.title(), KEBAB_CASE.title());
+        assertThat(snapshot.textCases().get(SNAKE_CASE.title()).callsCount()).isEqualTo(2);
+        assertThat(snapshot.textCases().get(KEBAB_CASE.title()).callsCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRecordedOnException() {
+        var conversionMetrics = new ConversionMetrics();
+        TextCase textCase = conversionMetrics.instrument(FAILING_TEXT_CASE);
+
+        assertThatThrownBy(() -> textCase.convertTo(SNAKE_CASE, "foo")).isInstanceOf(IllegalStateException.class);
+        assertThat(conversionMetrics.snapshot().textCases().get(FAILING_TEXT_CASE.title()).callsCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testInstrumentedWordsSplitter() {
+        var conversionMetrics = new ConversionMetrics();
+        WordsSplitter wordsSplitter = conversionMetrics.instrument("spaces", StandardWordsSplitters.SPACES);
+
+        assertThat(wordsSplitter.split("foo bar")).containsExactly("foo", "bar");
+        assertThat(wordsSplitter.splitToSpans("foo bar baz")).containsExactly(0, 3, 4, 7, 8, 11);
+        List<String> words = new ArrayList<>();
+        wordsSplitter.split("a b", (text, start, end) -> words.add(text.subSequence(start, end).toString()));
+        assertThat(words).containsExactly("a", "b");
+        assertThat(SNAKE_CASE.convert("foo bar", wordsSplitter)).isEqualTo("foo_bar");
+
+        ConversionMetrics.Metrics metrics = conversionMetrics.snapshot().wordsSplitters().get("spaces");
+        assertThat(metrics.callsCount()).isGreaterThanOrEqualTo(4);
+        assertThat(metrics.inputLengths().minimum()).isEqualTo(3);
+        assertThat(metrics.inputLengths().maximum()).isEqualTo(11);
+    }
+
+    @Test
+    void testDistribution() {
+        var conversionMetrics = new ConversionMetrics();
+        WordsSplitter wordsSplitter = conversionMetrics.instrument("spaces", StandardWordsSplitters.SPACES);
+        for (int i = 1; i <= 100; i++) {
+            wordsSplitter.split("x".repeat(i));
+        }
+
+        ConversionMetrics.Distribution inputLengths = conversionMetrics.snapshot().wordsSplitters().get("spaces").inputLengths();
+        assertThat(inputLengths.count()).isEqualTo(100);
+        assertThat(inputLengths.valueAtPercentile(0)).isEqualTo(1);
+        assertThat(inputLengths.valueAtPercentile(100)).isEqualTo(100);
+        // Buckets limit the relative error to 12.5%
+        assertThat(inputLengths.valueAtPercentile(50)).isBetween(50L, 57L);
+        assertThat(inputLengths.valueAtPercentile(90)).isBetween(90L, 102L);
+
+        long bucketsCount = 0;
+        long previousUpperBound = -1;
+        for (ConversionMetrics.Bucket bucket : inputLengths.buckets()) {
+            assertThat(bucket.lowerBound()).isGreaterThan(previousUpperBound);
+            assertThat(bucket.upperBound()).isGreaterThanOrEqualTo(bucket.lowerBound());
+            assertThat(bucket.count()).isEqualTo(Math.min(bucket.upperBound(), 100) - Math.max(bucket.lowerBound(), 1) + 1);
+            previousUpperBound = bucket.upperBound();
+            bucketsCount += bucket.count();
+        }
+        assertThat(bucketsCount).isEqualTo(100);
+
+        assertThatThrownBy(() -> inputLengths.valueAtPercentile(101)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testEmptyDistribution() {
+        var conversionMetrics = new ConversionMetrics();
+        conversionMetrics.instrument(SNAKE_CASE);
+
+        ConversionMetrics.Metrics metrics = conversionMetrics.snapshot().textCases().get(SNAKE_CASE.title());
+        assertThat(metrics.callsCount()).isEqualTo(0);
+        assertThat(metrics.latencyNanos().minimum()).isEqualTo(0);
+        assertThat(metrics.latencyNanos().maximum()).isEqualTo(0);
+        assertThat(metrics.latencyNanos().mean()).isEqualTo(0);
+        assertThat(metrics.latencyNanos().valueAtPercentile(99)).isEqualTo(0);
+        assertThat(metrics.latencyNanos().buckets()).isEmpty();
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
@@ -1,5 +1,6 @@
 package dev.turingcomplete.textcaseconverter;
 
+import dev.turingcomplete.textcaseconverter.TestUtilities.SingleCharacterReader;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -7,16 +8,26 @@ import org.junit.jupiter.params.provider.CsvFileSource;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static dev.turingcomplete.textcaseconverter.StandardTextCases.*;
 import static java.util.Objects.requireNonNullElse;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 public class StandardTextCasesTest {
@@ -174,6 +185,225 @@ public class StandardTextCasesTest {
         assertThat(SNAKE_CASE.convertTo(COBOL_CASE, "foo_bar", "//")).isEqualTo("FOO//BAR");
     }
 
+    /**
+     * Tests {@link TextCase#convert(List, StringBuilder)},
+     * {@link TextCase#convert(List, String, StringBuilder)},
+     * {@link TextCase#convert(List, Appendable)} and
+     * {@link TextCase#convert(List, String, Appendable)}.
+     */
+    @Test
+    void testConvertWordsToTarget() throws IOException {
+        var target = new StringBuilder("> ");
+        TRAIN_CASE.convert(List.of("foo", "BAR"), target);
+        assertThat(target.toString()).isEqualTo("> Foo-Bar");
+
+        target = new StringBuilder();
+        TRAIN_CASE.convert(List.of("foo", "BAR"), "//", target);
+        assertThat(target.toString()).isEqualTo("Foo//Bar");
+
+        var writer = new StringWriter();
+        SOFT_CAMEL_CASE.convert(List.of("foo", "S", "Q", "L"), writer);
+        assertThat(writer.toString()).isEqualTo("fooSql");
+
+        writer = new StringWriter();
+        SOFT_CAMEL_CASE.convert(List.of("foo", "S", "Q", "L"), "//", writer);
+        assertThat(writer.toString()).isEqualTo("foo//S//q//l");
+    }
+
+    /**
+     * Tests {@link TextCase#convertFrom(TextCase, CharSequence, StringBuilder)}.
+     */
+    @Test
+    void testConvertFromToStringBuilder() {
+        var target = new StringBuilder("> ");
+        PASCAL_CASE.convertFrom(SNAKE_CASE, "foo_bar", target);
+        assertThat(target.toString()).isEqualTo("> FooBar");
+    }
+
+    /**
+     * Tests {@link TextCase#convert(CharSequence, WordsSplitter, Appendable)}
+     * and {@link TextCase#convert(CharSequence, WordsSplitter, String, Appendable)}.
+     */
+    @Test
+    void testConvertCharSequenceToAppendable() throws IOException {
+        var target = new StringBuilder("> ");
+        KEBAB_CASE.convert(new StringBuilder("foo bar"), StandardWordsSplitters.SPACES, target);
+        assertThat(target.toString()).isEqualTo("> foo-bar");
+
+        var writer = new StringWriter();
+        KEBAB_CASE.convert("foo bar", StandardWordsSplitters.SPACES, "//", writer);
+        assertThat(writer.toString()).isEqualTo("foo//bar");
+
+        target = new StringBuilder();
+        KEBAB_CASE.convert("foo bar", text -> List.of(text.split(" ")), target);
+        assertThat(target.toString()).isEqualTo("foo-bar");
+    }
+
+    /**
+     * Tests {@link TextCase#convertFrom(TextCase, CharSequence, Appendable)}
+     * and {@link TextCase#convertFrom(TextCase, Reader, Appendable)}.
+     */
+    @Test
+    void testConvertFromToAppendable() throws IOException {
+        var target = new StringBuilder();
+        SNAKE_CASE.convertFrom(KEBAB_CASE, new StringBuilder("foo-bar"), target);
+        assertThat(target.toString()).isEqualTo("foo_bar");
+
+        target = new StringBuilder();
+        SNAKE_CASE.convertFrom(STRICT_CAMEL_CASE, new StringReader("fooBar"), target);
+        assertThat(target.toString()).isEqualTo("foo_bar");
+    }
+
+    /**
+     * Tests that the conversion from a text split by upper case characters,
+     * which is done in a single pass for ASCII texts, results in the same
+     * text as the conversion of the split words.
+     */
+    @ParameterizedTest
+    @CsvSource({"''", "f", "F", "fooBarBaz", "FooBARBaz", "1A", "a1B2", "foo Bar  baz", "_foo-Bar.", "fooBar\u00DF"})
+    void testConvertFromUpperCaseSplitText(String text) {
+        for (TextCase originTextCase : List.of(STRICT_CAMEL_CASE, SOFT_CAMEL_CASE, PASCAL_CASE)) {
+            for (TextCase targetTextCase : ALL_STANDARD_TEXT_CASES) {
+                String expected = targetTextCase.convert(originTextCase.wordsSplitter().split(text));
+                assertThat(targetTextCase.convertFrom(originTextCase, text)).isEqualTo(expected);
+                assertThat(originTextCase.convertTo(targetTextCase, text, "|"))
+                        .isEqualTo(targetTextCase.convert(originTextCase.wordsSplitter().split(text), "|"));
+            }
+        }
+    }
+
+    @Test
+    void testWithLocale() {
+        TextCase turkishScreamingSnakeCase = StandardTextCases.withLocale(SCREAMING_SNAKE_CASE, new Locale("tr"));
+        assertThat(turkishScreamingSnakeCase.convert(List.of("istanbul", "izmir"))).isEqualTo("\u0130STANBUL_\u0130ZM\u0130R");
+        assertThat(turkishScreamingSnakeCase.title()).isEqualTo(SCREAMING_SNAKE_CASE.title());
+        assertThat(SCREAMING_SNAKE_CASE.convert(List.of("istanbul", "izmir"))).isEqualTo("ISTANBUL_IZMIR");
+
+        TextCase turkishCamelCase = StandardTextCases.withLocale(STRICT_CAMEL_CASE, new Locale("tr"));
+        assertThat(turkishCamelCase.convertFrom(SCREAMING_SNAKE_CASE, "ISTANBUL_IZMIR")).isEqualTo("\u0131stanbulIzm\u0131r");
+        assertThat(turkishCamelCase.convertFrom(SNAKE_CASE, "istanbul_izmir")).isEqualTo("istanbul\u0130zmir");
+
+        TextCase germanUpperCase = StandardTextCases.withLocale(UPPER_CASE, Locale.GERMAN);
+        assertThat(germanUpperCase.convert("stra\u00DFe")).isEqualTo("STRASSE");
+
+        assertThrows(IllegalArgumentException.class, () -> StandardTextCases.withLocale(new TextCase() {
+            // @formatter:off
+            @Override public String title() { return "Custom"; }
+            @Override public String example() { return ""; }
+            @Override public String joinDelimiter() { return ""; }
+            @Override public WordsSplitter wordsSplitter() { return StandardWordsSplitters.NOOP; }
+            @Override public String convert(String... words) { return ""; }
+            @Override public String convert(List<String> words) { return ""; }
+            @Override public String convert(List<String> words, String joinDelimiter) { return ""; }
+            @Override public String convert(String text, WordsSplitter wordsSplitter) { return ""; }
+            @Override public String convert(String text, WordsSplitter wordsSplitter, String joinDelimiter) { return ""; }
+            @Override public String convertFrom(TextCase originTextCase, String originText) { return ""; }
+            @Override public String convertFrom(TextCase originTextCase, String originText, String joinDelimiter) { return ""; }
+            @Override public String convertTo(TextCase targetTextCase, String originText) { return ""; }
+            @Override public String convertTo(TextCase targetTextCase, String originText, String joinDelimiter) { return ""; }
+            // @formatter:on
+        }, Locale.ROOT));
+    }
+
+    /**
+     * The characters of a surrogate pair must be converted as one code point.
+     */
+    @Test
+    void testConvertSurrogatePairs() {
+        String deseretSmallLongI = "\uD801\uDC28";
+        String deseretCapitalLongI = "\uD801\uDC00";
+
+        assertThat(INVERTED_CASE.convert(deseretSmallLongI + deseretCapitalLongI + "a"))
+                .isEqualTo(deseretCapitalLongI + deseretSmallLongI + "A");
+        assertThat(ALTERNATING_CASE.convert(deseretSmallLongI + deseretSmallLongI + deseretSmallLongI))
+                .isEqualTo(deseretCapitalLongI + deseretSmallLongI + deseretCapitalLongI);
+        assertThat(PASCAL_CASE.convert(deseretSmallLongI + deseretCapitalLongI, "a"))
+                .isEqualTo(deseretCapitalLongI + deseretSmallLongI + "A");
+    }
+
+    /**
+     * Tests {@link TextCase#convert(CharSequence, int[], String)} and
+     * {@link TextCase#convert(CharSequence, int[], String, StringBuilder)}.
+     */
+    @Test
+    void testConvertWordSpans() {
+        String text = "xx foo bar baz";
+        int[] wordSpans = {3, 6, 7, 10, 11, 14};
+
+        assertThat(SNAKE_CASE.convert(text, wordSpans)).isEqualTo("foo_bar_baz");
+        assertThat(STRICT_CAMEL_CASE.convert(text, wordSpans, "|")).isEqualTo("foo|Bar|Baz");
+        assertThat(SNAKE_CASE.convert(text, new int[0])).isEqualTo("");
+
+        var target = new StringBuilder(">");
+        PASCAL_CASE.convert(text, wordSpans, "", target);
+        assertThat(target.toString()).isEqualTo(">FooBarBaz");
+
+        assertThrows(IllegalArgumentException.class, () -> SNAKE_CASE.convert(text, new int[]{3}));
+    }
+
+    /**
+     * Tests {@link TextCase#convertAllTo(TextCase, Collection, ForkJoinPool, int)}
+     * below and above the parallelism threshold.
+     */
+    @ParameterizedTest
+    @CsvSource({"1000, 1", "1000, 64", "1000, 1001", "0, 1"})
+    void testConvertAllTo(int textsCount, int parallelismThreshold) {
+        List<String> originTexts = IntStream.range(0, textsCount)
+                .mapToObj(i -> "foo" + i + "BarBaz" + (i % 7 == 0 ? "SQL" : ""))
+                .collect(Collectors.toList());
+
+        var forkJoinPool = new ForkJoinPool(4);
+        try {
+            List<String> results = STRICT_CAMEL_CASE.convertAllTo(SNAKE_CASE, originTexts, forkJoinPool, parallelismThreshold);
+            assertThat(results).hasSize(textsCount);
+            for (int i = 0; i < textsCount; i++) {
+                assertThat(results.get(i)).isEqualTo(STRICT_CAMEL_CASE.convertTo(SNAKE_CASE, originTexts.get(i)));
+            }
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        assertThat(STRICT_CAMEL_CASE.convertAllTo(SNAKE_CASE, originTexts))
+                .isEqualTo(originTexts.stream().map(text -> STRICT_CAMEL_CASE.convertTo(SNAKE_CASE, text)).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testConvertAllToWithInvalidParallelismThreshold() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> SNAKE_CASE.convertAllTo(KEBAB_CASE, List.of("foo_bar"), ForkJoinPool.commonPool(), 0));
+    }
+
+    /**
+     * Tests {@link TextCase#convert(Reader, WordsSplitter, Appendable)} with a
+     * {@link Reader} that returns only one character per read, to verify that
+     * the incremental splitting results in the same words.
+     */
+    @ParameterizedTest
+    @MethodSource("createConvertReaderTestVectors")
+    void testConvertReader(TextCase originTextCase, String text) throws IOException {
+        for (TextCase targetTextCase : ALL_STANDARD_TEXT_CASES) {
+            var target = new StringBuilder();
+            targetTextCase.convert(new SingleCharacterReader(text), originTextCase.wordsSplitter(), "|", target);
+            assertThat(target.toString()).isEqualTo(targetTextCase.convert(text, originTextCase.wordsSplitter(), "|"));
+        }
+    }
+
+    static Stream<Arguments> createConvertReaderTestVectors() {
+        List<String> texts = List.of(
+                "",
+                "f",
+                "fooBarBAZ",
+                "FooBarBaz",
+                "  foo Bar\tbaz\n",
+                "foo-bar--baz-",
+                "foo_bar__baz_",
+                "foo.bar..baz.",
+                "\uD801\uDC28\uD801\uDC00a\uD801\uDC00B"
+        );
+        return ALL_STANDARD_TEXT_CASES.stream()
+                .flatMap(textCase -> texts.stream().map(text -> arguments(textCase, text)));
+    }
+
     @ParameterizedTest
     @MethodSource("createTestExampleTestVectors")
     void testExample(TextCase textCase, String fixedExpectExample) {
@@ -1,5 +1,6 @@
 package dev.turingcomplete.textcaseconverter;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -81,6 +82,21 @@ class StandardWordsSplittersTest {
         assertThat(actualWords).containsExactly(expectedWords);
     }
 
+    @Test
+    void testUpperCaseCharacterWordSeparatorWithSurrogatePairs() {
+        String deseretCapitalLongI = "\uD801\uDC00";
+        String deseretSmallLongI = "\uD801\uDC28";
+
+        assertThat(StandardWordsSplitters.STRICT_UPPER_CASE.split(deseretCapitalLongI))
+                .containsExactly(deseretCapitalLongI);
+        assertThat(StandardWordsSplitters.STRICT_UPPER_CASE.split("f" + deseretSmallLongI + "o"))
+                .containsExactly("f" + deseretSmallLongI + "o");
+        assertThat(StandardWordsSplitters.STRICT_UPPER_CASE.split("f" + deseretCapitalLongI + "o"))
+                .containsExactly("f", deseretCapitalLongI + "o");
+        assertThat(StandardWordsSplitters.SOFT_UPPER_CASE.split("f" + deseretCapitalLongI + "Bo"))
+                .containsExactly("f", deseretCapitalLongI + "Bo");
+    }
+
     @ParameterizedTest
     @CsvSource({
             ",",
@@ -137,6 +153,25 @@ class StandardWordsSplittersTest {
         assertThat(actualWords).containsExactly(expectedWords);
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {
+            ",",
+            "f,f",
+            "user_firstName-v2.id,user|first|Name|v|2|id",
+            "  foo__Bar,foo|Bar",
+            "fooSQLbar,foo|SQLbar",
+            "SQL2Table,SQL|2|Table",
+            "value10x,value|10|x",
+            "-._ ,"
+    })
+    void testMixedWordSeparator(String input, String expectedWordsEncoded) {
+        input = input == null ? "" : input;
+        String[] expectedWords = expectedWordsEncoded == null ? new String[0] : expectedWordsEncoded.split("\\|");
+
+        List<String> actualWords = StandardWordsSplitters.MIXED.split(input);
+        assertThat(actualWords).containsExactly(expectedWords);
+    }
+
     // -- Private Methods ------------------------------------------------------------------------------------------- //
     // -- Inner Type ------------------------------------------------------------------------------------------------ //
 }
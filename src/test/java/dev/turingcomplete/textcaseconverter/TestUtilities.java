@@ -0,0 +1,93 @@
+package dev.turingcomplete.textcaseconverter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+final class TestUtilities {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    /**
+     * A {@link TextCase} whose {@link WordsSplitter} always throws an
+     * {@link IllegalStateException}.
+     */
+    static final TextCase FAILING_TEXT_CASE = new TextCaseBuilder()
+            .title("Failing Case")
+            .wordsSplitter(text -> {
+                throw new IllegalStateException("Failure");
+            })
+            .build();
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * Calls the given {@code task} once on each of the given number of
+     * threads at the same time.
+     *
+     * @param threadsCount the number of threads.
+     * @param task         the task which gets the index of its thread.
+     * @return the results of the {@code task} in the order of the thread
+     * indices; never null.
+     * @throws Exception if a {@code task} failed.
+     */
+    static <T> List<T> runConcurrently(int threadsCount, ThreadTask<T> task) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadsCount);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < threadsCount; i++) {
+                int threadIndex = i;
+                futures.add(executorService.submit((Callable<T>) () -> task.run(threadIndex)));
+            }
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    @FunctionalInterface
+    interface ThreadTask<T> {
+
+        T run(int threadIndex) throws Exception;
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    /**
+     * A {@link Reader} that returns only one character per read, to test
+     * the incremental splitting of a text.
+     */
+    static final class SingleCharacterReader extends Reader {
+
+        private final StringReader delegate;
+
+        SingleCharacterReader(String text) {
+            delegate = new StringReader(text);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return delegate.read(buffer, offset, Math.min(length, 1));
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
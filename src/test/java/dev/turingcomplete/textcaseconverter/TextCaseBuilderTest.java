@@ -0,0 +1,128 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter.TextCaseBuilder.CharacterCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Locale;
+
+import static dev.turingcomplete.textcaseconverter.StandardTextCases.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TextCaseBuilderTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "LOWER_CASE,UPPER_CASE,LOWER_CASE,'',fooBarBaz",
+            "UPPER_CASE,UPPER_CASE,LOWER_CASE,'',FooBarBaz",
+            "LOWER_CASE,LOWER_CASE,LOWER_CASE,_,foo_bar_baz",
+            "UPPER_CASE,UPPER_CASE,UPPER_CASE,_,FOO_BAR_BAZ",
+            "UPPER_CASE,LOWER_CASE,LOWER_CASE,+,Foo+bar+baz",
+            "UNCHANGED,UNCHANGED,UNCHANGED,/,foo/bAR/Baz",
+            "UNCHANGED,UPPER_CASE,UNCHANGED,'',fooBARBaz"
+    })
+    void testConvert(
+            CharacterCase firstCharacterOfFirstWord,
+            CharacterCase firstCharacterOfOtherWords,
+            CharacterCase otherCharacters,
+            String joinDelimiter,
+            String expectedText
+    ) {
+        TextCase textCase = new TextCaseBuilder()
+                .title("Custom")
+                .joinDelimiter(joinDelimiter)
+                .wordsSplitter(StandardWordsSplitters.SPACES)
+                .firstCharacterOfFirstWord(firstCharacterOfFirstWord)
+                .firstCharacterOfOtherWords(firstCharacterOfOtherWords)
+                .otherCharacters(otherCharacters)
+                .build();
+
+        List<String> words = List.of("foo", "bAR", "Baz");
+        assertThat(textCase.convert(words)).isEqualTo(expectedText);
+        assertThat(textCase.convert(String.join(" ", words), StandardWordsSplitters.SPACES)).isEqualTo(expectedText);
+        assertThat(textCase.convertFrom(SNAKE_CASE, "foo_bAR_Baz")).isEqualTo(expectedText);
+        assertThat(SNAKE_CASE.convertFrom(textCase, "foo bar baz")).isEqualTo("foo_bar_baz");
+    }
+
+    /**
+     * The built {@link TextCase}s must convert like the built-in ones with the
+     * same definition.
+     */
+    @Test
+    void testSameAsStandardTextCases() {
+        TextCase trainCase = new TextCaseBuilder()
+                .title("Train Case")
+                .joinDelimiter("-")
+                .firstCharacterOfFirstWord(CharacterCase.UPPER_CASE)
+                .firstCharacterOfOtherWords(CharacterCase.UPPER_CASE)
+                .otherCharacters(CharacterCase.LOWER_CASE)
+                .build();
+        TextCase strictCamelCase = new TextCaseBuilder()
+                .title("Strict Camel Case")
+                .wordsSplitter(StandardWordsSplitters.STRICT_UPPER_CASE)
+                .firstCharacterOfFirstWord(CharacterCase.LOWER_CASE)
+                .firstCharacterOfOtherWords(CharacterCase.UPPER_CASE)
+                .otherCharacters(CharacterCase.LOWER_CASE)
+                .build();
+
+        for (String text : List.of("", "foo", "fooBarBAZ", "FOO_BAR", "\u00E4\u00F6\u00FC_\u00C4\u00D6\u00DC", "a-B-c")) {
+            for (TextCase originTextCase : ALL_STANDARD_TEXT_CASES) {
+                assertThat(trainCase.convertFrom(originTextCase, text)).isEqualTo(TRAIN_CASE.convertFrom(originTextCase, text));
+                assertThat(strictCamelCase.convertFrom(originTextCase, text)).isEqualTo(STRICT_CAMEL_CASE.convertFrom(originTextCase, text));
+            }
+            assertThat(trainCase.convertTo(SNAKE_CASE, text)).isEqualTo(TRAIN_CASE.convertTo(SNAKE_CASE, text));
+        }
+    }
+
+    @Test
+    void testDefaults() {
+        TextCase textCase = new TextCaseBuilder()
+                .title("Plus Case")
+                .joinDelimiter("+")
+                .firstCharacterOfOtherWords(CharacterCase.UPPER_CASE)
+                .build();
+
+        assertThat(textCase.title()).isEqualTo("Plus Case");
+        assertThat(textCase.example()).isEqualTo("example+Text");
+        assertThat(textCase.joinDelimiter()).isEqualTo("+");
+        assertThat(textCase.wordsSplitter().split("foo+bar")).containsExactly("foo", "bar");
+        assertThat(textCase.convert(List.of("fOO", "bar"))).isEqualTo("fOO+Bar");
+
+        TextCase textCaseWithExample = new TextCaseBuilder()
+                .title("Plus Case")
+                .example("plus+Case")
+                .joinDelimiter("+")
+                .build();
+        assertThat(textCaseWithExample.example()).isEqualTo("plus+Case");
+    }
+
+    @Test
+    void testLocale() {
+        TextCase turkishUpperCase = new TextCaseBuilder()
+                .title("Turkish Upper Case")
+                .joinDelimiter(" ")
+                .firstCharacterOfFirstWord(CharacterCase.UPPER_CASE)
+                .firstCharacterOfOtherWords(CharacterCase.UPPER_CASE)
+                .otherCharacters(CharacterCase.UPPER_CASE)
+                .locale(new Locale("tr"))
+                .build();
+
+        assertThat(turkishUpperCase.convert(List.of("istanbul", "izmir"))).isEqualTo("\u0130STANBUL \u0130ZM\u0130R");
+    }
+
+    @Test
+    void testBuildWithoutRequiredProperties() {
+        assertThrows(IllegalStateException.class, () -> new TextCaseBuilder().joinDelimiter("-").build());
+        assertThrows(IllegalStateException.class, () -> new TextCaseBuilder().title("Custom").build());
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
@@ -0,0 +1,214 @@
+package dev.turingcomplete.textcaseconverter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static dev.turingcomplete.textcaseconverter.StandardTextCases.*;
+import static dev.turingcomplete.textcaseconverter.TestUtilities.FAILING_TEXT_CASE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextCaseConversionProcessorTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Test
+    void testConvertStream() throws Exception {
+        var processor = new TextCaseConversionProcessor(SOFT_CAMEL_CASE, SNAKE_CASE, 16);
+        var subscriber = new TestSubscriber(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+
+        try (var publisher = new SubmissionPublisher<CharSequence>()) {
+            publisher.subscribe(processor);
+            for (int i = 0; i < 1000; i++) {
+                publisher.submit(new StringBuilder("value").append(i).append("Name"));
+            }
+        }
+
+        subscriber.completion.get(10, TimeUnit.SECONDS);
+        assertThat(subscriber.items).hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(subscriber.items.get(i)).isEqualTo(SNAKE_CASE.convertFrom(SOFT_CAMEL_CASE, "value" + i + "Name"));
+        }
+    }
+
+    @Test
+    void testRespectsDemand() {
+        var processor = new TextCaseConversionProcessor(SOFT_CAMEL_CASE, KEBAB_CASE, 8);
+        var upstream = new TestSubscription();
+        processor.onSubscribe(upstream);
+        assertThat(upstream.requested).containsExactly(8L);
+
+        var subscriber = new TestSubscriber(0);
+        processor.subscribe(subscriber);
+        for (int i = 0; i < 8; i++) {
+            processor.onNext("fooBar" + i);
+        }
+        assertThat(subscriber.items).isEmpty();
+
+        subscriber.subscription.request(3);
+        assertThat(subscriber.items).containsExactly("foo-bar-0", "foo-bar-1", "foo-bar-2");
+        // Less than three quarters of the buffer got delivered
+        assertThat(upstream.requested).containsExactly(8L);
+
+        subscriber.subscription.request(5);
+        assertThat(subscriber.items).hasSize(8);
+        assertThat(upstream.requested).containsExactly(8L, 8L);
+
+        processor.onComplete();
+        assertThat(subscriber.completion.isDone()).isTrue();
+    }
+
+    @Test
+    void testCompletesAfterBufferedItems() throws Exception {
+        var processor = new TextCaseConversionProcessor(SNAKE_CASE, PASCAL_CASE);
+        processor.onSubscribe(new TestSubscription());
+        processor.onNext("foo_bar");
+        processor.onComplete();
+
+        var subscriber = new TestSubscriber(0);
+        processor.subscribe(subscriber);
+        assertThat(subscriber.completion.isDone()).isFalse();
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items).containsExactly("FooBar");
+        subscriber.completion.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testUpstreamError() {
+        var processor = new TextCaseConversionProcessor(SNAKE_CASE, PASCAL_CASE);
+        var subscriber = new TestSubscriber(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        processor.onSubscribe(new TestSubscription());
+
+        processor.onNext("foo_bar");
+        processor.onError(new IllegalStateException("Failure"));
+
+        assertThat(subscriber.items).containsExactly("FooBar");
+        assertThat(subscriber.completion.isCompletedExceptionally()).isTrue();
+    }
+
+    @Test
+    void testConversionFailure() {
+        var processor = new TextCaseConversionProcessor(FAILING_TEXT_CASE, SNAKE_CASE);
+        var upstream = new TestSubscription();
+        processor.onSubscribe(upstream);
+        var subscriber = new TestSubscriber(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+
+        processor.onNext("foo");
+        processor.onNext("bar");
+
+        assertThat(upstream.cancelled).isTrue();
+        assertThat(subscriber.items).isEmpty();
+        assertThat(subscriber.completion.isCompletedExceptionally()).isTrue();
+    }
+
+    @Test
+    void testCancel() {
+        var processor = new TextCaseConversionProcessor(SNAKE_CASE, KEBAB_CASE);
+        var upstream = new TestSubscription();
+        processor.onSubscribe(upstream);
+        var subscriber = new TestSubscriber(1);
+        processor.subscribe(subscriber);
+
+        processor.onNext("foo_bar");
+        subscriber.subscription.cancel();
+        processor.onNext("bar_baz");
+        subscriber.subscription.request(1);
+
+        assertThat(upstream.cancelled).isTrue();
+        assertThat(subscriber.items).containsExactly("foo-bar");
+        assertThat(subscriber.completion.isDone()).isFalse();
+    }
+
+    @Test
+    void testInvalidRequest() {
+        var processor = new TextCaseConversionProcessor(SNAKE_CASE, KEBAB_CASE);
+        var upstream = new TestSubscription();
+        processor.onSubscribe(upstream);
+        var subscriber = new TestSubscriber(0);
+        processor.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertThat(upstream.cancelled).isTrue();
+        assertThat(subscriber.completion.isCompletedExceptionally()).isTrue();
+    }
+
+    @Test
+    void testSecondSubscriberGetsRejected() {
+        var processor = new TextCaseConversionProcessor(SNAKE_CASE, KEBAB_CASE);
+        processor.subscribe(new TestSubscriber(0));
+
+        var secondSubscriber = new TestSubscriber(0);
+        processor.subscribe(secondSubscriber);
+
+        assertThat(secondSubscriber.completion.isCompletedExceptionally()).isTrue();
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private static final class TestSubscriber implements Flow.Subscriber<String> {
+
+        private final long initialRequest;
+        private final List<String> items = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+
+        TestSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private static final class TestSubscription implements Flow.Subscription {
+
+        private final List<Long> requested = new ArrayList<>();
+        private boolean cancelled = false;
+
+        @Override
+        public void request(long n) {
+            requested.add(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package dev.turingcomplete.textcaseconverter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static dev.turingcomplete.textcaseconverter.StandardTextCases.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TextCaseConversionTableTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Test
+    void testLookup() {
+        TextCaseConversionTable table = createTable();
+
+        assertThat(table.size()).isEqualTo(3);
+        assertThat(table.textCases()).containsExactly(SOFT_CAMEL_CASE, SNAKE_CASE, KEBAB_CASE, SCREAMING_SNAKE_CASE);
+
+        assertThat(table.lookup(SOFT_CAMEL_CASE, SNAKE_CASE, "userId")).isEqualTo("user_id");
+        assertThat(table.lookup(SOFT_CAMEL_CASE, SOFT_CAMEL_CASE, "userId")).isEqualTo("userId");
+        assertThat(table.lookup(SNAKE_CASE, KEBAB_CASE, "billing_address")).isEqualTo("billing-address");
+        assertThat(table.lookup(SCREAMING_SNAKE_CASE, SOFT_CAMEL_CASE, "CREATED_AT")).isEqualTo("createdAt");
+        assertThat(table.lookup(SOFT_CAMEL_CASE, SNAKE_CASE, "unknown")).isNull();
+        assertThat(table.lookup(SNAKE_CASE, KEBAB_CASE, "userId")).isNull();
+    }
+
+    @Test
+    void testLookupOfSameFormReturnsFirstIdentifier() {
+        TextCaseConversionTable table = TextCaseConversionTable.builder()
+                .originTextCase(SOFT_CAMEL_CASE)
+                .targetTextCases(SNAKE_CASE)
+                .identifiers("fooBar", "foo_bar", "fooBAR")
+                .build();
+
+        assertThat(table.lookup(SNAKE_CASE, SOFT_CAMEL_CASE, "foo_bar")).isEqualTo("fooBar");
+    }
+
+    @Test
+    void testLookupWithUnknownTextCase() {
+        TextCaseConversionTable table = createTable();
+
+        assertThrows(IllegalArgumentException.class, () -> table.lookup(SOFT_CAMEL_CASE, COBOL_CASE, "userId"));
+    }
+
+    @Test
+    void testBuildWithoutOriginTextCase() {
+        assertThrows(IllegalStateException.class, () -> TextCaseConversionTable.builder().identifiers("foo").build());
+    }
+
+    @Test
+    void testWriteAndRead() throws IOException {
+        TextCaseConversionTable table = createTable();
+
+        var output = new ByteArrayOutputStream();
+        table.writeTo(output);
+        TextCaseConversionTable readTable = TextCaseConversionTable.readFrom(new ByteArrayInputStream(output.toByteArray()),
+                                                                             ALL_STANDARD_TEXT_CASES);
+
+        assertThat(readTable.size()).isEqualTo(table.size());
+        assertThat(readTable.textCases()).isEqualTo(table.textCases());
+        for (TextCase originTextCase : table.textCases()) {
+            for (TextCase targetTextCase : table.textCases()) {
+                for (String identifier : List.of("userId", "billingAddress", "createdAt")) {
+                    String originText = table.lookup(SOFT_CAMEL_CASE, originTextCase, identifier);
+                    assertThat(readTable.lookup(originTextCase, targetTextCase, originText))
+                            .isEqualTo(table.lookup(originTextCase, targetTextCase, originText));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testReadWithUnknownTextCase() throws IOException {
+        var output = new ByteArrayOutputStream();
+        createTable().writeTo(output);
+
+        assertThrows(IOException.class, () -> TextCaseConversionTable.readFrom(new ByteArrayInputStream(output.toByteArray()),
+                                                                               List.of(SNAKE_CASE)));
+    }
+
+    @Test
+    void testReadInvalidData() {
+        assertThrows(IOException.class, () -> TextCaseConversionTable.readFrom(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}),
+                                                                               ALL_STANDARD_TEXT_CASES));
+    }
+
+    /**
+     * Truncated or corrupt data must only lead to an {@link IOException}, and
+     * not to an unchecked exception or an {@link OutOfMemoryError}.
+     */
+    @Test
+    void testReadCorruptData() throws IOException {
+        var output = new ByteArrayOutputStream();
+        createTable().writeTo(output);
+        byte[] data = output.toByteArray();
+
+        for (int length = 0; length < data.length; length++) {
+            byte[] truncatedData = Arrays.copyOf(data, length);
+            assertThrows(IOException.class, () -> TextCaseConversionTable.readFrom(new ByteArrayInputStream(truncatedData),
+                                                                                   ALL_STANDARD_TEXT_CASES));
+        }
+
+        for (int i = 0; i < data.length; i++) {
+            for (byte corruptByte : new byte[]{(byte) 0x80, (byte) 0x7F, (byte) 0xFF}) {
+                byte[] corruptData = data.clone();
+                corruptData[i] = corruptByte;
+                try {
+                    TextCaseConversionTable.readFrom(new ByteArrayInputStream(corruptData), ALL_STANDARD_TEXT_CASES);
+                } catch (IOException ignored) {
+                    // Expected, unless the byte is part of an identifier
+                }
+            }
+        }
+    }
+
+    @Test
+    void testReadUnsortedIdentifierIndices() throws IOException {
+        var output = new ByteArrayOutputStream();
+        TextCaseConversionTable.builder()
+                               .originTextCase(SNAKE_CASE)
+                               .targetTextCases(KEBAB_CASE)
+                               .identifiers("a", "b")
+                               .build()
+                               .writeTo(output);
+        byte[] data = output.toByteArray();
+
+        // The sorted indices [0, 1] of the first text case follow its identifiers
+        int sortedIndicesOffset = 4 * 4 + 2 * (4 + "Snake Case".length()) + 2 * (4 + 1);
+        assertThat(Arrays.copyOfRange(data, sortedIndicesOffset, sortedIndicesOffset + 8)).containsExactly(new byte[]{0, 0, 0, 0, 0, 0, 0, 1});
+
+        byte[] swappedData = data.clone();
+        swappedData[sortedIndicesOffset + 3] = 1;
+        swappedData[sortedIndicesOffset + 7] = 0;
+        assertThrows(IOException.class, () -> TextCaseConversionTable.readFrom(new ByteArrayInputStream(swappedData), ALL_STANDARD_TEXT_CASES));
+
+        byte[] duplicateData = data.clone();
+        duplicateData[sortedIndicesOffset + 7] = 0;
+        assertThrows(IOException.class, () -> TextCaseConversionTable.readFrom(new ByteArrayInputStream(duplicateData), ALL_STANDARD_TEXT_CASES));
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private TextCaseConversionTable createTable() {
+        return TextCaseConversionTable.builder()
+                .originTextCase(SOFT_CAMEL_CASE)
+                .targetTextCases(SNAKE_CASE, KEBAB_CASE, SCREAMING_SNAKE_CASE)
+                .identifiers("userId", "billingAddress", "createdAt")
+                .build();
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
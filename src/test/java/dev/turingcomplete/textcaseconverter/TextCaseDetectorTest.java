@@ -0,0 +1,117 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter.TextCaseDetector.Detection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.turingcomplete.textcaseconverter.StandardTextCases.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextCaseDetectorTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "fooBarBaz,Soft Camel Case",
+            "fooBARBaz,Strict Camel Case",
+            "foo-bar-baz,Kebab Case",
+            "foo_bar_baz,Snake Case",
+            "FOO_BAR_BAZ,Screaming Snake Case",
+            "Foo-Bar-Baz,Train Case",
+            "FOO-BAR-BAZ,Cobol Case",
+            "FooBarBaz,Pascal Case",
+            "Foo_Bar_Baz,Pascal Snake Case",
+            "foo_Bar_Baz,Camel Snake Case",
+            "foobarbaz,Lower Case",
+            "FOOBARBAZ,Upper Case",
+            "fOO bAR bAZ,Inverted Case",
+            "fOo bAr bAz,Alternating Case",
+            "foo.bar.baz,Dot Case",
+            "foo2Bar,Soft Camel Case",
+            "foo_bar2_baz,Snake Case",
+            "_foo_bar,Snake Case",
+            "\u00E4\u00F6\u00FC\u00C4\u00D6\u00DC,Strict Camel Case",
+            "\u00E4\u00F6\u00FC_\u00E4\u00F6\u00FC,Snake Case"
+    })
+    void testDetect(String text, String expectedTextCaseTitle) {
+        var textCaseDetector = new TextCaseDetector();
+
+        Detection detection = textCaseDetector.detect(text).orElseThrow();
+        assertThat(detection.textCase().title()).isEqualTo(expectedTextCaseTitle);
+        assertThat(detection.score()).isEqualTo(1);
+    }
+
+    @Test
+    void testDetectAllTextCaseExamples() {
+        var textCaseDetector = new TextCaseDetector();
+
+        for (TextCase textCase : ALL_STANDARD_TEXT_CASES) {
+            assertThat(textCaseDetector.detectAll(textCase.example()))
+                    .contains(new Detection(textCase, 1));
+        }
+    }
+
+    @Test
+    void testDetectAll() {
+        var textCaseDetector = new TextCaseDetector();
+
+        // Equal scores are ranked in the order of the text cases
+        List<Detection> detections = textCaseDetector.detectAll("foo_bar-baz");
+        assertThat(detections).extracting(Detection::textCase).startsWith(KEBAB_CASE, SNAKE_CASE);
+        assertThat(detections.get(0).score()).isEqualTo(10 / 11d);
+        assertThat(detections).extracting(Detection::score).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+
+        assertThat(textCaseDetector.detectAll("foo")).extracting(Detection::textCase).startsWith(LOWER_CASE);
+        assertThat(textCaseDetector.detectAll("FOO")).extracting(Detection::textCase).startsWith(UPPER_CASE);
+        assertThat(textCaseDetector.detectAll("Foo")).extracting(Detection::textCase).startsWith(PASCAL_CASE);
+    }
+
+    @Test
+    void testDetectWithoutLettersOrSeparators() {
+        var textCaseDetector = new TextCaseDetector();
+
+        assertThat(textCaseDetector.detect("").isEmpty()).isTrue();
+        assertThat(textCaseDetector.detect("123").isEmpty()).isTrue();
+        assertThat(textCaseDetector.detectAll("\u4E2D\u6587")).isEmpty();
+    }
+
+    @Test
+    void testDetectCustomTextCase() {
+        TextCase pathCase = new CustomTextCase("Path Case", "path/case", "/");
+        var textCases = new ArrayList<TextCase>(ALL_STANDARD_TEXT_CASES);
+        textCases.add(pathCase);
+        var textCaseDetector = new TextCaseDetector(textCases);
+
+        assertThat(textCaseDetector.textCases()).endsWith(pathCase);
+        assertThat(textCaseDetector.detect("foo/bar/baz").orElseThrow().textCase()).isEqualTo(pathCase);
+        assertThat(textCaseDetector.detect("foo_bar_baz").orElseThrow().textCase()).isEqualTo(SNAKE_CASE);
+
+        // Unknown to the default detector
+        assertThat(new TextCaseDetector().detect("foo/bar/baz").orElseThrow().score()).isLessThan(1);
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private record CustomTextCase(String title, String example, String joinDelimiter) implements TextCase {
+        // @formatter:off
+        @Override public WordsSplitter wordsSplitter() { return WordsSplitter.splitByString(joinDelimiter); }
+        @Override public String convert(String... words) { return ""; }
+        @Override public String convert(List<String> words) { return ""; }
+        @Override public String convert(List<String> words, String joinDelimiter) { return ""; }
+        @Override public String convert(String text, WordsSplitter wordsSplitter) { return ""; }
+        @Override public String convert(String text, WordsSplitter wordsSplitter, String joinDelimiter) { return ""; }
+        @Override public String convertFrom(TextCase originTextCase, String originText) { return ""; }
+        @Override public String convertFrom(TextCase originTextCase, String originText, String joinDelimiter) { return ""; }
+        @Override public String convertTo(TextCase targetTextCase, String originText) { return ""; }
+        @Override public String convertTo(TextCase targetTextCase, String originText, String joinDelimiter) { return ""; }
+        // @formatter:on
+    }
+}
@@ -0,0 +1,132 @@
+package dev.turingcomplete.textcaseconverter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static dev.turingcomplete.textcaseconverter.StandardTextCases.*;
+import static dev.turingcomplete.textcaseconverter.TestUtilities.runConcurrently;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TextCaseRegistryTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Snake Case", "snake case", "SNAKE_CASE", "snake-case", "snakecase", "snake_case", " Snake.Case "})
+    void testFindTextCaseByTitle(String title) {
+        assertThat(TextCaseRegistry.withStandards().findTextCase(title).orElseThrow()).isSameAs(SNAKE_CASE);
+    }
+
+    @Test
+    void testFindAllStandardTextCases() {
+        TextCaseRegistry textCaseRegistry = TextCaseRegistry.withStandards();
+
+        assertThat(textCaseRegistry.textCases()).isEqualTo(ALL_STANDARD_TEXT_CASES);
+        for (TextCase textCase : ALL_STANDARD_TEXT_CASES) {
+            assertThat(textCaseRegistry.findTextCase(textCase.title()).orElseThrow()).isSameAs(textCase);
+            assertThat(textCaseRegistry.findTextCase(textCase.example()).orElseThrow()).isSameAs(textCase);
+        }
+    }
+
+    @Test
+    void testFindTextCaseByExample() {
+        TextCaseRegistry textCaseRegistry = TextCaseRegistry.withStandards();
+
+        // Examples are matched exactly
+        assertThat(textCaseRegistry.findTextCase("UPPERCASE").orElseThrow()).isSameAs(UPPER_CASE);
+        assertThat(textCaseRegistry.findTextCase("lowercase").orElseThrow()).isSameAs(LOWER_CASE);
+        assertThat(textCaseRegistry.findTextCase("PascalCase").orElseThrow()).isSameAs(PASCAL_CASE);
+        assertThat(textCaseRegistry.findTextCase("aLtErNaTiNg cAsE").orElseThrow()).isSameAs(ALTERNATING_CASE);
+        assertThat(textCaseRegistry.findTextCase("kebab-case").orElseThrow()).isSameAs(KEBAB_CASE);
+        assertThat(textCaseRegistry.findTextCase("softCamelCaseSQL").isPresent()).isFalse();
+        assertThat(textCaseRegistry.findTextCase("foo").isPresent()).isFalse();
+    }
+
+    @Test
+    void testRegisterTextCase() {
+        var textCaseRegistry = new TextCaseRegistry();
+        TextCase plusCase = new TextCaseBuilder().title("Plus Case").example("plus+case").joinDelimiter("+").build();
+
+        textCaseRegistry.register(plusCase, "plus");
+        textCaseRegistry.register(plusCase, "add");
+
+        assertThat(textCaseRegistry.textCases()).containsExactly(plusCase);
+        assertThat(textCaseRegistry.findTextCase("PLUS_CASE").orElseThrow()).isSameAs(plusCase);
+        assertThat(textCaseRegistry.findTextCase("Plus").orElseThrow()).isSameAs(plusCase);
+        assertThat(textCaseRegistry.findTextCase("add").orElseThrow()).isSameAs(plusCase);
+        assertThat(textCaseRegistry.findTextCase("plus+case").orElseThrow()).isSameAs(plusCase);
+
+        assertThat(textCaseRegistry.unregister(plusCase)).isTrue();
+        assertThat(textCaseRegistry.unregister(plusCase)).isFalse();
+        assertThat(textCaseRegistry.textCases()).isEmpty();
+        assertThat(textCaseRegistry.findTextCase("plus").isPresent()).isFalse();
+        assertThat(textCaseRegistry.findTextCase("plus+case").isPresent()).isFalse();
+    }
+
+    @Test
+    void testRegisterTextCaseWithConflictingName() {
+        TextCaseRegistry textCaseRegistry = TextCaseRegistry.withStandards();
+        TextCase otherSnakeCase = new TextCaseBuilder().title("Other Snake Case").joinDelimiter("_").build();
+
+        assertThatThrownBy(() -> textCaseRegistry.register(otherSnakeCase, "snake-case"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The name 'snakecase' is already registered");
+        assertThatThrownBy(() -> textCaseRegistry.register(new TextCaseBuilder().title("Snake").example("snake_case").joinDelimiter("_").build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The example 'snake_case' is already registered");
+        assertThatThrownBy(() -> textCaseRegistry.register(otherSnakeCase, "_-"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Empty name");
+
+        // A failed registration registers none of the names
+        assertThat(textCaseRegistry.findTextCase("Other Snake Case").isPresent()).isFalse();
+        assertThat(textCaseRegistry.textCases()).isEqualTo(ALL_STANDARD_TEXT_CASES);
+    }
+
+    @Test
+    void testFindWordsSplitter() {
+        TextCaseRegistry textCaseRegistry = TextCaseRegistry.withStandards();
+
+        assertThat(textCaseRegistry.findWordsSplitter("SPACES").orElseThrow()).isSameAs(StandardWordsSplitters.SPACES);
+        assertThat(textCaseRegistry.findWordsSplitter("soft-upper-case").orElseThrow()).isSameAs(StandardWordsSplitters.SOFT_UPPER_CASE);
+        assertThat(textCaseRegistry.findWordsSplitter("Strict Upper Case").orElseThrow()).isSameAs(StandardWordsSplitters.STRICT_UPPER_CASE);
+        assertThat(textCaseRegistry.findWordsSplitter("Snake Case").isPresent()).isFalse();
+
+        WordsSplitter plusWordsSplitter = WordsSplitter.splitByString("+");
+        textCaseRegistry.register("Plus", plusWordsSplitter, "add");
+        assertThat(textCaseRegistry.findWordsSplitter("ADD").orElseThrow()).isSameAs(plusWordsSplitter);
+        assertThatThrownBy(() -> textCaseRegistry.register("Dot", plusWordsSplitter))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(textCaseRegistry.unregister(plusWordsSplitter)).isTrue();
+        assertThat(textCaseRegistry.unregister(plusWordsSplitter)).isFalse();
+        assertThat(textCaseRegistry.findWordsSplitter("plus").isPresent()).isFalse();
+    }
+
+    @Test
+    void testConcurrentRegistration() throws Exception {
+        var textCaseRegistry = new TextCaseRegistry();
+
+        runConcurrently(8, thread -> {
+            for (int j = 0; j < 100; j++) {
+                TextCase textCase = new TextCaseBuilder()
+                        .title("Case " + thread + " " + j)
+                        .example("case_" + thread + "_" + j)
+                        .joinDelimiter("_")
+                        .build();
+                textCaseRegistry.register(textCase);
+                assertThat(textCaseRegistry.findTextCase("case" + thread + j).orElseThrow()).isSameAs(textCase);
+            }
+            return null;
+        });
+
+        assertThat(textCaseRegistry.textCases()).hasSize(800);
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
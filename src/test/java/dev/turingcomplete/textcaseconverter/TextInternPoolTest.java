@@ -0,0 +1,107 @@
+package dev.turingcomplete.textcaseconverter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.turingcomplete.textcaseconverter.StandardTextCases.*;
+import static dev.turingcomplete.textcaseconverter.TestUtilities.runConcurrently;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextInternPoolTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @Test
+    void testIntern() {
+        var internPool = new TextInternPool();
+
+        String first = new String("foo_bar");
+        String second = new String("foo_bar");
+        assertThat(internPool.intern(first)).isSameAs(first);
+        assertThat(internPool.intern(second)).isSameAs(first);
+        assertThat(internPool.intern("baz")).isEqualTo("baz");
+
+        TextInternPool.Statistics statistics = internPool.statistics();
+        assertThat(statistics.hitCount()).isEqualTo(1);
+        assertThat(statistics.missCount()).isEqualTo(2);
+        assertThat(statistics.size()).isEqualTo(2);
+        assertThat(statistics.hitRate()).isEqualTo(1 / 3d);
+    }
+
+    @Test
+    void testInternCanonicalInstanceIsHit() {
+        var internPool = new TextInternPool();
+        TextCase snakeCase = internPool.interning(SNAKE_CASE);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(snakeCase.convert(List.of())).isEmpty();
+            assertThat(internPool.intern("lit")).isSameAs("lit");
+        }
+
+        TextInternPool.Statistics statistics = internPool.statistics();
+        assertThat(statistics.hitCount()).isEqualTo(4);
+        assertThat(statistics.missCount()).isEqualTo(2);
+        assertThat(statistics.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testInterningTextCase() {
+        var internPool = new TextInternPool();
+        TextCase snakeCase = internPool.interning(SNAKE_CASE);
+
+        assertThat(snakeCase.title()).isEqualTo(SNAKE_CASE.title());
+        assertThat(snakeCase.example()).isEqualTo(SNAKE_CASE.example());
+        assertThat(snakeCase.joinDelimiter()).isEqualTo(SNAKE_CASE.joinDelimiter());
+        assertThat(snakeCase.wordsSplitter()).isSameAs(SNAKE_CASE.wordsSplitter());
+
+        String result = snakeCase.convertFrom(SOFT_CAMEL_CASE, "fooBar");
+        assertThat(result).isEqualTo("foo_bar");
+        assertThat(snakeCase.convertFrom(STRICT_CAMEL_CASE, "fooBar")).isSameAs(result);
+        assertThat(snakeCase.convert(List.of("foo", "bar"))).isSameAs(result);
+        assertThat(snakeCase.convert("foo bar", StandardWordsSplitters.SPACES)).isSameAs(result);
+        assertThat(snakeCase.convert("xfoo bar", new int[]{1, 4, 5, 8})).isSameAs(result);
+        List<String> kebabCaseResults = snakeCase.convertAllTo(KEBAB_CASE, List.of("foo_bar", "foo_bar"));
+        assertThat(kebabCaseResults).containsExactly("foo-bar", "foo-bar");
+        assertThat(kebabCaseResults.get(0)).isSameAs(kebabCaseResults.get(1));
+
+        // The results of the target text case get interned
+        assertThat(internPool.interning(KEBAB_CASE).convertTo(snakeCase, "foo-bar")).isSameAs(result);
+        assertThat(snakeCase.convertTo(PASCAL_CASE, "foo_bar")).isEqualTo("FooBar");
+
+        // Unchanged delegation into a target
+        var target = new StringBuilder();
+        snakeCase.convertFrom(SOFT_CAMEL_CASE, "fooBar", target);
+        assertThat(target.toString()).isEqualTo("foo_bar");
+    }
+
+    @Test
+    void testConcurrentInterning() throws Exception {
+        var internPool = new TextInternPool();
+        TextCase snakeCase = internPool.interning(SNAKE_CASE);
+
+        List<List<String>> threadsResults = runConcurrently(8, thread -> {
+            List<String> results = new ArrayList<>();
+            for (int j = 0; j < 1000; j++) {
+                results.add(snakeCase.convertFrom(SOFT_CAMEL_CASE, "valueNo" + (j % 100)));
+            }
+            return results;
+        });
+
+        for (List<String> results : threadsResults) {
+            for (int j = 0; j < results.size(); j++) {
+                assertThat(results.get(j)).isSameAs(internPool.intern("value_no_" + (j % 100)));
+            }
+        }
+
+        TextInternPool.Statistics statistics = internPool.statistics();
+        assertThat(statistics.missCount()).isEqualTo(100);
+        assertThat(statistics.size()).isEqualTo(100);
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
@@ -0,0 +1,133 @@
+package dev.turingcomplete.textcaseconverter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static dev.turingcomplete.textcaseconverter.StandardTextCases.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Utf8TextCaseConverterTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "userId",
+            "softCamelCaseSQL",
+            "fooBar0",
+            "stra\u00dfeName",
+            "\u00fcberGr\u00f6\u00dfe",
+            "emoji\uD83D\uDE00Text",
+            "\uD801\uDC00\uD801\uDC28Foo",
+            "\u0130stanbulCity"
+    })
+    void testSameAsStringConversion(String text) {
+        byte[] source = text.getBytes(StandardCharsets.UTF_8);
+        for (TextCase originTextCase : ALL_STANDARD_TEXT_CASES) {
+            for (TextCase targetTextCase : ALL_STANDARD_TEXT_CASES) {
+                var converter = new Utf8TextCaseConverter(originTextCase, targetTextCase);
+                String expectedText = targetTextCase.convertFrom(originTextCase, text);
+
+                assertThat(new String(converter.convert(source), StandardCharsets.UTF_8))
+                        .as(originTextCase.title() + " -> " + targetTextCase.title())
+                        .isEqualTo(expectedText);
+            }
+        }
+    }
+
+    @Test
+    void testConvertRange() {
+        var converter = new Utf8TextCaseConverter(SOFT_CAMEL_CASE, SNAKE_CASE);
+        byte[] source = "{\"userId\":1}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(converter.convert(source, 2, 6)).isEqualTo("user_id".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testConvertIntoArray() {
+        var converter = new Utf8TextCaseConverter(SNAKE_CASE, PASCAL_CASE);
+        byte[] source = "foo_bar".getBytes(StandardCharsets.UTF_8);
+        var target = new byte[10];
+
+        assertThat(converter.convert(source, 0, source.length, target, 2)).isEqualTo(6);
+        assertThat(new String(target, 2, 6, StandardCharsets.UTF_8)).isEqualTo("FooBar");
+
+        assertThatThrownBy(() -> converter.convert(source, 0, source.length, target, 5)).isInstanceOf(BufferOverflowException.class);
+        assertThat(target[5]).isEqualTo((byte) 'B');
+        assertThatThrownBy(() -> converter.convert(source, 0, source.length + 1, target, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testConvertByteBuffers() {
+        var converter = new Utf8TextCaseConverter(SOFT_CAMEL_CASE, KEBAB_CASE);
+        byte[] sourceBytes = "xuserNameT\u00e4x".getBytes(StandardCharsets.UTF_8);
+
+        for (boolean direct : new boolean[]{false, true}) {
+            ByteBuffer source = direct ? ByteBuffer.allocateDirect(sourceBytes.length) : ByteBuffer.allocate(sourceBytes.length);
+            source.put(sourceBytes).position(1).limit(sourceBytes.length - 1);
+            ByteBuffer target = direct ? ByteBuffer.allocateDirect(32) : ByteBuffer.allocate(32);
+            target.position(3);
+
+            converter.convert(source, target);
+
+            assertThat(source.remaining()).isEqualTo(0);
+            assertThat(target.position()).isEqualTo(3 + "user-name-t\u00e4".getBytes(StandardCharsets.UTF_8).length);
+            var converted = new byte[target.position() - 3];
+            target.get(3, converted);
+            assertThat(new String(converted, StandardCharsets.UTF_8)).isEqualTo("user-name-t\u00e4");
+        }
+    }
+
+    @Test
+    void testByteBufferOverflow() {
+        var converter = new Utf8TextCaseConverter(SOFT_CAMEL_CASE, SNAKE_CASE);
+        ByteBuffer source = ByteBuffer.wrap("userId".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer target = ByteBuffer.allocate(6);
+
+        assertThatThrownBy(() -> converter.convert(source, target)).isInstanceOf(BufferOverflowException.class);
+        assertThat(source.position()).isEqualTo(0);
+        assertThat(target.position()).isEqualTo(0);
+    }
+
+    @Test
+    void testMalformedInput() {
+        var converter = new Utf8TextCaseConverter(SOFT_CAMEL_CASE, SNAKE_CASE);
+        byte[] source = {'f', 'o', 'o', (byte) 0xC3, 'B', 'a', 'r'};
+
+        String expectedText = SNAKE_CASE.convertFrom(SOFT_CAMEL_CASE, new String(source, StandardCharsets.UTF_8));
+        assertThat(new String(converter.convert(source), StandardCharsets.UTF_8)).isEqualTo(expectedText);
+    }
+
+    @Test
+    void testLocale() {
+        var converter = new Utf8TextCaseConverter(SNAKE_CASE, StandardTextCases.withLocale(SCREAMING_SNAKE_CASE, new Locale("tr")));
+
+        assertThat(new String(converter.convert("istanbul_city".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8))
+                .isEqualTo("\u0130STANBUL_C\u0130TY");
+    }
+
+    @Test
+    void testReusedBuffers() {
+        var converter = new Utf8TextCaseConverter(SOFT_CAMEL_CASE, SNAKE_CASE);
+
+        String longText = "fooBar".repeat(10_000);
+        assertThat(new String(converter.convert(longText.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8))
+                .isEqualTo(SNAKE_CASE.convertFrom(SOFT_CAMEL_CASE, longText));
+        assertThat(converter.convert("barBaz".getBytes(StandardCharsets.UTF_8))).isEqualTo("bar_baz".getBytes(StandardCharsets.UTF_8));
+        assertThat(converter.convert("b\u00e4rBaz".getBytes(StandardCharsets.UTF_8))).isEqualTo("b\u00e4r_baz".getBytes(StandardCharsets.UTF_8));
+        assertThat(converter.convert("quxQuux".getBytes(StandardCharsets.UTF_8))).isEqualTo("qux_quux".getBytes(StandardCharsets.UTF_8));
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
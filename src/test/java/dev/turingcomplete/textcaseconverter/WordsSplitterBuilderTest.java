@@ -0,0 +1,113 @@
+package dev.turingcomplete.textcaseconverter;
+
+import dev.turingcomplete.textcaseconverter.TestUtilities.SingleCharacterReader;
+import dev.turingcomplete.textcaseconverter.WordsSplitterBuilder.UpperCaseSplitting;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static dev.turingcomplete.textcaseconverter.StandardTextCases.SNAKE_CASE;
+import static dev.turingcomplete.textcaseconverter.StandardWordsSplitters.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordsSplitterBuilderTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+
+    private static final String ALPHABET = "aBc1_-.Z9 \u00e4\u00c4\uD801\uDC00\uD801\uDC28";
+
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @ParameterizedTest
+    @EnumSource(value = UpperCaseSplitting.class, names = {"SOFT", "STRICT"})
+    void testSameAsComposedWordsSplitters(UpperCaseSplitting upperCaseSplitting) {
+        WordsSplitter wordsSplitter = new WordsSplitterBuilder().delimiters("_-.")
+                                                                .upperCaseSplitting(upperCaseSplitting)
+                                                                .build();
+        WordsSplitter upperCaseWordsSplitter = upperCaseSplitting == UpperCaseSplitting.SOFT ? SOFT_UPPER_CASE : STRICT_UPPER_CASE;
+
+        var random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            String text = randomText(random);
+
+            var expectedWords = new ArrayList<String>();
+            for (String dashWord : DASH.split(text)) {
+                for (String underscoreWord : UNDERSCORE.split(dashWord)) {
+                    for (String dotWord : DOT.split(underscoreWord)) {
+                        for (String word : upperCaseWordsSplitter.split(dotWord)) {
+                            if (!word.isBlank()) {
+                                expectedWords.add(word);
+                            }
+                        }
+                    }
+                }
+            }
+            assertThat(wordsSplitter.split(text)).as(text).isEqualTo(expectedWords);
+        }
+    }
+
+    @Test
+    void testIncrementalSplitting() throws IOException {
+        var random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            String text = randomText(random);
+
+            var words = new StringBuilder();
+            SNAKE_CASE.convert(new SingleCharacterReader(text), MIXED, "|", words);
+            assertThat(words.toString()).as(text).isEqualTo(SNAKE_CASE.convert(MIXED.split(text), "|"));
+        }
+    }
+
+    @Test
+    void testSpans() {
+        assertThat(MIXED.splitToSpans("user_firstName-v2.id")).containsExactly(0, 4, 5, 10, 10, 14, 15, 16, 16, 17, 18, 20);
+    }
+
+    @Test
+    void testNonAsciiDelimiters() {
+        WordsSplitter wordsSplitter = new WordsSplitterBuilder().delimiters("\u00b7\uD83D\uDE00").build();
+
+        assertThat(wordsSplitter.split("foo\u00b7barBaz\uD83D\uDE00qux")).containsExactly("foo", "barBaz", "qux");
+    }
+
+    @Test
+    void testDefaults() {
+        WordsSplitter wordsSplitter = new WordsSplitterBuilder().build();
+
+        assertThat(wordsSplitter.split("foo_barBaz2")).containsExactly("foo_barBaz2");
+        assertThat(wordsSplitter.split("")).isEmpty();
+    }
+
+    @Test
+    void testLetterDigitSplitting() {
+        WordsSplitter wordsSplitter = new WordsSplitterBuilder().letterDigitSplitting(true).build();
+
+        assertThat(wordsSplitter.split("foo12bar_3")).containsExactly("foo", "12", "bar_3");
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+
+    private static String randomText(Random random) {
+        var text = new StringBuilder();
+        int length = random.nextInt(12);
+        while (text.length() < length) {
+            int index = random.nextInt(ALPHABET.length());
+            if (Character.isSurrogate(ALPHABET.charAt(index))) {
+                // Surrogate pairs start at an odd index
+                index -= (index - ALPHABET.indexOf('\uD801')) % 2;
+                text.append(ALPHABET, index, index + 2);
+            } else {
+                text.append(ALPHABET.charAt(index));
+            }
+        }
+        return text.toString();
+    }
+
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
@@ -0,0 +1,81 @@
+package dev.turingcomplete.textcaseconverter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WordsSplitterTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "'',//,",
+            "a//b,//,a|b",
+            "//a////b//,//,a|b",
+            "a// //b,//,a|b",
+            "a///b,//,a|/b",
+            "abc,'',a|b|c",
+            "a b,'',a|b"
+    })
+    void testSplitByString(String input, String delimiter, String expectedWordsEncoded) {
+        String[] expectedWords = expectedWordsEncoded == null ? new String[0] : expectedWordsEncoded.split("\\|");
+
+        List<String> actualWords = WordsSplitter.splitByString(delimiter).split(input);
+        assertThat(actualWords).containsExactly(expectedWords);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "'',",
+            "a1b,a|b",
+            "12a34b5,a|b",
+            "1 1a2 2b,a|b"
+    })
+    void testSplitByPattern(String input, String expectedWordsEncoded) {
+        String[] expectedWords = expectedWordsEncoded == null ? new String[0] : expectedWordsEncoded.split("\\|");
+
+        List<String> actualWords = WordsSplitter.splitByPattern(Pattern.compile("\\d+")).split(input);
+        assertThat(actualWords).containsExactly(expectedWords);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "'',",
+            "foo,0|3",
+            "foo bar,0|3|4|7",
+            "'  foo   bar ',2|5|8|11",
+            "fooBarBaz,0|3|3|6|6|9"
+    })
+    void testSplitToSpans(String input, String expectedWordSpansEncoded) {
+        int[] expectedWordSpans = expectedWordSpansEncoded == null
+                ? new int[0]
+                : Arrays.stream(expectedWordSpansEncoded.split("\\|")).mapToInt(Integer::parseInt).toArray();
+
+        WordsSplitter wordsSplitter = input.contains(" ") ? StandardWordsSplitters.SPACES : StandardWordsSplitters.STRICT_UPPER_CASE;
+        assertThat(wordsSplitter.splitToSpans(input)).containsExactly(expectedWordSpans);
+
+        // Default implementation
+        WordsSplitter customWordsSplitter = wordsSplitter::split;
+        assertThat(customWordsSplitter.splitToSpans(input)).containsExactly(expectedWordSpans);
+    }
+
+    @Test
+    void testSplitToSpansOfWordsNotInText() {
+        WordsSplitter wordsSplitter = text -> List.of(text.toUpperCase());
+
+        assertThrows(IllegalStateException.class, () -> wordsSplitter.splitToSpans("foo"));
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
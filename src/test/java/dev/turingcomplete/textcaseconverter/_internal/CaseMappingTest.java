@@ -0,0 +1,104 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaseMappingTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * The character methods must behave identically to the {@link String}
+     * methods called with a single character {@link String}.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"", "de", "tr", "az", "lt", "en-US"})
+    void testCharacterMethodsMatchStringMethods(String languageTag) {
+        var caseMapping = languageTag.isEmpty() ? CaseMapping.DEFAULT : new CaseMapping(Locale.forLanguageTag(languageTag), Locale.forLanguageTag(languageTag));
+
+        var result = new StringBuilder();
+        for (int i = Character.MIN_VALUE; i <= Character.MAX_VALUE; i++) {
+            char character = (char) i;
+            String characterText = String.valueOf(character);
+
+            assertThat(caseMapping.isUpperCase(character)).isEqualTo(caseMapping.isUpperCase(characterText));
+
+            result.setLength(0);
+            caseMapping.appendLowerCase(character, result);
+            assertThat(result.toString()).isEqualTo(caseMapping.toLowerCase(characterText));
+
+            result.setLength(0);
+            caseMapping.appendUpperCase(character, result);
+            assertThat(result.toString()).isEqualTo(caseMapping.toUpperCase(characterText));
+        }
+    }
+
+    /**
+     * All code points without a special case mapping must be converted by the
+     * {@link Character} methods identically to the {@link String} methods.
+     */
+    @Test
+    void testSpecialCaseMappings() {
+        for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+            String codePointText = Character.toString(codePoint);
+            if (!CaseMapping.hasSpecialLowerCaseMapping(codePoint)) {
+                assertThat(Character.toString(Character.toLowerCase(codePoint))).isEqualTo(codePointText.toLowerCase(Locale.ROOT));
+            }
+            if (!CaseMapping.hasSpecialUpperCaseMapping(codePoint)) {
+                assertThat(Character.toString(Character.toUpperCase(codePoint))).isEqualTo(codePointText.toUpperCase(Locale.ROOT));
+            }
+        }
+    }
+
+    @Test
+    void testCodePointMethods() {
+        int deseretCapitalLongI = 0x10400;
+        int deseretSmallLongI = 0x10428;
+        assertThat(CaseMapping.DEFAULT.isUpperCase(deseretCapitalLongI)).isTrue();
+        assertThat(CaseMapping.DEFAULT.isUpperCase(deseretSmallLongI)).isFalse();
+
+        var result = new StringBuilder();
+        CaseMapping.DEFAULT.appendUpperCase(deseretSmallLongI, result);
+        CaseMapping.DEFAULT.appendLowerCase(deseretCapitalLongI, result);
+        CaseMapping.DEFAULT.appendUpperCase((int) '\u00DF', result);
+        assertThat(result.toString()).isEqualTo(Character.toString(deseretCapitalLongI) + Character.toString(deseretSmallLongI) + "SS");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "foo",
+            "\u00DCBER\u00DF",
+            "\u039F\u0394\u039F\u03A3",
+            "\u03A3\u0391",
+            "ISTANBUL istanbul",
+            "\u0130stanbul",
+            "\uD801\uDC00\uD801\uDC28",
+            "\uD801 \uDC28",
+            "\uFB00x"
+    })
+    void testRangeMethodsMatchStringMethods(String text) {
+        for (Locale locale : new Locale[]{Locale.ROOT, Locale.GERMAN, new Locale("tr"), new Locale("lt")}) {
+            var caseMapping = new CaseMapping(locale, locale);
+            String surroundedText = "x" + text + "x";
+
+            var result = new StringBuilder();
+            caseMapping.appendLowerCase(surroundedText, 1, surroundedText.length() - 1, result);
+            assertThat(result.toString()).isEqualTo(text.toLowerCase(locale));
+
+            result.setLength(0);
+            caseMapping.appendUpperCase(surroundedText, 1, surroundedText.length() - 1, result);
+            assertThat(result.toString()).isEqualTo(text.toUpperCase(locale));
+        }
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+}
@@ -0,0 +1,57 @@
+package dev.turingcomplete.textcaseconverter._internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordRangesSplitterTest {
+    // -- Class Fields ---------------------------------------------------------------------------------------------- //
+    // -- Instance Fields ------------------------------------------------------------------------------------------- //
+    // -- Initialization -------------------------------------------------------------------------------------------- //
+    // -- Exposed Methods ------------------------------------------------------------------------------------------- //
+
+    /**
+     * A word that spans many reads must not be scanned again after each read.
+     */
+    @Test
+    void testSplitReaderWithLongWordIsLinear() throws IOException {
+        String text = "a".repeat(1_000_000) + "_" + "b".repeat(1_000_000);
+        var wordsSplitter = new ScanCountingUnderscoreSplitter();
+
+        List<String> words = new ArrayList<>();
+        WordRangesSplitter.split(new StringReader(text), wordsSplitter, (wordText, start, end) -> words.add(wordText.subSequence(start, end).toString()));
+
+        assertThat(words).containsExactly("a".repeat(1_000_000), "b".repeat(1_000_000));
+        assertThat(wordsSplitter.scannedCharacters).isLessThan(4L * text.length());
+    }
+
+    // -- Private Methods ------------------------------------------------------------------------------------------- //
+    // -- Inner Type ------------------------------------------------------------------------------------------------ //
+
+    private static final class ScanCountingUnderscoreSplitter extends WordRangesSplitter {
+
+        private long scannedCharacters = 0;
+
+        @Override
+        public int split(CharSequence text, int start, int end, boolean startOfText, boolean endOfText, WordConsumer wordConsumer) {
+            int wordStart = start;
+            for (int i = start; i < end; i++) {
+                scannedCharacters++;
+                if (text.charAt(i) == '_') {
+                    wordConsumer.accept(text, wordStart, i);
+                    wordStart = i + 1;
+                }
+            }
+            if (endOfText) {
+                wordConsumer.accept(text, wordStart, end);
+                return end;
+            }
+            return wordStart;
+        }
+    }
+}